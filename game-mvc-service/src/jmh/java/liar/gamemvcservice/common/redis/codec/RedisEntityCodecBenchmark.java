@@ -0,0 +1,119 @@
+package liar.gamemvcservice.common.redis.codec;
+
+import liar.gamemvcservice.game.domain.Game;
+import liar.gamemvcservice.game.domain.GameTurn;
+import liar.gamemvcservice.game.domain.Topic;
+import liar.gamemvcservice.game.domain.Vote;
+import liar.gamemvcservice.game.service.dto.SetUpGameDto;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.core.convert.Bucket;
+import org.springframework.data.redis.core.convert.MappingRedisConverter;
+import org.springframework.data.redis.core.convert.RedisData;
+import org.springframework.data.redis.core.mapping.RedisMappingContext;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @RedisHash 엔티티 1개의 인코딩, 디코딩 비용을 비교한다.
+ * mapping: 기존 MappingRedisConverter (필드 별 hash 매핑, reflection)
+ * compact: CompactCodec (schema version이 있는 binary 값 하나)
+ * 할당량은 gc profiler의 gc.alloc.rate.norm으로 확인하고, 저장 크기(hash 필드 이름 + 값 byte)는 setUp에서 출력한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RedisEntityCodecBenchmark {
+
+    @Param({"game", "gameTurn", "vote"})
+    private String entity;
+
+    @Param({"8"})
+    private int players;
+
+    private MappingRedisConverter mappingRedisConverter;
+    private Object value;
+    private Class<?> type;
+    private CompactCodec<Object> codec;
+    private Map<String, byte[]> mappedHash;
+    private byte[] compact;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        mappingRedisConverter = new MappingRedisConverter(new RedisMappingContext());
+        mappingRedisConverter.afterPropertiesSet();
+
+        List<String> userIds = new ArrayList<>();
+        for (int i = 0; i < players; i++) {
+            userIds.add(UUID.randomUUID().toString());
+        }
+
+        switch (entity) {
+            case "game" -> {
+                value = Game.of(new SetUpGameDto(UUID.randomUUID().toString(), userIds.get(0), "room", userIds))
+                        .updateTopicOfGame(new Topic(314000L, "축구"), userIds.get(1));
+                type = Game.class;
+                codec = (CompactCodec<Object>) (CompactCodec<?>) GameCodec.INSTANCE;
+            }
+            case "gameTurn" -> {
+                value = new GameTurn(UUID.randomUUID().toString(), userIds);
+                type = GameTurn.class;
+                codec = (CompactCodec<Object>) (CompactCodec<?>) GameTurnCodec.INSTANCE;
+            }
+            default -> {
+                Vote vote = new Vote(UUID.randomUUID().toString(), userIds);
+                for (int i = 0; i < players; i++) {
+                    vote.updateVoteResults(userIds.get(i), userIds.get(i % 3));
+                }
+                value = vote;
+                type = Vote.class;
+                codec = (CompactCodec<Object>) (CompactCodec<?>) VoteCodec.INSTANCE;
+            }
+        }
+
+        mappedHash = mappingWrite();
+        compact = compactEncode();
+        System.out.printf("%n[%s, players=%d] mapping=%dB (%d fields), compact=%dB%n",
+                entity, players, size(mappedHash), mappedHash.size(), CompactCodec.RAW_FIELD.length() + compact.length);
+    }
+
+    @Benchmark
+    public Map<String, byte[]> mappingWrite() {
+        RedisData redisData = new RedisData();
+        mappingRedisConverter.write(value, redisData);
+        return redisData.getBucket().rawMap();
+    }
+
+    @Benchmark
+    public Object mappingRead() {
+        return mappingRedisConverter.read(type, new RedisData(Bucket.newBucketFromRawMap(mappedHash)));
+    }
+
+    @Benchmark
+    public byte[] compactEncode() {
+        return codec.encode(value);
+    }
+
+    @Benchmark
+    public Object compactDecode() {
+        return codec.decode(compact);
+    }
+
+    @Benchmark
+    public Object legacyRead() {
+        return codec.decode(mappedHash);
+    }
+
+    private int size(Map<String, byte[]> hash) {
+        int size = 0;
+        for (Map.Entry<String, byte[]> field : hash.entrySet()) {
+            size += field.getKey().getBytes(StandardCharsets.UTF_8).length + field.getValue().length;
+        }
+        return size;
+    }
+}
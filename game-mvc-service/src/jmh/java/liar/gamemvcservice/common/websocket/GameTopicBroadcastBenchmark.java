@@ -0,0 +1,99 @@
+package liar.gamemvcservice.common.websocket;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import liar.gamemvcservice.game.controller.dto.message.ChatMessage;
+import liar.gamemvcservice.game.controller.dto.message.message.ChatMessageResponse;
+import liar.gamemvcservice.game.domain.NextTurn;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게임 topic 메시지 burst 하나를 보내는 비용을 비교한다.
+ * simpMessagingTemplate: 기존 convertAndSend 경로 (메시지마다 MessageConverter로 직렬화)
+ * encodeOnce: GameTopicBroadcaster 경로 (메시지마다 한 번 직렬화 후 byte 그대로 전달)
+ * coalesced: burst를 json 배열 하나로 직렬화하여 한 번 전달
+ * 할당량은 gc profiler의 gc.alloc.rate.norm으로 확인한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GameTopicBroadcastBenchmark {
+
+    private static final String GAME_ID = "game1";
+
+    @Param({"1", "2", "8"})
+    private int burst;
+
+    private SimpMessagingTemplate simpMessagingTemplate;
+    private GameTopicBroadcaster encodeOnceBroadcaster;
+    private GameTopicBroadcaster coalescingBroadcaster;
+    private ChatMessageResponse<NextTurn> payload;
+    private volatile Object sentMessage;
+
+    @Setup
+    public void setUp() {
+        MessageChannel brokerChannel = (message, timeout) -> {
+            sentMessage = message;
+            return true;
+        };
+
+        simpMessagingTemplate = new SimpMessagingTemplate(brokerChannel);
+        MappingJackson2MessageConverter messageConverter = new MappingJackson2MessageConverter();
+        messageConverter.setObjectMapper(Jackson2ObjectMapperBuilder.json().build());
+        simpMessagingTemplate.setMessageConverter(messageConverter);
+
+        encodeOnceBroadcaster = new GameTopicBroadcaster(new InProcessGameTopicRelay(),
+                simpMessagingTemplate, new SimpleMeterRegistry(), 0);
+        coalescingBroadcaster = new GameTopicBroadcaster(new InProcessGameTopicRelay(),
+                simpMessagingTemplate, new SimpleMeterRegistry(), TimeUnit.DAYS.toMillis(1));
+        encodeOnceBroadcaster.subscribe(subscribeEvent());
+        coalescingBroadcaster.subscribe(subscribeEvent());
+
+        payload = ChatMessageResponse.of(new ChatMessage("user1", "사과는 빨간색이다"), new NextTurn("user2", false, 3));
+    }
+
+    @TearDown
+    public void tearDown() {
+        encodeOnceBroadcaster.shutdown();
+        coalescingBroadcaster.shutdown();
+    }
+
+    @Benchmark
+    public void simpMessagingTemplate() {
+        for (int i = 0; i < burst; i++) {
+            simpMessagingTemplate.convertAndSend("/topic/" + GAME_ID, payload);
+        }
+    }
+
+    @Benchmark
+    public void encodeOnce() {
+        for (int i = 0; i < burst; i++) {
+            encodeOnceBroadcaster.broadcast(GAME_ID, payload);
+        }
+    }
+
+    @Benchmark
+    public void coalesced() {
+        for (int i = 0; i < burst; i++) {
+            coalescingBroadcaster.broadcast(GAME_ID, payload);
+        }
+        coalescingBroadcaster.flush();
+    }
+
+    private SessionSubscribeEvent subscribeEvent() {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setSessionId("session1");
+        accessor.setSubscriptionId("sub1");
+        accessor.setDestination("/topic/" + GAME_ID);
+        return new SessionSubscribeEvent(this, MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()));
+    }
+}
@@ -0,0 +1,74 @@
+package liar.gamemvcservice.game.controller.dto.message;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import liar.gamemvcservice.game.controller.dto.message.message.ChatMessageResponse;
+import liar.gamemvcservice.game.domain.GameRole;
+import liar.gamemvcservice.game.domain.NextTurn;
+import liar.gamemvcservice.game.domain.Vote;
+import liar.gamemvcservice.game.service.dto.GameResultBaseDto;
+import liar.gamemvcservice.game.service.dto.GameResultToClientDto;
+import liar.gamemvcservice.game.service.dto.PlayerResultInfoDto;
+import liar.gamemvcservice.game.service.dto.VotedResultDto;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * websocket으로 보내는 ChatMessageResponse의 json 직렬화 비용을 측정한다.
+ * nextTurn: 턴마다 보내는 메세지 (body: NextTurn)
+ * gameResult: 게임이 끝나면 보내는 메세지 (body: GameResultToClientDto, 플레이어 수에 비례)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ChatMessageResponseBenchmark {
+
+    @Param({"3", "5", "8", "10"})
+    private int players;
+
+    private ObjectMapper objectMapper;
+    private ChatMessageResponse<NextTurn> nextTurnResponse;
+    private ChatMessageResponse<GameResultToClientDto> gameResultResponse;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        List<String> userIds = new ArrayList<>();
+        for (int i = 0; i < players; i++) {
+            userIds.add(UUID.randomUUID().toString());
+        }
+        nextTurnResponse = ChatMessageResponse.of(new ChatMessage(userIds.get(0), "사과는 빨간색이다"),
+                new NextTurn(userIds.get(1 % players), false, 1));
+
+        Vote vote = new Vote(UUID.randomUUID().toString(), userIds);
+        for (int i = 0; i < players; i++) {
+            vote.updateVoteResults(userIds.get(i), userIds.get(0));
+        }
+        List<PlayerResultInfoDto> playersInfo = userIds.stream()
+                .map(userId -> new PlayerResultInfoDto(userId, GameRole.CITIZEN, true))
+                .collect(Collectors.toList());
+        List<VotedResultDto> votedResults = vote.getVotedResults().stream()
+                .map(VotedResultDto::new)
+                .collect(Collectors.toList());
+        gameResultResponse = ChatMessageResponse.of(new ChatMessage(userIds.get(0), "게임 결과"),
+                GameResultToClientDto.fromBaseDtoAndVoteResults(
+                        GameResultBaseDto.of(vote.getGameId(), GameRole.CITIZEN, playersInfo), votedResults));
+    }
+
+    @Benchmark
+    public byte[] nextTurn() throws Exception {
+        return objectMapper.writeValueAsBytes(nextTurnResponse);
+    }
+
+    @Benchmark
+    public byte[] gameResult() throws Exception {
+        return objectMapper.writeValueAsBytes(gameResultResponse);
+    }
+}
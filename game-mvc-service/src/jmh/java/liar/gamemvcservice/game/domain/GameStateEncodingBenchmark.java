@@ -0,0 +1,119 @@
+package liar.gamemvcservice.game.domain;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * userId(UUID)로 저장하던 게임 상태와 플레이어 ordinal로 저장하는 게임 상태를 비교한다.
+ * groupingBy: 기존 Vote.getMostVotedResult (득표 수 별 groupingBy)
+ * singlePass: 변경된 Vote.getMostVotedResult (최다 득표 수를 찾은 뒤 한 번 더 순회)
+ * ordinalTally: ballot ordinal을 VoteTally에 반영하고 최다 득표 bitmask를 읽는다.
+ * turnsJson / turnsOrdinals: GameAggregate의 turns 필드 인코딩
+ * 할당량은 gc profiler의 gc.alloc.rate.norm으로 확인하고, 필드 크기(byte)는 setUp에서 출력한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GameStateEncodingBenchmark {
+
+    @Param({"5", "8", "12"})
+    private int players;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private List<String> userIds;
+    private Vote vote;
+    private PlayerOrdinals playerOrdinals;
+    private int[] voters;
+    private int[] candidates;
+    private int[] turns;
+
+    @Setup
+    public void setUp() throws Exception {
+        userIds = new ArrayList<>();
+        for (int i = 0; i < players; i++) {
+            userIds.add(UUID.randomUUID().toString());
+        }
+        playerOrdinals = PlayerOrdinals.of(userIds);
+
+        voters = new int[players];
+        candidates = new int[players];
+        List<VotedResult> votedResults = userIds.stream()
+                .map(userId -> new VotedResult(userId, new ArrayList<>(), 0))
+                .collect(Collectors.toList());
+        for (int voter = 0; voter < players; voter++) {
+            voters[voter] = voter;
+            candidates[voter] = voter % 3;
+            votedResults.get(candidates[voter]).addUserId(userIds.get(voter));
+        }
+        vote = new Vote("game1", "game1", votedResults, LocalDateTime.now(), players);
+
+        List<String> shuffled = new ArrayList<>(userIds);
+        Collections.shuffle(shuffled, new Random(1));
+        turns = new int[players];
+        for (int i = 0; i < players; i++) {
+            turns[i] = playerOrdinals.ordinalOf(shuffled.get(i));
+        }
+
+        System.out.printf("%n[players=%d] turns json=%dB ordinals=%dB, ballots uuid=%dB ordinals=%dB%n",
+                players, turnsJson().getBytes(StandardCharsets.UTF_8).length,
+                turnsOrdinals().getBytes(StandardCharsets.UTF_8).length,
+                players * ("ballot:".length() + 36 + 36),
+                ballotOrdinalBytes());
+    }
+
+    @Benchmark
+    public List<VotedResult> groupingBy() {
+        return vote.getVotedResults().stream()
+                .collect(Collectors.groupingBy(VotedResult::getCnt))
+                .entrySet()
+                .stream()
+                .max(Map.Entry.comparingByKey())
+                .map(Map.Entry::getValue)
+                .orElse(Collections.emptyList());
+    }
+
+    @Benchmark
+    public List<VotedResult> singlePass() {
+        return vote.getMostVotedResult();
+    }
+
+    @Benchmark
+    public long ordinalTally() {
+        VoteTally voteTally = new VoteTally(players);
+        for (int i = 0; i < voters.length; i++) {
+            voteTally.cast(voters[i], candidates[i]);
+        }
+        return voteTally.getMostVotedMask();
+    }
+
+    @Benchmark
+    public String turnsJson() throws Exception {
+        return objectMapper.writeValueAsString(playerOrdinals.toUserIds(turns));
+    }
+
+    @Benchmark
+    public String turnsOrdinals() {
+        StringBuilder sb = new StringBuilder(turns.length * 3);
+        for (int i = 0; i < turns.length; i++) {
+            if (i > 0) sb.append(',');
+            sb.append(turns[i]);
+        }
+        return sb.toString();
+    }
+
+    private int ballotOrdinalBytes() {
+        int bytes = 0;
+        for (int voter = 0; voter < players; voter++) {
+            bytes += ("ballot:" + voter).length() + String.valueOf(candidates[voter]).length();
+        }
+        return bytes;
+    }
+}
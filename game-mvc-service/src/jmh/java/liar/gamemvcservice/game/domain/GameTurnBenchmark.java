@@ -0,0 +1,53 @@
+package liar.gamemvcservice.game.domain;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게임 1개의 턴 진행 비용을 측정한다.
+ * fullRotation: 모든 플레이어가 2회씩 턴을 마칠 때까지 턴 검증(updateTurnCntWhenPlayerTurnIsValidated)과
+ * 다음 턴 계산(setIfExistsNextTurn)을 반복한다.
+ * nextTurn: 진행 중인 턴에서 다음 턴 계산 1회
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GameTurnBenchmark {
+
+    @Param({"3", "5", "8", "10"})
+    private int players;
+
+    private String gameId;
+    private List<String> turns;
+    private GameTurn midGameTurn;
+
+    @Setup
+    public void setUp() {
+        gameId = UUID.randomUUID().toString();
+        turns = new ArrayList<>();
+        for (int i = 0; i < players; i++) {
+            turns.add(UUID.randomUUID().toString());
+        }
+        midGameTurn = new GameTurn(gameId, gameId, turns, players, 0);
+    }
+
+    @Benchmark
+    public void fullRotation(Blackhole blackhole) {
+        GameTurn gameTurn = new GameTurn(gameId, turns);
+        int lastTurn = players * 2;
+        for (int turn = 0; turn < lastTurn; turn++) {
+            gameTurn.updateTurnCntWhenPlayerTurnIsValidated(turns.get(turn % players));
+            blackhole.consume(gameTurn.setIfExistsNextTurn());
+        }
+    }
+
+    @Benchmark
+    public NextTurn nextTurn() {
+        return midGameTurn.setIfExistsNextTurn();
+    }
+}
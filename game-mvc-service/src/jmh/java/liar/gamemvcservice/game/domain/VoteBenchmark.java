@@ -0,0 +1,50 @@
+package liar.gamemvcservice.game.domain;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 투표 반영과 최다 득표 조회 비용을 측정한다.
+ * voteAll: 모든 플레이어가 한 번씩 투표한다. (후보 탐색은 플레이어 수에 비례)
+ * mostVoted: 모든 투표가 끝난 Vote의 최다 득표 결과를 조회한다. (동점 후보가 있는 경우 포함)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class VoteBenchmark {
+
+    @Param({"3", "5", "8", "10"})
+    private int players;
+
+    private String gameId;
+    private List<String> userIds;
+    private Vote votedVote;
+
+    @Setup
+    public void setUp() {
+        gameId = UUID.randomUUID().toString();
+        userIds = new ArrayList<>();
+        for (int i = 0; i < players; i++) {
+            userIds.add(UUID.randomUUID().toString());
+        }
+        votedVote = voteAll();
+    }
+
+    @Benchmark
+    public Vote voteAll() {
+        Vote vote = new Vote(gameId, userIds);
+        for (int i = 0; i < players; i++) {
+            vote.updateVoteResults(userIds.get(i), userIds.get(i % 3 % players));
+        }
+        return vote;
+    }
+
+    @Benchmark
+    public List<VotedResult> mostVoted() {
+        return votedVote.getMostVotedResult();
+    }
+}
@@ -0,0 +1,66 @@
+package liar.gamemvcservice.game.service.result;
+
+import liar.gamemvcservice.game.domain.*;
+import liar.gamemvcservice.game.service.dto.GameResultBaseDto;
+import liar.gamemvcservice.game.service.dto.GameResultToClientDto;
+import liar.gamemvcservice.game.service.dto.SetUpGameDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static liar.gamemvcservice.game.domain.GameRole.CITIZEN;
+import static liar.gamemvcservice.game.domain.GameRole.LIAR;
+
+/**
+ * 투표가 끝난 게임의 결과(GameResultToClientDto)를 조립하는 비용을 측정한다.
+ * GameFacadeServiceImpl.createGameResultToClientDto와 같은 순서로,
+ * 승리 팀 판단, 플레이어 별 결과, 후보 별 득표 결과를 ResultPolicyImpl로 만든다. (redis 조회 제외)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ResultAssemblyBenchmark {
+
+    @Param({"3", "5", "8", "10"})
+    private int players;
+
+    private ResultPolicy resultPolicy;
+    private Game game;
+    private List<Player> playerList;
+    private Vote vote;
+
+    @Setup
+    public void setUp() {
+        resultPolicy = new ResultPolicyImpl(null, null, null);
+
+        List<String> userIds = new ArrayList<>();
+        for (int i = 0; i < players; i++) {
+            userIds.add(UUID.randomUUID().toString());
+        }
+        String liarId = userIds.get(0);
+        game = Game.of(new SetUpGameDto(UUID.randomUUID().toString(), liarId, "room", userIds))
+                .updateTopicOfGame(new Topic(314000L, "축구"), liarId);
+
+        playerList = new ArrayList<>();
+        for (String userId : userIds) {
+            playerList.add(new Player(userId, userId.equals(liarId) ? LIAR : CITIZEN));
+        }
+
+        vote = new Vote(game.getId(), userIds);
+        for (int i = 0; i < players; i++) {
+            vote.updateVoteResults(userIds.get(i), userIds.get(i % 2 % players));
+        }
+    }
+
+    @Benchmark
+    public GameResultToClientDto assemble() {
+        GameResultBaseDto baseDto = GameResultBaseDto.of(
+                game.getId(),
+                resultPolicy.checkWhoWin(playerList, vote.getMostVotedResult()) ? CITIZEN : LIAR,
+                resultPolicy.getPlayersResultInfo(playerList, vote.getVotedResult(game.getLiarId())));
+        return GameResultToClientDto.fromBaseDtoAndVoteResults(baseDto, resultPolicy.getVotedResultDto(vote));
+    }
+}
@@ -0,0 +1,33 @@
+package liar.gamemvcservice.load;
+
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+
+/**
+ * 부하 시뮬레이션용 in-process redis
+ * embedded-redis가 포함한 redis-server 바이너리를 자식 프로세스로 띄우므로, lua script, 보조 인덱스, redisson 락이 운영과 같게 동작한다.
+ * 측정 중 디스크 저장으로 지연이 생기지 않도록 RDB/AOF를 끈다.
+ */
+public class EmbeddedRedisStandIn implements AutoCloseable {
+
+    private final RedisServer redisServer;
+
+    public EmbeddedRedisStandIn(int port) throws IOException {
+        this.redisServer = RedisServer.newRedisServer()
+                .port(port)
+                .setting("save \"\"")
+                .setting("appendonly no")
+                .setting("maxmemory-policy noeviction")
+                .build();
+    }
+
+    public void start() throws IOException {
+        redisServer.start();
+    }
+
+    @Override
+    public void close() throws IOException {
+        redisServer.stop();
+    }
+}
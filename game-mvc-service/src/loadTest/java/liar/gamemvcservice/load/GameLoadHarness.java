@@ -0,0 +1,110 @@
+package liar.gamemvcservice.load;
+
+import liar.gamemvcservice.GameMvcServiceApplication;
+import liar.gamemvcservice.game.service.GameFacadeService;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * game-mvc-service를 같은 프로세스에서 띄우고, 동시에 진행되는 게임을 시뮬레이션하여 단계 별 처리량과 지연을 측정한다.
+ * ./gradlew loadTest -PloadArgs="--games=5000 --players=6 --concurrency=128 --game.vote.mode=atomic"
+ * ./gradlew loadTest -PloadArgs="--games=5000 --redis-shards=3" (redis 노드 3개에 게임을 나누어 저장)
+ * config-server, eureka, rabbitmq, sqs 없이 실행되도록 외부 연동은 끄거나 메모리 구현으로 바꾼다.
+ */
+public class GameLoadHarness {
+
+    public static void main(String[] args) throws Exception {
+        LoadHarnessOptions options = LoadHarnessOptions.parse(args);
+
+        List<EmbeddedRedisStandIn> redisNodes = new ArrayList<>();
+        if (options.isEmbeddedRedis()) {
+            for (int i = 0; i < options.getRedisShards(); i++) {
+                EmbeddedRedisStandIn redis = new EmbeddedRedisStandIn(options.getRedisPort() + i);
+                redis.start();
+                redisNodes.add(redis);
+            }
+        }
+
+        // bootstrap context(config-server 조회)에도 적용되도록 system property로 설정한다. 인자로 준 값이 우선한다.
+        defaultProperties(options).forEach((key, value) -> System.getProperties().putIfAbsent(key, value));
+        ConfigurableApplicationContext context = SpringApplication.run(GameMvcServiceApplication.class,
+                options.getApplicationArgs().toArray(new String[0]));
+
+        try {
+            GameFacadeService gameFacadeService = context.getBean(GameFacadeService.class);
+            System.out.println(run(gameFacadeService, options));
+        } finally {
+            context.close();
+            for (EmbeddedRedisStandIn redis : redisNodes) {
+                redis.close();
+            }
+        }
+    }
+
+    private static String run(GameFacadeService gameFacadeService, LoadHarnessOptions options) throws Exception {
+        LoadReport report = new LoadReport(options.getGames(), options.getPlayers());
+        ExecutorService gameExecutor = Executors.newFixedThreadPool(options.getConcurrency());
+        ExecutorService voteExecutor = Executors.newFixedThreadPool(options.getConcurrency());
+        GameSimulation simulation = new GameSimulation(gameFacadeService, voteExecutor, report,
+                options.getPlayers(), options.getThinkMillis());
+
+        try {
+            AtomicInteger completedGames = new AtomicInteger();
+            long start = System.nanoTime();
+            List<Future<?>> futures = new ArrayList<>(options.getGames());
+            for (int i = 0; i < options.getGames(); i++) {
+                futures.add(gameExecutor.submit(() -> {
+                    if (simulation.run()) completedGames.incrementAndGet();
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+            return report.print(options, completedGames.get(), elapsedSeconds, options.getReport());
+        } finally {
+            gameExecutor.shutdownNow();
+            voteExecutor.shutdownNow();
+        }
+    }
+
+    private static Map<String, String> defaultProperties(LoadHarnessOptions options) {
+        Map<String, String> properties = new HashMap<>();
+        properties.put("server.port", "0");
+        properties.put("spring.cloud.config.enabled", "false");
+        properties.put("spring.cloud.bus.enabled", "false");
+        properties.put("eureka.client.enabled", "false");
+        properties.put("spring.rabbitmq.listener.simple.auto-startup", "false");
+        properties.put("management.health.rabbit.enabled", "false");
+        properties.put("spring.data.redis.host", "localhost");
+        properties.put("spring.data.redis.port", String.valueOf(options.getRedisPort()));
+        properties.put("game.redis.redisson-address", "redis://localhost:" + options.getRedisPort());
+        if (options.getRedisShards() > 1) {
+            List<String> nodes = new ArrayList<>();
+            for (int i = 0; i < options.getRedisShards(); i++) {
+                nodes.add("localhost:" + (options.getRedisPort() + i));
+            }
+            properties.put("game.redis.shards", String.join(",", nodes));
+        }
+        properties.put("aws.region", "ap-northeast-2");
+        properties.put("aws.sqs.queueName", "load-harness");
+        properties.put("aws.sqs.queueUrl", "http://localhost/load-harness");
+        properties.put("game.turn.queue", "load-harness");
+        properties.put("game.result.transport", "memory");
+        properties.put("game.sqs.consumer.enabled", "false");
+        properties.put("jwt.secret", "bG9hZC1oYXJuZXNzLXNlY3JldC1rZXktbG9hZC1oYXJuZXNzLXNlY3JldC1rZXk=");
+        properties.put("jwt.access-expiration-time", "3600000");
+        properties.put("jwt.refresh-expiration-time", "3600000");
+        properties.put("jwt.reissue-refresh-time", "3600000");
+        return properties;
+    }
+}
@@ -0,0 +1,100 @@
+package liar.gamemvcservice.load;
+
+import liar.gamemvcservice.game.controller.dto.request.VoteLiarRequest;
+import liar.gamemvcservice.game.domain.NextTurn;
+import liar.gamemvcservice.game.service.GameFacadeService;
+import liar.gamemvcservice.game.service.dto.SetUpGameDto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 게임 1개를 처음부터 끝까지 GameFacadeService로 진행한다.
+ * save -> setUpTurn -> 플레이어 수 x 2 번의 setNextTurnWhenValidated -> 모든 플레이어의 voteLiarUser -> sendGameResultToClient
+ * 투표는 실제 클라이언트처럼 모든 플레이어가 동시에 요청하므로, 같은 게임의 투표끼리 락 경합이 생긴다.
+ */
+public class GameSimulation {
+
+    private final GameFacadeService gameFacadeService;
+    private final ExecutorService voteExecutor;
+    private final LoadReport report;
+    private final int players;
+    private final long thinkMillis;
+
+    public GameSimulation(GameFacadeService gameFacadeService, ExecutorService voteExecutor, LoadReport report,
+                          int players, long thinkMillis) {
+        this.gameFacadeService = gameFacadeService;
+        this.voteExecutor = voteExecutor;
+        this.report = report;
+        this.players = players;
+        this.thinkMillis = thinkMillis;
+    }
+
+    /**
+     * 게임을 끝까지 진행하면 true, 중간 단계가 실패하면 false
+     */
+    public boolean run() {
+        List<String> userIds = new ArrayList<>();
+        for (int i = 0; i < players; i++) {
+            userIds.add(UUID.randomUUID().toString());
+        }
+
+        String gameId = measure(report.getSave(), () -> gameFacadeService.save(
+                new SetUpGameDto(UUID.randomUUID().toString(), userIds.get(0), "load", userIds)));
+        if (gameId == null) return false;
+
+        List<String> turns = measure(report.getSetUpTurn(), () -> new ArrayList<>(gameFacadeService.setUpTurn(gameId)));
+        if (turns == null) return false;
+
+        String nowUserId = turns.get(0);
+        for (int turn = 0; turn < turns.size() * 2; turn++) {
+            think();
+            String userId = nowUserId;
+            NextTurn nextTurn = measure(report.getNextTurn(), () -> gameFacadeService.setNextTurnWhenValidated(gameId, userId));
+            if (nextTurn == null) return false;
+            nowUserId = nextTurn.getUserIdOfNextTurn();
+            if (nowUserId == null) break;
+        }
+
+        think();
+        List<CompletableFuture<Boolean>> votes = new ArrayList<>();
+        for (String userId : userIds) {
+            String liarId = userIds.get(ThreadLocalRandom.current().nextInt(userIds.size()));
+            votes.add(CompletableFuture.supplyAsync(() -> measure(report.getVote(),
+                    () -> gameFacadeService.voteLiarUser(new VoteLiarRequest(gameId, userId, liarId))), voteExecutor));
+        }
+        CompletableFuture.allOf(votes.toArray(new CompletableFuture[0])).join();
+
+        return measure(report.getResult(), () -> gameFacadeService.sendGameResultToClient(gameId)) != null;
+    }
+
+    private <T> T measure(PhaseRecorder recorder, Request<T> request) {
+        long start = System.nanoTime();
+        try {
+            T result = request.call();
+            recorder.record(System.nanoTime() - start);
+            return result;
+        } catch (Exception e) {
+            recorder.fail(e);
+            return null;
+        }
+    }
+
+    private void think() {
+        if (thinkMillis <= 0) return;
+        try {
+            Thread.sleep(thinkMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @FunctionalInterface
+    interface Request<T> {
+        T call() throws Exception;
+    }
+}
@@ -0,0 +1,86 @@
+package liar.gamemvcservice.load;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 부하 시뮬레이션 옵션
+ * --games, --players, --concurrency, --think-millis, --redis=embedded|external, --redis-port, --redis-shards, --report
+ * --redis-shards=N 이라면 redis-port 부터 N 개의 포트를 redis 노드로 사용한다.
+ * 그 외 "--key=value" 인자는 애플리케이션 설정으로 전달한다. (예: --game.vote.mode=atomic, --game.storage.mode=aggregate)
+ */
+public class LoadHarnessOptions {
+
+    private int games = 1000;
+    private int players = 5;
+    private int concurrency = 64;
+    private long thinkMillis = 0;
+    private boolean embeddedRedis = true;
+    private int redisPort = 6381;
+    private int redisShards = 1;
+    private String report;
+    private final List<String> applicationArgs = new ArrayList<>();
+
+    public static LoadHarnessOptions parse(String[] args) {
+        LoadHarnessOptions options = new LoadHarnessOptions();
+        for (String arg : args) {
+            int idx = arg.indexOf('=');
+            String key = idx < 0 ? arg : arg.substring(0, idx);
+            String value = idx < 0 ? "" : arg.substring(idx + 1);
+            switch (key) {
+                case "--games" -> options.games = Integer.parseInt(value);
+                case "--players" -> options.players = Integer.parseInt(value);
+                case "--concurrency" -> options.concurrency = Integer.parseInt(value);
+                case "--think-millis" -> options.thinkMillis = Long.parseLong(value);
+                case "--redis" -> options.embeddedRedis = !"external".equals(value);
+                case "--redis-port" -> options.redisPort = Integer.parseInt(value);
+                case "--redis-shards" -> options.redisShards = Integer.parseInt(value);
+                case "--report" -> options.report = value;
+                default -> options.applicationArgs.add(arg);
+            }
+        }
+        if (options.games <= 0 || options.concurrency <= 0 || options.redisShards <= 0) {
+            throw new IllegalArgumentException("games, concurrency and redis-shards must be positive");
+        }
+        if (options.players < 3 || options.players > 10) {
+            throw new IllegalArgumentException("players must be between 3 and 10");
+        }
+        return options;
+    }
+
+    public int getGames() {
+        return games;
+    }
+
+    public int getPlayers() {
+        return players;
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public long getThinkMillis() {
+        return thinkMillis;
+    }
+
+    public boolean isEmbeddedRedis() {
+        return embeddedRedis;
+    }
+
+    public int getRedisPort() {
+        return redisPort;
+    }
+
+    public int getRedisShards() {
+        return redisShards;
+    }
+
+    public String getReport() {
+        return report;
+    }
+
+    public List<String> getApplicationArgs() {
+        return applicationArgs;
+    }
+}
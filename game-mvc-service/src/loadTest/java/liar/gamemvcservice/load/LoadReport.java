@@ -0,0 +1,81 @@
+package liar.gamemvcservice.load;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * 단계 별 기록과 전체 처리량을 출력한다.
+ */
+public class LoadReport {
+
+    private final PhaseRecorder save;
+    private final PhaseRecorder setUpTurn;
+    private final PhaseRecorder nextTurn;
+    private final PhaseRecorder vote;
+    private final PhaseRecorder result;
+
+    public LoadReport(int games, int players) {
+        this.save = new PhaseRecorder("save", games);
+        this.setUpTurn = new PhaseRecorder("setUpTurn", games);
+        this.nextTurn = new PhaseRecorder("nextTurn", games * players * 2);
+        this.vote = new PhaseRecorder("vote", games * players);
+        this.result = new PhaseRecorder("result", games);
+    }
+
+    public PhaseRecorder getSave() {
+        return save;
+    }
+
+    public PhaseRecorder getSetUpTurn() {
+        return setUpTurn;
+    }
+
+    public PhaseRecorder getNextTurn() {
+        return nextTurn;
+    }
+
+    public PhaseRecorder getVote() {
+        return vote;
+    }
+
+    public PhaseRecorder getResult() {
+        return result;
+    }
+
+    public String print(LoadHarnessOptions options, int completedGames, double elapsedSeconds, String reportPath)
+            throws IOException {
+        List<PhaseRecorder.Summary> summaries = List.of(save, setUpTurn, nextTurn, vote, result)
+                .stream()
+                .map(recorder -> recorder.summarize(elapsedSeconds))
+                .collect(Collectors.toList());
+
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format(Locale.ROOT, "games=%d players=%d concurrency=%d think=%dms completed=%d " +
+                        "elapsed=%.2fs games/s=%.1f%n",
+                options.getGames(), options.getPlayers(), options.getConcurrency(), options.getThinkMillis(),
+                completedGames, elapsedSeconds, completedGames / elapsedSeconds));
+        sb.append(String.format("%-14s %9s %8s %8s %9s %11s %9s %9s %9s%n",
+                "phase", "ok", "fail", "lockFail", "lockRate", "ops/s", "p50(ms)", "p99(ms)", "p999(ms)"));
+        summaries.forEach(summary -> sb.append(summary.toLine()).append(System.lineSeparator()));
+        List.of(save, setUpTurn, nextTurn, vote, result).forEach(recorder -> recorder.getFailures()
+                .forEach((name, cnt) -> sb.append(String.format("  %s %s: %d%n", recorder.getName(), name, cnt.sum()))));
+
+        if (reportPath != null) {
+            String json = String.format(Locale.ROOT,
+                    "{\"games\":%d,\"players\":%d,\"concurrency\":%d,\"thinkMillis\":%d,\"applicationArgs\":[%s]," +
+                            "\"completedGames\":%d,\"elapsedSeconds\":%.3f,\"phases\":[%s]}%n",
+                    options.getGames(), options.getPlayers(), options.getConcurrency(), options.getThinkMillis(),
+                    options.getApplicationArgs().stream().map(arg -> "\"" + arg.replace("\"", "\\\"") + "\"")
+                            .collect(Collectors.joining(",")),
+                    completedGames, elapsedSeconds,
+                    summaries.stream().map(PhaseRecorder.Summary::toJson).collect(Collectors.joining(",")));
+            Files.writeString(Path.of(reportPath), json, StandardCharsets.UTF_8);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,92 @@
+package liar.gamemvcservice.load;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 단계(phase) 별 요청 지연(ns)과 실패를 기록한다.
+ * 예상 요청 수만큼 배열을 미리 할당하여, 측정 중에는 index 증가와 배열 쓰기만 한다.
+ */
+public class PhaseRecorder {
+
+    private final String name;
+    private final long[] latencies;
+    private final AtomicInteger cnt = new AtomicInteger();
+    private final LongAdder dropped = new LongAdder();
+    private final Map<String, LongAdder> failures = new ConcurrentHashMap<>();
+
+    public PhaseRecorder(String name, int expectedCnt) {
+        this.name = name;
+        this.latencies = new long[expectedCnt];
+    }
+
+    public void record(long latencyNanos) {
+        int idx = cnt.getAndIncrement();
+        if (idx < latencies.length) latencies[idx] = latencyNanos;
+        else dropped.increment();
+    }
+
+    public void fail(Throwable e) {
+        failures.computeIfAbsent(e.getClass().getSimpleName(), key -> new LongAdder()).increment();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getCnt() {
+        return Math.min(cnt.get(), latencies.length);
+    }
+
+    public long getFailureCnt() {
+        return failures.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    public long getFailureCnt(String exceptionName) {
+        LongAdder adder = failures.get(exceptionName);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    public Map<String, LongAdder> getFailures() {
+        return failures;
+    }
+
+    /**
+     * 측정이 끝난 뒤 호출한다.
+     */
+    public Summary summarize(double elapsedSeconds) {
+        long[] sorted = Arrays.copyOf(latencies, getCnt());
+        Arrays.sort(sorted);
+        long attempts = sorted.length + getFailureCnt();
+        return new Summary(name, sorted.length, getFailureCnt(), getFailureCnt("RedisLockException"),
+                attempts == 0 ? 0 : (double) getFailureCnt("RedisLockException") / attempts,
+                sorted.length / elapsedSeconds,
+                percentile(sorted, 0.50), percentile(sorted, 0.99), percentile(sorted, 0.999));
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) return 0;
+        int idx = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(idx, sorted.length - 1))] / 1_000_000.0;
+    }
+
+    public record Summary(String phase, int cnt, long failures, long lockFailures, double lockFailureRate,
+                          double throughput, double p50Millis, double p99Millis, double p999Millis) {
+
+        public String toLine() {
+            return String.format(Locale.ROOT, "%-14s %9d %8d %8d %9.4f %11.1f %9.3f %9.3f %9.3f",
+                    phase, cnt, failures, lockFailures, lockFailureRate, throughput, p50Millis, p99Millis, p999Millis);
+        }
+
+        public String toJson() {
+            return String.format(Locale.ROOT,
+                    "{\"phase\":\"%s\",\"cnt\":%d,\"failures\":%d,\"redisLockFailures\":%d,\"redisLockFailureRate\":%.6f," +
+                            "\"throughputPerSecond\":%.3f,\"p50Millis\":%.3f,\"p99Millis\":%.3f,\"p999Millis\":%.3f}",
+                    phase, cnt, failures, lockFailures, lockFailureRate, throughput, p50Millis, p99Millis, p999Millis);
+        }
+    }
+}
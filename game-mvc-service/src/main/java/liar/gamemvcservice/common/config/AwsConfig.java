@@ -3,6 +3,7 @@ package liar.gamemvcservice.common.config;
 import com.amazonaws.services.sqs.AmazonSQS;
 import com.amazonaws.services.sqs.AmazonSQSClientBuilder;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
@@ -11,6 +12,7 @@ public class AwsConfig {
     @Value("${aws.region}")
     private String region;
 
+    @Bean
     public AmazonSQS amazonSQS() {
         return AmazonSQSClientBuilder.standard()
                 .withRegion(region)
@@ -40,7 +40,7 @@ public class InterceptorConfig implements WebMvcConfigurer {
 
     private String[] buildPathPatterns(String[] subPaths) {
         return Arrays.stream(subPaths)
-                .map(subPath -> BASE_PATH + subPaths)
+                .map(subPath -> BASE_PATH + subPath)
                 .toArray(String[]::new);
     }
 
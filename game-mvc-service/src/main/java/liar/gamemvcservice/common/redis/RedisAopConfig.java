@@ -1,6 +1,6 @@
 package liar.gamemvcservice.common.redis;
 
-import org.redisson.api.RedissonClient;
+import liar.gamemvcservice.common.redis.shard.RedisShards;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.EnableAspectJAutoProxy;
@@ -10,8 +10,8 @@ import org.springframework.context.annotation.EnableAspectJAutoProxy;
 public class RedisAopConfig {
 
     @Bean
-    public RedisLockAspect redisLockAspect(RedissonClient redissonClient) {
-        return new RedisLockAspect(redissonClient);
+    public RedisLockAspect redisLockAspect(RedisShards redisShards, RedisLockMetrics redisLockMetrics) {
+        return new RedisLockAspect(redisShards, redisLockMetrics);
     }
 
 }
@@ -2,19 +2,28 @@ package liar.gamemvcservice.common.redis;
 
 import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.PersistenceUnit;
+import liar.gamemvcservice.common.redis.codec.GameCodec;
+import liar.gamemvcservice.common.redis.codec.GameTurnCodec;
+import liar.gamemvcservice.common.redis.codec.VoteCodec;
+import liar.gamemvcservice.common.redis.shard.RedisShardRing;
+import liar.gamemvcservice.common.redis.shard.RedisShards;
+import liar.gamemvcservice.common.redis.shard.ShardRoutingConnectionFactory;
 import org.redisson.Redisson;
 import org.redisson.api.RedissonClient;
 import org.redisson.config.Config;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.HashOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.convert.RedisCustomConversions;
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
@@ -24,6 +33,11 @@ import org.springframework.transaction.PlatformTransactionManager;
 
 import java.sql.SQLException;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import static org.springframework.data.redis.cache.RedisCacheConfiguration.defaultCacheConfig;
 import static org.springframework.data.redis.cache.RedisCacheManager.RedisCacheManagerBuilder.fromConnectionFactory;
@@ -34,6 +48,8 @@ import static org.springframework.data.redis.serializer.RedisSerializationContex
 @EnableRedisRepositories
 public class RedisConfig {
 
+    private static final String DEFAULT_NODE = "default";
+
     @PersistenceUnit
     EntityManagerFactory managerFactory;
 
@@ -43,9 +59,49 @@ public class RedisConfig {
     @Value("${spring.data.redis.port}")
     private int port;
 
+    /**
+     * 게임 상태를 나누어 저장할 redis 노드 목록(host:port,host:port,...), 비어있다면 단일 노드
+     */
+    @Value("${game.redis.shards:}")
+    private String shards;
+
+    @Value("${game.redis.shard.virtual-nodes:160}")
+    private int virtualNodes;
+
+    @Value("${game.redis.redisson-address:redis://localhost:6381}")
+    private String redissonAddress;
+
+    @Value("${jwt.cache.invalidation-address:redis://localhost:6379}")
+    private String authRedisAddress;
+
+    /**
+     * game.redis.shards가 있다면 현재 스레드의 게임이 배정된 노드로 connection을 만든다.
+     */
     @Bean
     public RedisConnectionFactory redisConnectionFactory() {
-        return new LettuceConnectionFactory(host, port);
+        List<String> nodes = getShardNodes();
+        if (nodes.isEmpty()) return new LettuceConnectionFactory(host, port);
+
+        Map<String, LettuceConnectionFactory> connectionFactories = new LinkedHashMap<>();
+        for (String node : nodes) {
+            int idx = node.lastIndexOf(':');
+            connectionFactories.put(node,
+                    new LettuceConnectionFactory(node.substring(0, idx), Integer.parseInt(node.substring(idx + 1))));
+        }
+        return new ShardRoutingConnectionFactory(connectionFactories, nodes.get(0));
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public RedisShards redisShards() {
+        List<String> nodes = getShardNodes();
+        Map<String, RedissonClient> redissonClients = new LinkedHashMap<>();
+        if (nodes.isEmpty()) {
+            nodes = List.of(DEFAULT_NODE);
+            redissonClients.put(DEFAULT_NODE, createRedissonClient(redissonAddress));
+        } else {
+            nodes.forEach(node -> redissonClients.put(node, createRedissonClient("redis://" + node)));
+        }
+        return new RedisShards(new RedisShardRing(nodes, virtualNodes), redissonClients);
     }
 
 //    @Bean
@@ -74,6 +130,20 @@ public class RedisConfig {
         return redisTemplate;
     }
 
+    /**
+     * game.redis.codec=compact 라면 Game, GameTurn, Vote를 MappingRedisConverter의 필드 매핑 대신
+     * schema version이 있는 binary 값 하나(_raw)로 저장한다. 기존 형식의 key도 그대로 읽는다.
+     * @EnableRedisRepositories가 기본 conversions를 등록하기 전에 등록되도록 이 설정 클래스에 둔다.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "game.redis.codec", havingValue = "compact")
+    public RedisCustomConversions redisCustomConversions() {
+        return new RedisCustomConversions(Arrays.asList(
+                new GameCodec.Writer(), new GameCodec.Reader(),
+                new GameTurnCodec.Writer(), new GameTurnCodec.Reader(),
+                new VoteCodec.Writer(), new VoteCodec.Reader()));
+    }
+
     @Bean
     public HashOperations hashOperations(RedisTemplate redisTemplate) {
         return redisTemplate.opsForHash();
@@ -97,11 +167,35 @@ public class RedisConfig {
     }
 
 
-    @Bean
+    /**
+     * 게임과 관계없는 topic, bucket을 위한 home 노드의 client, 종료는 redisShards가 처리한다.
+     */
+    @Primary
+    @Bean(destroyMethod = "")
     public RedissonClient redissonClient() {
+        return redisShards().getHomeRedissonClient();
+    }
+
+    /**
+     * member-service가 로그아웃된 access token을 발행하는 인증 redis의 client
+     */
+    @Bean(destroyMethod = "shutdown")
+    public RedissonClient authRedissonClient() {
+        return createRedissonClient(authRedisAddress);
+    }
+
+    private RedissonClient createRedissonClient(String address) {
         Config config = new Config();
-        config.useSingleServer().setAddress("redis://localhost:6381");
+        config.useSingleServer().setAddress(address);
         return Redisson.create(config);
     }
 
+    private List<String> getShardNodes() {
+        List<String> nodes = new ArrayList<>();
+        for (String node : shards.split(",")) {
+            if (!node.isBlank()) nodes.add(node.trim());
+        }
+        return nodes;
+    }
+
 }
@@ -1,5 +1,6 @@
 package liar.gamemvcservice.common.redis;
 
+import liar.gamemvcservice.common.redis.shard.RedisShards;
 import liar.gamemvcservice.exception.exception.RedisLockException;
 import liar.gamemvcservice.game.domain.Game;
 import liar.gamemvcservice.game.domain.GameTurn;
@@ -14,7 +15,6 @@ import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
 import org.redisson.api.RLock;
-import org.redisson.api.RedissonClient;
 import org.springframework.stereotype.Component;
 
 import java.lang.reflect.Method;
@@ -26,26 +26,28 @@ import java.util.concurrent.TimeUnit;
 @Component
 public class RedisLockAspect {
 
-    private final RedissonClient redissonClient;
+    private final RedisShards redisShards;
+    private final RedisLockMetrics redisLockMetrics;
 
-    @Around(
-            "execution(* liar.gamemvcservice.game.repository.redis..*.save(..)) || " +
-            "execution(* liar.gamemvcservice.game.repository.redis..*.delete(..)) || " +
-            "execution(* liar.gamemvcservice.game.repository.redis..*.findVoteByGameId(..)) || " +
-            "execution(* liar.gamemvcservice.game.repository.redis..*.findByGameId(..)) || " +
-            "execution(* liar.gamemvcservice.game.repository.redis..*.findById(..)) || " +
-            "execution(* liar.gamemvcservice.game.service.vote..*.saveVote(..))"
-    )
+    /**
+     * 락은 lockKey의 hash tag({gameId})가 배정된 redis 노드에 만들어지며, tag가 없다면 현재 게임의 노드에 만들어진다.
+     * 조회와 단일 저장은 락 없이 수행하고, 엔티티 수정은 RedisOptimisticLockTemplate의 version 비교로 처리한다.
+     * 조회 후 저장하는 여러 단계의 작업만 락으로 보호한다.
+     * lockKey는 메서드 이름을 접두사로 하여(saveVote:{gameId}) 다른 락과 겹치지 않고, 같은 이름이 metrics family가 된다.
+     */
+    @Around("execution(* liar.gamemvcservice.game.service.vote..*.saveVote(..))")
     public Object executeWithRock(ProceedingJoinPoint joinPoint) throws Throwable {
         MethodSignature signature = (MethodSignature) joinPoint.getSignature();
         Method method = signature.getMethod();
         Class<?> returnType = method.getReturnType();
 
-        String lockKey = getLockKey(joinPoint.getArgs());
-        RLock lock = redissonClient.getLock(lockKey);
+        String lockKey = method.getName() + ":{" + getLockKey(joinPoint.getArgs()) + "}";
+        RLock lock = redisShards.getRedissonClient(lockKey).getLock(lockKey);
+        RedisLockMetrics.LockSample lockSample = redisLockMetrics.start(lockKey);
 
         try{
             boolean isLocked = lock.tryLock(2, 3, TimeUnit.SECONDS);
+            lockSample.acquired(isLocked);
             if (!isLocked) {
                 throw new RedisLockException();
             }
@@ -56,33 +58,36 @@ public class RedisLockAspect {
             if (lock.isHeldByCurrentThread()) {
                 lock.unlock();
             }
+            lockSample.finish();
         }
     }
 
-    @Around("execution(* liar.gamemvcservice.game.service.vote.VotePolicy.voteLiarUser(..)) && args(gameId, userId, liarId)")
+    @Around("execution(* liar.gamemvcservice.game.service.vote.VotePolicyImpl.voteLiarUser(..)) && args(gameId, userId, liarId)")
     public boolean voteLiarUserWithRedisLock(ProceedingJoinPoint joinPoint, String gameId, String userId, String liarId) throws Throwable {
-        String lockKey = "VoteLiarUser: " + gameId;
+        String lockKey = "VoteLiarUser:{" + gameId + "}";
         return (boolean) executeWithRedisLock(joinPoint, lockKey);
     }
 
     @Around("execution(* liar.gamemvcservice.game.service.GameFacadeService.sendGameResultToServer(..)) && args(gameId)")
     public GameResultToServerDto messageGameResultWithRedisLock(ProceedingJoinPoint joinPoint, String gameId) throws Throwable {
-        String lockKey = "messageGameResult: " + gameId;
+        String lockKey = "messageGameResult:{" + gameId + "}";
         return (GameResultToServerDto) executeWithRedisLock(joinPoint, lockKey);
     }
 
 
     @Around("execution(* liar.gamemvcservice.game.service.turn.PlayerTurnPolicy.setUpTurn(..)) && args(game)")
     public GameTurn setUpTurn(ProceedingJoinPoint joinPoint, Game game) throws Throwable {
-        String lockKey = "setUpTurn: " + game.getId();
+        String lockKey = "setUpTurn:{" + game.getId() + "}";
         return (GameTurn) executeWithRedisLock(joinPoint, lockKey);
     }
 
     public Object executeWithRedisLock(ProceedingJoinPoint joinPoint, String lockKey) throws Throwable {
-        RLock lock = redissonClient.getLock(lockKey);
+        RLock lock = redisShards.getRedissonClient(lockKey).getLock(lockKey);
+        RedisLockMetrics.LockSample lockSample = redisLockMetrics.start(lockKey);
 
         try {
             boolean isLocked = lock.tryLock(2, 3, TimeUnit.SECONDS);
+            lockSample.acquired(isLocked);
             if (!isLocked) {
                 throw new RedisLockException();
             }
@@ -92,12 +97,13 @@ public class RedisLockAspect {
             if (lock.isHeldByCurrentThread()) {
                 lock.unlock();
             }
+            lockSample.finish();
         }
     }
 
 
     private void voidJoinPointRedissonRLock(ProceedingJoinPoint joinPoint, String lockKey) throws Throwable {
-        RLock lock = redissonClient.getLock(lockKey);
+        RLock lock = redisShards.getRedissonClient(lockKey).getLock(lockKey);
 
         try {
             boolean isLocked = lock.tryLock(2, 3, TimeUnit.SECONDS);
@@ -0,0 +1,27 @@
+package liar.gamemvcservice.common.redis;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * /actuator/redislocks : 누적 대기 시간이 긴 lockKey를 조회한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "redislocks")
+public class RedisLockEndpoint {
+
+    private static final int DEFAULT_LIMIT = 20;
+
+    private final RedisLockMetrics redisLockMetrics;
+
+    @ReadOperation
+    public List<RedisLockMetrics.KeyStatDto> topContendedKeys(@Nullable Integer limit) {
+        return redisLockMetrics.getTopContendedKeys(limit == null ? DEFAULT_LIMIT : limit);
+    }
+}
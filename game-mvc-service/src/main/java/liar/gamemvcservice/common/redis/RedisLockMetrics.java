@@ -0,0 +1,193 @@
+package liar.gamemvcservice.common.redis;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * redisson 락의 대기 시간, 보유 시간, 타임아웃 횟수, 대기 스레드 수를 lockKey 접두사(family) 별로 기록한다.
+ * lockKey 별 누적 대기 시간은 caffeine cache에 maxKeys 개까지 보관하여 경합이 심한 key를 조회할 수 있다.
+ * 이 클래스는 game-mvc, wait, result 서비스에 같은 내용으로 복사되어 있으므로 함께 수정한다.
+ */
+@Component
+public class RedisLockMetrics {
+
+    private static final String DEFAULT_FAMILY = "default";
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Timer> acquiredTimers = new ConcurrentHashMap<>();
+    private final Map<String, Timer> timeoutTimers = new ConcurrentHashMap<>();
+    private final Map<String, Timer> holdTimers = new ConcurrentHashMap<>();
+    private final Map<String, Counter> timeoutCounters = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> waiters = new ConcurrentHashMap<>();
+    private final Cache<String, KeyStat> keyStats;
+
+    public RedisLockMetrics(MeterRegistry meterRegistry,
+                            @Value("${redis.lock.metrics.max-keys:1000}") int maxKeys) {
+        this.meterRegistry = meterRegistry;
+        this.keyStats = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .executor(Runnable::run)
+                .build();
+    }
+
+    /**
+     * lockKey의 ':' 앞부분을 family로 사용하여 락 획득 대기를 시작한다.
+     */
+    public LockSample start(String lockKey) {
+        int idx = lockKey.indexOf(':');
+        return start(idx > 0 ? lockKey.substring(0, idx) : DEFAULT_FAMILY, lockKey);
+    }
+
+    public LockSample start(String family, String lockKey) {
+        getWaiters(family).incrementAndGet();
+        return new LockSample(family, lockKey, System.nanoTime());
+    }
+
+    /**
+     * 대기 시간이 긴 순서로 lockKey 통계를 반환한다.
+     */
+    public List<KeyStatDto> getTopContendedKeys(int limit) {
+        keyStats.cleanUp();
+        return keyStats.asMap().entrySet()
+                .stream()
+                .map(entry -> entry.getValue().toDto(entry.getKey()))
+                .sorted(Comparator.comparingLong(KeyStatDto::getTotalWaitMillis).reversed())
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    private void recordAcquire(LockSample sample, boolean isLocked, long waitNanos) {
+        getWaiters(sample.family).decrementAndGet();
+        if (isLocked) {
+            acquiredTimers.computeIfAbsent(sample.family, family -> acquireTimer(family, "acquired"))
+                    .record(waitNanos, TimeUnit.NANOSECONDS);
+        } else {
+            timeoutTimers.computeIfAbsent(sample.family, family -> acquireTimer(family, "timeout"))
+                    .record(waitNanos, TimeUnit.NANOSECONDS);
+            timeoutCounters.computeIfAbsent(sample.family, family -> Counter.builder("redis.lock.timeout")
+                    .tag("family", family)
+                    .register(meterRegistry))
+                    .increment();
+        }
+        getKeyStat(sample.lockKey).record(waitNanos, !isLocked);
+    }
+
+    private void recordHold(LockSample sample, long holdNanos) {
+        holdTimers.computeIfAbsent(sample.family, family -> Timer.builder("redis.lock.hold")
+                        .tag("family", family)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry))
+                .record(holdNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer acquireTimer(String family, String result) {
+        return Timer.builder("redis.lock.acquire")
+                .tag("family", family)
+                .tag("result", result)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private AtomicInteger getWaiters(String family) {
+        return waiters.computeIfAbsent(family, key -> {
+            AtomicInteger cnt = new AtomicInteger();
+            Gauge.builder("redis.lock.waiters", cnt, AtomicInteger::get)
+                    .tag("family", key)
+                    .register(meterRegistry);
+            return cnt;
+        });
+    }
+
+    /**
+     * 보관 개수를 넘으면 caffeine이 사용 빈도가 낮은 key부터 제거한다.
+     */
+    private KeyStat getKeyStat(String lockKey) {
+        return keyStats.get(lockKey, key -> new KeyStat());
+    }
+
+    /**
+     * 락 1회의 대기, 보유 구간을 측정한다.
+     */
+    public class LockSample {
+        private final String family;
+        private final String lockKey;
+        private final long startedAt;
+        private long acquiredAt;
+        private boolean recorded;
+        private boolean locked;
+
+        private LockSample(String family, String lockKey, long startedAt) {
+            this.family = family;
+            this.lockKey = lockKey;
+            this.startedAt = startedAt;
+        }
+
+        public void acquired(boolean isLocked) {
+            if (recorded) return;
+            recorded = true;
+            locked = isLocked;
+            acquiredAt = System.nanoTime();
+            recordAcquire(this, isLocked, acquiredAt - startedAt);
+        }
+
+        /**
+         * 락 작업의 finally에서 호출한다.
+         * tryLock이 예외로 끝나 획득 결과가 기록되지 않았다면 대기 스레드 수만 되돌리고, 락을 얻었다면 보유 시간을 기록한다.
+         */
+        public void finish() {
+            if (!recorded) {
+                recorded = true;
+                getWaiters(family).decrementAndGet();
+                return;
+            }
+            if (locked) {
+                locked = false;
+                recordHold(this, System.nanoTime() - acquiredAt);
+            }
+        }
+    }
+
+    private static class KeyStat {
+        private final LongAdder acquireCnt = new LongAdder();
+        private final LongAdder timeoutCnt = new LongAdder();
+        private final LongAdder totalWaitNanos = new LongAdder();
+
+        private void record(long waitNanos, boolean isTimeout) {
+            acquireCnt.increment();
+            totalWaitNanos.add(waitNanos);
+            if (isTimeout) timeoutCnt.increment();
+        }
+
+        private KeyStatDto toDto(String lockKey) {
+            return new KeyStatDto(lockKey, acquireCnt.sum(), timeoutCnt.sum(),
+                    TimeUnit.NANOSECONDS.toMillis(totalWaitNanos.sum()));
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class KeyStatDto {
+        private String lockKey;
+        private long acquireCnt;
+        private long timeoutCnt;
+        private long totalWaitMillis;
+    }
+}
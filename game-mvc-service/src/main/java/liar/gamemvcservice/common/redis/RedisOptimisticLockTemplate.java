@@ -0,0 +1,112 @@
+package liar.gamemvcservice.common.redis;
+
+import liar.gamemvcservice.exception.exception.NotFoundGameException;
+import liar.gamemvcservice.exception.exception.RedisLockException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.convert.RedisConverter;
+import org.springframework.data.redis.core.convert.RedisData;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * version 필드를 비교하여 redis hash 엔티티를 저장하는 낙관적 락 템플릿
+ * 조회는 락 없이 수행하고, 저장 시점에 version이 다르면 다시 조회하여 재시도한다.
+ * hash를 다시 쓰지 않고 변경된 필드만 HSET/HDEL 하므로, key에 설정된 TTL은 유지된다.
+ */
+@Component
+public class RedisOptimisticLockTemplate {
+
+    /**
+     * ARGV[1]: 기대 version, ARGV[2]: 삭제할 필드 수(n), ARGV[3..2+n]: 삭제할 필드, 나머지: 변경된 필드와 값
+     */
+    private static final byte[] COMPARE_AND_SET_SCRIPT = (
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end " +
+            "local current = redis.call('HGET', KEYS[1], 'version') " +
+            "if not current then current = '0' end " +
+            "if current ~= ARGV[1] then return 0 end " +
+            "local removed = tonumber(ARGV[2]) " +
+            "if removed > 0 then redis.call('HDEL', KEYS[1], unpack(ARGV, 3, 2 + removed)) end " +
+            "if #ARGV > 2 + removed then redis.call('HSET', KEYS[1], unpack(ARGV, 3 + removed)) end " +
+            "return 1").getBytes(UTF_8);
+
+    private final RedisConverter redisConverter;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final int maxRetry;
+
+    public RedisOptimisticLockTemplate(RedisConverter redisConverter,
+                                       StringRedisTemplate stringRedisTemplate,
+                                       @Value("${game.redis.optimistic-retry:5}") int maxRetry) {
+        this.redisConverter = redisConverter;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.maxRetry = maxRetry;
+    }
+
+    /**
+     * 조회한 엔티티에 변경을 적용하고 version이 같을 때만 저장한다.
+     * 다른 요청이 먼저 저장했다면 엔티티를 다시 조회하여 maxRetry 만큼 재시도한다.
+     * @param entity 처음 조회한 엔티티
+     * @param reloader 충돌 시 엔티티를 다시 조회하는 함수
+     * @param mutation 엔티티 변경 함수
+     * @return 저장된 엔티티
+     */
+    public <T extends VersionedEntity> T update(T entity, Supplier<T> reloader, UnaryOperator<T> mutation) {
+        T target = entity;
+        for (int i = 0; i < maxRetry; i++) {
+            if (target == null) throw new NotFoundGameException();
+
+            long expectedVersion = target.getVersion();
+            Map<String, byte[]> before = toHash(target).getBucket().rawMap();
+            T mutated = mutation.apply(target);
+            mutated.increaseVersion();
+            if (compareAndSet(before, mutated, expectedVersion)) return mutated;
+
+            target = reloader.get();
+        }
+        throw new RedisLockException();
+    }
+
+    /**
+     * 조회 시점의 hash(before)와 비교하여 변경된 필드만 저장한다.
+     */
+    private boolean compareAndSet(Map<String, byte[]> before, Object entity, long expectedVersion) {
+        RedisData redisData = toHash(entity);
+        Map<String, byte[]> after = redisData.getBucket().rawMap();
+
+        List<byte[]> removedFields = new ArrayList<>();
+        for (String field : before.keySet()) {
+            if (!after.containsKey(field)) removedFields.add(field.getBytes(UTF_8));
+        }
+
+        List<byte[]> keysAndArgs = new ArrayList<>();
+        keysAndArgs.add((redisData.getKeyspace() + ":" + redisData.getId()).getBytes(UTF_8));
+        keysAndArgs.add(String.valueOf(expectedVersion).getBytes(UTF_8));
+        keysAndArgs.add(String.valueOf(removedFields.size()).getBytes(UTF_8));
+        keysAndArgs.addAll(removedFields);
+        for (Map.Entry<String, byte[]> field : after.entrySet()) {
+            if (Arrays.equals(before.get(field.getKey()), field.getValue())) continue;
+            keysAndArgs.add(field.getKey().getBytes(UTF_8));
+            keysAndArgs.add(field.getValue());
+        }
+
+        Long result = stringRedisTemplate.execute((RedisCallback<Long>) connection -> connection.scriptingCommands()
+                .eval(COMPARE_AND_SET_SCRIPT, ReturnType.INTEGER, 1, keysAndArgs.toArray(new byte[0][])));
+        return result != null && result == 1L;
+    }
+
+    private RedisData toHash(Object entity) {
+        RedisData redisData = new RedisData();
+        redisConverter.write(entity, redisData);
+        return redisData;
+    }
+}
@@ -0,0 +1,13 @@
+package liar.gamemvcservice.common.redis;
+
+/**
+ * redis에 저장되는 엔티티의 낙관적 락 버전
+ */
+public interface VersionedEntity {
+
+    String getId();
+
+    long getVersion();
+
+    void increaseVersion();
+}
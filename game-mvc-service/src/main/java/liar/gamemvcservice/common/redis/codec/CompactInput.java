@@ -0,0 +1,79 @@
+package liar.gamemvcservice.common.redis.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CompactOutput으로 인코딩한 byte 배열을 순서대로 읽는다.
+ */
+public class CompactInput {
+
+    private final byte[] buf;
+    private int pos;
+
+    public CompactInput(byte[] buf) {
+        this.buf = buf;
+    }
+
+    public int readByte() {
+        if (pos >= buf.length) throw new IllegalStateException("unexpected end of compact entity");
+        return buf[pos++];
+    }
+
+    public boolean readBoolean() {
+        return readByte() != 0;
+    }
+
+    public int readVarInt() {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = readByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw new IllegalStateException("malformed varint");
+    }
+
+    public long readVarLong() {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw new IllegalStateException("malformed varlong");
+    }
+
+    public long readSignedVarLong() {
+        long value = readVarLong();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    public String readString() {
+        int length = readVarInt() - 1;
+        if (length < 0) return null;
+        if (pos + length > buf.length) throw new IllegalStateException("unexpected end of compact entity");
+        String value = new String(buf, pos, length, StandardCharsets.UTF_8);
+        pos += length;
+        return value;
+    }
+
+    public List<String> readStringList() {
+        int size = readVarInt() - 1;
+        if (size < 0) return null;
+        List<String> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(readString());
+        }
+        return values;
+    }
+
+    public LocalDateTime readLocalDateTime() {
+        if (!readBoolean()) return null;
+        long epochSecond = readSignedVarLong();
+        return LocalDateTime.ofEpochSecond(epochSecond, readVarInt(), ZoneOffset.UTC);
+    }
+}
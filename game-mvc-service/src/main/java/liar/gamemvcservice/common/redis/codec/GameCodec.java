@@ -0,0 +1,101 @@
+package liar.gamemvcservice.common.redis.codec;
+
+import liar.gamemvcservice.game.domain.Game;
+import liar.gamemvcservice.game.domain.Topic;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+import org.springframework.data.convert.WritingConverter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Game compact codec (schema 1)
+ * id, roomId, hostId, gameName, playerIds, liarId, topic, flags(sendMessage, sendMessageSuccess), version
+ * GameResultOutboxRepository의 lua script가 hash에 직접 쓴 sendMessage, version 필드가 있다면 그 값을 우선한다.
+ */
+public class GameCodec extends CompactCodec<Game> {
+
+    public static final GameCodec INSTANCE = new GameCodec();
+
+    private static final int SEND_MESSAGE = 1;
+    private static final int SEND_MESSAGE_SUCCESS = 1 << 1;
+
+    @Override
+    protected int schemaVersion() {
+        return 1;
+    }
+
+    @Override
+    protected void write(Game game, CompactOutput out) {
+        out.writeString(game.getId());
+        out.writeString(game.getRoomId());
+        out.writeString(game.getHostId());
+        out.writeString(game.getGameName());
+        out.writeStringList(game.getPlayerIds());
+        out.writeString(game.getLiarId());
+        writeTopic(game.getTopic(), out);
+        out.writeByte((game.isSendMessage() ? SEND_MESSAGE : 0)
+                | (game.isSendMessageSuccess() ? SEND_MESSAGE_SUCCESS : 0));
+        out.writeVarLong(game.getVersion());
+    }
+
+    @Override
+    protected Game read(CompactInput in, int schemaVersion, LegacyHash fields) {
+        String id = in.readString();
+        String roomId = in.readString();
+        String hostId = in.readString();
+        String gameName = in.readString();
+        List<String> playerIds = in.readStringList();
+        String liarId = in.readString();
+        Topic topic = readTopic(in);
+        int flags = in.readByte();
+        long version = in.readVarLong();
+
+        boolean sendMessage = fields.contains("sendMessage")
+                ? fields.getBoolean("sendMessage") : (flags & SEND_MESSAGE) != 0;
+        if (fields.contains("version")) version = Math.max(version, fields.getLong("version"));
+
+        return new Game(id, roomId, hostId, gameName, playerIds, liarId, topic,
+                sendMessage, (flags & SEND_MESSAGE_SUCCESS) != 0, version);
+    }
+
+    @Override
+    protected Game readLegacy(LegacyHash fields) {
+        Topic topic = fields.contains("topic.id") || fields.contains("topic.topicName")
+                ? new Topic(fields.getNullableLong("topic.id"), fields.getString("topic.topicName")) : null;
+        return new Game(fields.getString("id"), fields.getString("roomId"), fields.getString("hostId"),
+                fields.getString("gameName"), fields.getStringList("playerIds"), fields.getString("liarId"), topic,
+                fields.getBoolean("sendMessage"), fields.getBoolean("sendMessageSuccess"), fields.getLong("version"));
+    }
+
+    private void writeTopic(Topic topic, CompactOutput out) {
+        out.writeBoolean(topic != null);
+        if (topic == null) return;
+        out.writeBoolean(topic.getId() != null);
+        if (topic.getId() != null) out.writeSignedVarLong(topic.getId());
+        out.writeString(topic.getTopicName());
+    }
+
+    private Topic readTopic(CompactInput in) {
+        if (!in.readBoolean()) return null;
+        Long id = in.readBoolean() ? in.readSignedVarLong() : null;
+        return new Topic(id, in.readString());
+    }
+
+    @WritingConverter
+    public static class Writer implements Converter<Game, Map<String, byte[]>> {
+        @Override
+        public Map<String, byte[]> convert(Game source) {
+            return INSTANCE.encodeHash(source);
+        }
+    }
+
+    @ReadingConverter
+    public static class Reader implements Converter<Map<String, byte[]>, Game> {
+        @Override
+        public Game convert(Map<String, byte[]> source) {
+            return INSTANCE.decode(source);
+        }
+    }
+}
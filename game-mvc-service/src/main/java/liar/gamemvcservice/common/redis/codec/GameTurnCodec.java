@@ -0,0 +1,58 @@
+package liar.gamemvcservice.common.redis.codec;
+
+import liar.gamemvcservice.game.domain.GameTurn;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+import org.springframework.data.convert.WritingConverter;
+
+import java.util.Map;
+
+/**
+ * GameTurn compact codec (schema 1)
+ * id, gameId, playerTurnsConsistingOfUserId, nowTurn, version
+ */
+public class GameTurnCodec extends CompactCodec<GameTurn> {
+
+    public static final GameTurnCodec INSTANCE = new GameTurnCodec();
+
+    @Override
+    protected int schemaVersion() {
+        return 1;
+    }
+
+    @Override
+    protected void write(GameTurn gameTurn, CompactOutput out) {
+        out.writeString(gameTurn.getId());
+        out.writeString(gameTurn.getGameId());
+        out.writeStringList(gameTurn.getPlayerTurnsConsistingOfUserId());
+        out.writeVarInt(gameTurn.getNowTurn());
+        out.writeVarLong(gameTurn.getVersion());
+    }
+
+    @Override
+    protected GameTurn read(CompactInput in, int schemaVersion, LegacyHash fields) {
+        return new GameTurn(in.readString(), in.readString(), in.readStringList(), in.readVarInt(), in.readVarLong());
+    }
+
+    @Override
+    protected GameTurn readLegacy(LegacyHash fields) {
+        return new GameTurn(fields.getString("id"), fields.getString("gameId"),
+                fields.getStringList("playerTurnsConsistingOfUserId"), fields.getInt("nowTurn"), fields.getLong("version"));
+    }
+
+    @WritingConverter
+    public static class Writer implements Converter<GameTurn, Map<String, byte[]>> {
+        @Override
+        public Map<String, byte[]> convert(GameTurn source) {
+            return INSTANCE.encodeHash(source);
+        }
+    }
+
+    @ReadingConverter
+    public static class Reader implements Converter<Map<String, byte[]>, GameTurn> {
+        @Override
+        public GameTurn convert(Map<String, byte[]> source) {
+            return INSTANCE.decode(source);
+        }
+    }
+}
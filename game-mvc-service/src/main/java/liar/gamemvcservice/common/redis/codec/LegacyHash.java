@@ -0,0 +1,83 @@
+package liar.gamemvcservice.common.redis.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * MappingRedisConverter가 저장한 hash 필드를 읽는다.
+ * 중첩 객체는 "topic.id", 목록은 "playerIds.[0]" 처럼 필드 이름으로 펼쳐져 있고,
+ * boolean은 "1"/"0", 숫자와 날짜는 문자열로 저장되어 있다.
+ */
+public class LegacyHash {
+
+    private final Map<String, byte[]> fields;
+
+    public LegacyHash(Map<String, byte[]> fields) {
+        this.fields = fields;
+    }
+
+    public boolean contains(String field) {
+        return fields.containsKey(field);
+    }
+
+    public String getString(String field) {
+        byte[] value = fields.get(field);
+        return value == null ? null : new String(value, StandardCharsets.UTF_8);
+    }
+
+    public int getInt(String field) {
+        String value = getString(field);
+        return value == null ? 0 : Integer.parseInt(value);
+    }
+
+    public long getLong(String field) {
+        String value = getString(field);
+        return value == null ? 0 : Long.parseLong(value);
+    }
+
+    public Long getNullableLong(String field) {
+        String value = getString(field);
+        return value == null ? null : Long.parseLong(value);
+    }
+
+    public boolean getBoolean(String field) {
+        String value = getString(field);
+        return "1".equals(value) || "true".equals(value);
+    }
+
+    public LocalDateTime getLocalDateTime(String field) {
+        String value = getString(field);
+        return value == null ? null : LocalDateTime.parse(value);
+    }
+
+    /**
+     * "{field}.[0]", "{field}.[1]" ... 순서로 저장된 문자열 목록을 읽는다.
+     */
+    public List<String> getStringList(String field) {
+        List<String> values = new ArrayList<>();
+        for (int i = 0; ; i++) {
+            String value = getString(field + ".[" + i + "]");
+            if (value == null) return values;
+            values.add(value);
+        }
+    }
+
+    /**
+     * "{field}.[i]."로 시작하는 중첩 객체의 개수
+     */
+    public int countElements(String field) {
+        int cnt = 0;
+        while (hasElement(field + ".[" + cnt + "].")) cnt++;
+        return cnt;
+    }
+
+    private boolean hasElement(String prefix) {
+        for (String name : fields.keySet()) {
+            if (name.startsWith(prefix)) return true;
+        }
+        return false;
+    }
+}
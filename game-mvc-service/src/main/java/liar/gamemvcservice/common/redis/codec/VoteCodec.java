@@ -0,0 +1,88 @@
+package liar.gamemvcservice.common.redis.codec;
+
+import liar.gamemvcservice.game.domain.Vote;
+import liar.gamemvcservice.game.domain.VotedResult;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+import org.springframework.data.convert.WritingConverter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Vote compact codec (schema 1)
+ * id, gameId, votedResults(liarId, userIds, cnt), modifiedAt, version
+ */
+public class VoteCodec extends CompactCodec<Vote> {
+
+    public static final VoteCodec INSTANCE = new VoteCodec();
+
+    private static final String VOTED_RESULTS = "votedResults";
+
+    @Override
+    protected int schemaVersion() {
+        return 1;
+    }
+
+    @Override
+    protected void write(Vote vote, CompactOutput out) {
+        out.writeString(vote.getId());
+        out.writeString(vote.getGameId());
+        List<VotedResult> votedResults = vote.getVotedResults();
+        out.writeVarInt(votedResults == null ? 0 : votedResults.size() + 1);
+        if (votedResults != null) {
+            for (VotedResult votedResult : votedResults) {
+                out.writeString(votedResult.getLiarId());
+                out.writeStringList(votedResult.getUserIds());
+                out.writeVarInt(votedResult.getCnt());
+            }
+        }
+        out.writeLocalDateTime(vote.getModifiedAt());
+        out.writeVarLong(vote.getVersion());
+    }
+
+    @Override
+    protected Vote read(CompactInput in, int schemaVersion, LegacyHash fields) {
+        String id = in.readString();
+        String gameId = in.readString();
+        int size = in.readVarInt() - 1;
+        List<VotedResult> votedResults = null;
+        if (size >= 0) {
+            votedResults = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                votedResults.add(new VotedResult(in.readString(), in.readStringList(), in.readVarInt()));
+            }
+        }
+        return new Vote(id, gameId, votedResults, in.readLocalDateTime(), in.readVarLong());
+    }
+
+    @Override
+    protected Vote readLegacy(LegacyHash fields) {
+        int size = fields.countElements(VOTED_RESULTS);
+        List<VotedResult> votedResults = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String prefix = VOTED_RESULTS + ".[" + i + "].";
+            votedResults.add(new VotedResult(fields.getString(prefix + "liarId"),
+                    fields.getStringList(prefix + "userIds"), fields.getInt(prefix + "cnt")));
+        }
+        return new Vote(fields.getString("id"), fields.getString("gameId"), votedResults,
+                fields.getLocalDateTime("modifiedAt"), fields.getLong("version"));
+    }
+
+    @WritingConverter
+    public static class Writer implements Converter<Vote, Map<String, byte[]>> {
+        @Override
+        public Map<String, byte[]> convert(Vote source) {
+            return INSTANCE.encodeHash(source);
+        }
+    }
+
+    @ReadingConverter
+    public static class Reader implements Converter<Map<String, byte[]>, Vote> {
+        @Override
+        public Vote convert(Map<String, byte[]> source) {
+            return INSTANCE.decode(source);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package liar.gamemvcservice.common.redis.shard;
+
+import liar.gamemvcservice.game.controller.dto.request.VoteLiarRequest;
+import liar.gamemvcservice.game.service.dto.CommonDto;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * GameFacadeService의 gameId 인자로 redis 노드를 정하여, 메서드 안의 모든 redis 명령과 락이 같은 노드로 가도록 한다.
+ * 락 aspect보다 먼저 실행되어야 하므로 가장 높은 우선순위를 갖는다.
+ * gameId가 없는 메서드(게임 생성)는 gameId를 만든 뒤 직접 노드를 지정한다.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RedisShardAspect {
+
+    private static final String GAME_ID = "gameId";
+
+    private final RedisShards redisShards;
+
+    @Around("execution(* liar.gamemvcservice.game.service.GameFacadeService.*(..))")
+    public Object routeToGameShard(ProceedingJoinPoint joinPoint) throws Throwable {
+        String gameId = getGameId(joinPoint);
+        if (gameId == null) return joinPoint.proceed();
+        return redisShards.callInGame(gameId, joinPoint::proceed);
+    }
+
+    private String getGameId(ProceedingJoinPoint joinPoint) {
+        String[] parameterNames = ((MethodSignature) joinPoint.getSignature()).getParameterNames();
+        Object[] args = joinPoint.getArgs();
+        for (int i = 0; i < args.length; i++) {
+            Object arg = args[i];
+            if (arg instanceof String && parameterNames != null && GAME_ID.equals(parameterNames[i])) {
+                return (String) arg;
+            }
+            else if (arg instanceof CommonDto) {
+                return ((CommonDto) arg).getGameId();
+            }
+            else if (arg instanceof VoteLiarRequest) {
+                return ((VoteLiarRequest) arg).getGameId();
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,44 @@
+package liar.gamemvcservice.common.redis.shard;
+
+/**
+ * 현재 스레드의 redis 명령을 보낼 노드를 보관한다.
+ * ShardRoutingConnectionFactory는 connection을 만들 때 이 노드를 사용하며, 노드가 없다면 home 노드를 사용한다.
+ * 중첩해서 호출해도 바깥의 노드가 복원된다.
+ */
+public final class RedisShardContext {
+
+    private static final ThreadLocal<String> NODE = new ThreadLocal<>();
+
+    private RedisShardContext() {
+    }
+
+    /**
+     * 지정된 노드가 없다면 null
+     */
+    public static String currentNode() {
+        return NODE.get();
+    }
+
+    public static <T, E extends Throwable> T callOnNode(String node, ShardTask<T, E> task) throws E {
+        String previous = NODE.get();
+        NODE.set(node);
+        try {
+            return task.call();
+        } finally {
+            if (previous == null) NODE.remove();
+            else NODE.set(previous);
+        }
+    }
+
+    public static void runOnNode(String node, Runnable task) {
+        callOnNode(node, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    @FunctionalInterface
+    public interface ShardTask<T, E extends Throwable> {
+        T call() throws E;
+    }
+}
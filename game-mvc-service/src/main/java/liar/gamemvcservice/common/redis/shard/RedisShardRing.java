@@ -0,0 +1,83 @@
+package liar.gamemvcservice.common.redis.shard;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * redis 노드를 virtualNodes 개의 점으로 hash ring에 배치하고, gameId를 시계 방향으로 가장 가까운 노드에 배정한다.
+ * 노드의 위치는 노드 이름으로만 정해지므로, 노드를 추가하거나 제거해도 해당 노드와 인접한 구간의 게임만 다른 노드로 옮겨진다.
+ */
+public class RedisShardRing {
+
+    private final List<String> nodes;
+    private final TreeMap<Long, String> ring = new TreeMap<>();
+
+    public RedisShardRing(List<String> nodes, int virtualNodes) {
+        if (nodes.isEmpty()) throw new IllegalArgumentException("redis shard node is empty");
+        if (virtualNodes <= 0) throw new IllegalArgumentException("virtualNodes must be positive: " + virtualNodes);
+        this.nodes = Collections.unmodifiableList(new ArrayList<>(nodes));
+        for (String node : nodes) {
+            for (int i = 0; i < virtualNodes; i++) {
+                ring.put(hash(node + "#" + i), node);
+            }
+        }
+    }
+
+    public List<String> getNodes() {
+        return nodes;
+    }
+
+    /**
+     * gameId가 배정된 노드
+     */
+    public String nodeFor(String gameId) {
+        if (nodes.size() == 1) return nodes.get(0);
+        Map.Entry<Long, String> entry = ring.ceilingEntry(hash(gameId));
+        return entry == null ? ring.firstEntry().getValue() : entry.getValue();
+    }
+
+    /**
+     * key에 hash tag("...{gameId}...")가 있다면 tag로 배정된 노드, 없다면 null
+     */
+    public String nodeForKey(String key) {
+        String hashTag = getHashTag(key);
+        return hashTag == null ? null : nodeFor(hashTag);
+    }
+
+    /**
+     * redis cluster와 같은 규칙으로, 처음 나오는 '{' 와 그 뒤의 '}' 사이의 비어있지 않은 문자열
+     */
+    public static String getHashTag(String key) {
+        int start = key.indexOf('{');
+        if (start < 0) return null;
+        int end = key.indexOf('}', start + 1);
+        if (end <= start + 1) return null;
+        return key.substring(start + 1, end);
+    }
+
+    /**
+     * md5의 앞 8 byte
+     */
+    private static long hash(String value) {
+        byte[] digest = md5().digest(value.getBytes(StandardCharsets.UTF_8));
+        long hash = 0;
+        for (int i = 0; i < Long.BYTES; i++) {
+            hash = (hash << 8) | (digest[i] & 0xFF);
+        }
+        return hash;
+    }
+
+    private static MessageDigest md5() {
+        try {
+            return MessageDigest.getInstance("MD5");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package liar.gamemvcservice.common.redis.shard;
+
+import liar.gamemvcservice.common.redis.shard.RedisShardContext.ShardTask;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RedissonClient;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게임 상태를 gameId의 consistent hash로 여러 redis 노드에 나누어 저장한다.
+ * 게임의 모든 key와 락은 gameId가 배정된 노드에 저장되며,
+ * 게임과 관계없는 key(topic catalog, pub/sub 등)는 첫 번째 노드(home)에 저장된다.
+ * 노드가 1개라면 모든 명령이 home 노드로 전달되어 기존과 같이 동작한다.
+ */
+@Slf4j
+public class RedisShards {
+
+    private final RedisShardRing ring;
+    private final String homeNode;
+    private final Map<String, RedissonClient> redissonClients;
+
+    public RedisShards(RedisShardRing ring, Map<String, RedissonClient> redissonClients) {
+        this.ring = ring;
+        this.homeNode = ring.getNodes().get(0);
+        this.redissonClients = redissonClients;
+    }
+
+    public List<String> getNodes() {
+        return ring.getNodes();
+    }
+
+    public String getHomeNode() {
+        return homeNode;
+    }
+
+    public String nodeForGame(String gameId) {
+        return ring.nodeFor(gameId);
+    }
+
+    /**
+     * task의 redis 명령을 gameId가 배정된 노드로 보낸다.
+     */
+    public <T, E extends Throwable> T callInGame(String gameId, ShardTask<T, E> task) throws E {
+        return RedisShardContext.callOnNode(ring.nodeFor(gameId), task);
+    }
+
+    public void runInGame(String gameId, Runnable task) {
+        RedisShardContext.runOnNode(ring.nodeFor(gameId), task);
+    }
+
+    /**
+     * 모든 노드에서 task를 차례로 실행한다. 한 노드에서 실패해도 나머지 노드는 실행한다.
+     */
+    public void forEachNode(Runnable task) {
+        for (String node : ring.getNodes()) {
+            try {
+                RedisShardContext.runOnNode(node, task);
+            } catch (RuntimeException e) {
+                log.warn("redis shard task failed, node = {}", node, e);
+            }
+        }
+    }
+
+    /**
+     * key에 hash tag가 있다면 tag가 배정된 노드, 없다면 현재 스레드의 노드의 redisson client
+     */
+    public RedissonClient getRedissonClient(String key) {
+        String node = ring.nodeForKey(key);
+        if (node == null) node = RedisShardContext.currentNode();
+        return redissonClients.get(node == null ? homeNode : node);
+    }
+
+    public RedissonClient getRedissonClientForGame(String gameId) {
+        return redissonClients.get(ring.nodeFor(gameId));
+    }
+
+    public RedissonClient getHomeRedissonClient() {
+        return redissonClients.get(homeNode);
+    }
+
+    public void shutdown() {
+        redissonClients.values().forEach(RedissonClient::shutdown);
+    }
+}
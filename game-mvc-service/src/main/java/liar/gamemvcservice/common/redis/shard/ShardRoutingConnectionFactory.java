@@ -0,0 +1,72 @@
+package liar.gamemvcservice.common.redis.shard;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisSentinelConnection;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+
+import java.util.Map;
+
+/**
+ * RedisShardContext의 노드로 connection을 만드는 connection factory
+ * redisTemplate, repository는 이 factory로 connection을 얻으므로, 노드를 알지 못해도 게임이 배정된 노드로 명령을 보낸다.
+ * 노드가 지정되지 않은 스레드의 명령은 home 노드로 보낸다.
+ */
+public class ShardRoutingConnectionFactory implements RedisConnectionFactory, InitializingBean, DisposableBean {
+
+    private final Map<String, LettuceConnectionFactory> connectionFactories;
+    private final LettuceConnectionFactory homeConnectionFactory;
+
+    public ShardRoutingConnectionFactory(Map<String, LettuceConnectionFactory> connectionFactories, String homeNode) {
+        this.connectionFactories = connectionFactories;
+        this.homeConnectionFactory = connectionFactories.get(homeNode);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        connectionFactories.values().forEach(LettuceConnectionFactory::afterPropertiesSet);
+    }
+
+    @Override
+    public void destroy() {
+        connectionFactories.values().forEach(LettuceConnectionFactory::destroy);
+    }
+
+    @Override
+    public RedisConnection getConnection() {
+        return getConnectionFactory().getConnection();
+    }
+
+    @Override
+    public RedisClusterConnection getClusterConnection() {
+        throw new InvalidDataAccessApiUsageException("redis shard does not support cluster connection");
+    }
+
+    @Override
+    public boolean getConvertPipelineAndTxResults() {
+        return homeConnectionFactory.getConvertPipelineAndTxResults();
+    }
+
+    @Override
+    public RedisSentinelConnection getSentinelConnection() {
+        throw new InvalidDataAccessApiUsageException("redis shard does not support sentinel connection");
+    }
+
+    @Override
+    public DataAccessException translateExceptionIfPossible(RuntimeException ex) {
+        return homeConnectionFactory.translateExceptionIfPossible(ex);
+    }
+
+    private LettuceConnectionFactory getConnectionFactory() {
+        String node = RedisShardContext.currentNode();
+        if (node == null) return homeConnectionFactory;
+        LettuceConnectionFactory connectionFactory = connectionFactories.get(node);
+        if (connectionFactory == null) throw new IllegalStateException("unknown redis shard node: " + node);
+        return connectionFactory;
+    }
+}
@@ -0,0 +1,165 @@
+package liar.gamemvcservice.common.timer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 계층형 타이밍 휠
+ * 등록과 취소는 O(1)이며, 등록은 어느 스레드에서나 가능하다.
+ * advance는 하나의 tick 스레드에서만 호출해야 한다.
+ * 한 단계는 wheelSize(2의 제곱) 개의 slot으로 구성되고, 상위 단계의 slot은 하위 단계 한 바퀴를 표현한다.
+ */
+public class HierarchicalTimingWheel<T> {
+
+    private final long tickMillis;
+    private final long startMillis;
+    private final int bits;
+    private final int mask;
+    private final int levels;
+    private final List<Timeout<T>>[][] buckets;
+    private final Queue<Timeout<T>> pending = new ConcurrentLinkedQueue<>();
+
+    private volatile long currentTick;
+
+    @SuppressWarnings("unchecked")
+    public HierarchicalTimingWheel(long tickMillis, int wheelSize, int levels, long startMillis) {
+        if (Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("wheelSize must be a power of two");
+        }
+        this.tickMillis = tickMillis;
+        this.startMillis = startMillis;
+        this.bits = Integer.numberOfTrailingZeros(wheelSize);
+        this.mask = wheelSize - 1;
+        this.levels = levels;
+        this.buckets = new List[levels][wheelSize];
+        for (int level = 0; level < levels; level++) {
+            for (int idx = 0; idx < wheelSize; idx++) {
+                buckets[level][idx] = new ArrayList<>();
+            }
+        }
+    }
+
+    /**
+     * deadlineMillis에 만료되는 task를 등록한다.
+     * 실제 slot 배치는 다음 advance에서 tick 스레드가 수행한다.
+     */
+    public Timeout<T> arm(T task, long deadlineMillis) {
+        long deadlineTick = Math.max(0, (deadlineMillis - startMillis + tickMillis - 1) / tickMillis);
+        if (deadlineTick - currentTick >= 1L << (bits * levels)) {
+            throw new IllegalArgumentException("deadline exceeds timing wheel range");
+        }
+        Timeout<T> timeout = new Timeout<>(task, deadlineTick);
+        pending.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * nowMillis까지 시간을 진행하고, 만료된 task를 반환한다.
+     */
+    public List<T> advance(long nowMillis) {
+        List<T> expired = new ArrayList<>();
+        long targetTick = (nowMillis - startMillis) / tickMillis;
+
+        transferPending(expired);
+        while (currentTick <= targetTick) {
+            cascade();
+            expire(expired);
+            currentTick++;
+            transferPending(expired);
+        }
+        return expired;
+    }
+
+    private void transferPending(List<T> expired) {
+        Timeout<T> timeout;
+        while ((timeout = pending.poll()) != null) {
+            place(timeout, expired);
+        }
+    }
+
+    /**
+     * 하위 단계가 한 바퀴를 돌았다면, 상위 단계의 현재 slot을 하위 단계로 다시 배치한다.
+     */
+    private void cascade() {
+        for (int level = levels - 1; level > 0; level--) {
+            if ((currentTick & ((1L << (bits * level)) - 1)) != 0) continue;
+
+            int idx = (int) ((currentTick >> (bits * level)) & mask);
+            List<Timeout<T>> bucket = buckets[level][idx];
+            if (bucket.isEmpty()) continue;
+
+            buckets[level][idx] = new ArrayList<>();
+            for (Timeout<T> timeout : bucket) {
+                if (!timeout.isCancelled()) placeInLevel(timeout);
+            }
+        }
+    }
+
+    private void expire(List<T> expired) {
+        int idx = (int) (currentTick & mask);
+        List<Timeout<T>> bucket = buckets[0][idx];
+        if (bucket.isEmpty()) return;
+
+        buckets[0][idx] = new ArrayList<>();
+        for (Timeout<T> timeout : bucket) {
+            if (timeout.expire()) expired.add(timeout.task);
+        }
+    }
+
+    private void place(Timeout<T> timeout, List<T> expired) {
+        if (timeout.isCancelled()) return;
+        if (timeout.deadlineTick < currentTick) {
+            if (timeout.expire()) expired.add(timeout.task);
+            return;
+        }
+        placeInLevel(timeout);
+    }
+
+    private void placeInLevel(Timeout<T> timeout) {
+        long delta = timeout.deadlineTick - currentTick;
+        for (int level = 0; level < levels; level++) {
+            if (delta < 1L << (bits * (level + 1)) || level == levels - 1) {
+                int idx = (int) ((timeout.deadlineTick >> (bits * level)) & mask);
+                buckets[level][idx].add(timeout);
+                return;
+            }
+        }
+    }
+
+    /**
+     * 등록된 task의 취소 핸들
+     * 취소된 task는 slot이 처리될 때 제거된다.
+     */
+    public static class Timeout<T> {
+        private final T task;
+        private final long deadlineTick;
+        private final AtomicBoolean done = new AtomicBoolean();
+
+        private Timeout(T task, long deadlineTick) {
+            this.task = task;
+            this.deadlineTick = deadlineTick;
+        }
+
+        /**
+         * 만료 전에 취소되면 true
+         */
+        public boolean cancel() {
+            return done.compareAndSet(false, true);
+        }
+
+        public boolean isCancelled() {
+            return done.get();
+        }
+
+        private boolean expire() {
+            return done.compareAndSet(false, true);
+        }
+
+        public T getTask() {
+            return task;
+        }
+    }
+}
@@ -7,7 +7,6 @@ import liar.gamemvcservice.common.authentication.Authority;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -25,13 +24,16 @@ public class TokenProviderImpl implements InitializingBean, TokenProvider{
     public static final String TOKEN_TYPE = "Bearer ";
     private static final String AUTHORITIES_KEY = "auth";
     private Key key;
+    private JwtParser jwtParser;
 
     private final String secretKey;
     private final long accessTokenExpirationTime;
     private final long refreshTokenExpirationTime;
     private final long reissueRefreshTime;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     public TokenProviderImpl(
+            VerifiedTokenCache verifiedTokenCache,
             @Value("${jwt.secret}") String secretKey,
             @Value("${jwt.access-expiration-time}") long accessTokenExpirationTime,
             @Value("${jwt.refresh-expiration-time}") long refreshTokenExpirationTime,
@@ -40,6 +42,7 @@ public class TokenProviderImpl implements InitializingBean, TokenProvider{
         this.accessTokenExpirationTime = accessTokenExpirationTime;
         this.refreshTokenExpirationTime = refreshTokenExpirationTime;
         this.reissueRefreshTime = reissueRefreshTime;
+        this.verifiedTokenCache = verifiedTokenCache;
     }
 
 
@@ -48,6 +51,7 @@ public class TokenProviderImpl implements InitializingBean, TokenProvider{
     public void afterPropertiesSet() {
         byte[] keyBytes = Decoders.BASE64.decode(secretKey);
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
     }
 
 
@@ -69,16 +73,20 @@ public class TokenProviderImpl implements InitializingBean, TokenProvider{
 
     public Claims getClaims(String token) {
 
-        return Jwts
-                .parserBuilder()
-                .setSigningKey(key)
-                .build()
+        return jwtParser
                 .parseClaimsJws(token)
                 .getBody();
     }
 
 
+    /**
+     * 검증된 token의 Authentication은 VerifiedTokenCache에 보관하여, 같은 token은 다시 검증하지 않는다.
+     */
     public Authentication getAuthentication(String token) {
+        return verifiedTokenCache.get(token, this::verify);
+    }
+
+    private VerifiedTokenCache.VerifiedToken verify(String token) {
 
         Claims claims = getClaims(token);
 
@@ -89,12 +97,14 @@ public class TokenProviderImpl implements InitializingBean, TokenProvider{
 
         User principal = new User(claims.getSubject(), "", authorities);
 
-        return new UsernamePasswordAuthenticationToken(principal, token, authorities);
+        long expiresAtMillis = claims.getExpiration() == null ? Long.MAX_VALUE : claims.getExpiration().getTime();
+        return new VerifiedTokenCache.VerifiedToken(new VerifiedAuthentication(principal, token, authorities),
+                expiresAtMillis);
     }
 
     public boolean validateToken(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+            jwtParser.parseClaimsJws(token);
             return true;
         } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
             log.info("잘못된 JWT 서명입니다.");
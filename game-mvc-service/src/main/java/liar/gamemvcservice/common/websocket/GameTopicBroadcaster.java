@@ -0,0 +1,263 @@
+package liar.gamemvcservice.common.websocket;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.messaging.AbstractSubProtocolEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * "/topic/{gameId}" 메시지를 GameTopicRelay를 거쳐 모든 노드의 구독자에게 보낸다.
+ * 메시지는 보내는 노드에서 한 번만 json으로 직렬화되고, 받는 노드는 byte 그대로 로컬 broker에 전달한다.
+ * 로컬 세션이 구독을 시작한 게임만 relay를 subscribe하고, 마지막 구독이 끝나면 unsubscribe한다.
+ * relay의 subscribe/unsubscribe는 네트워크 요청이므로 map의 lock 밖에서 실행하고,
+ * 같은 게임의 unsubscribe는 subscribe가 끝난 후에, 다음 subscribe는 unsubscribe가 끝난 후에 실행한다.
+ * coalesceMillis가 0보다 크면, 그 시간 동안 모인 같은 게임의 메시지를 json 배열 하나로 묶어 보낸다.
+ */
+@Slf4j
+@Component
+public class GameTopicBroadcaster {
+
+    private static final String TOPIC_PREFIX = "/topic/";
+
+    private final GameTopicRelay gameTopicRelay;
+    private final SimpMessagingTemplate template;
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private final Map<String, Map<String, String>> subscriptionsBySession = new ConcurrentHashMap<>();
+    private final Map<String, LocalSubscription> localSubscriptions = new ConcurrentHashMap<>();
+
+    private final long coalesceMillis;
+    private final Map<String, List<Object>> pendingPayloads = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor();
+
+    private final Counter publishCounter;
+    private final Counter deliverCounter;
+    private final Counter coalescedCounter;
+
+    public GameTopicBroadcaster(GameTopicRelay gameTopicRelay,
+                                SimpMessagingTemplate template,
+                                MeterRegistry meterRegistry,
+                                @Value("${game.topic.coalesce-millis:0}") long coalesceMillis) {
+        this.gameTopicRelay = gameTopicRelay;
+        this.template = template;
+        this.coalesceMillis = coalesceMillis;
+        this.publishCounter = Counter.builder("game.topic.publish")
+                .tag("relay", gameTopicRelay.getName())
+                .register(meterRegistry);
+        this.deliverCounter = Counter.builder("game.topic.deliver")
+                .tag("relay", gameTopicRelay.getName())
+                .register(meterRegistry);
+        this.coalescedCounter = Counter.builder("game.topic.coalesced")
+                .tag("relay", gameTopicRelay.getName())
+                .register(meterRegistry);
+        Gauge.builder("game.topic.local.games", localSubscriptions, Map::size)
+                .tag("relay", gameTopicRelay.getName())
+                .register(meterRegistry);
+
+        if (coalesceMillis > 0) {
+            flusher.scheduleWithFixedDelay(this::flush, coalesceMillis, coalesceMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 게임의 모든 구독자에게 payload를 보낸다.
+     */
+    public void broadcast(String gameId, Object payload) {
+        if (coalesceMillis <= 0) {
+            publish(gameId, encode(payload));
+            return;
+        }
+        pendingPayloads.compute(gameId, (key, payloads) -> {
+            List<Object> pending = payloads == null ? new ArrayList<>() : payloads;
+            pending.add(payload);
+            return pending;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flusher.shutdown();
+        flush();
+    }
+
+    /**
+     * 게임 별로 모인 메시지를 한 번에 직렬화하여 보낸다.
+     * 메시지가 하나라면 배열로 감싸지 않는다.
+     */
+    void flush() {
+        for (String gameId : pendingPayloads.keySet()) {
+            List<Object> payloads = pendingPayloads.remove(gameId);
+            if (payloads == null || payloads.isEmpty()) continue;
+            try {
+                publish(gameId, payloads.size() == 1 ? encode(payloads.get(0)) : encode(payloads));
+                coalescedCounter.increment(payloads.size() - 1);
+            } catch (RuntimeException e) {
+                log.warn("game topic flush failed, gameId = {}", gameId, e);
+            }
+        }
+    }
+
+    private void publish(String gameId, byte[] frame) {
+        gameTopicRelay.publish(gameId, frame);
+        publishCounter.increment();
+    }
+
+    @EventListener
+    public void subscribe(SessionSubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        String gameId = getGameId(accessor.getDestination());
+        if (gameId == null || accessor.getSessionId() == null || accessor.getSubscriptionId() == null) return;
+
+        subscriptionsBySession.computeIfAbsent(accessor.getSessionId(), key -> new ConcurrentHashMap<>())
+                .put(accessor.getSubscriptionId(), gameId);
+        increaseLocalSubscriber(gameId);
+    }
+
+    @EventListener
+    public void unsubscribe(SessionUnsubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        Map<String, String> subscriptions = subscriptionsBySession.get(accessor.getSessionId());
+        if (subscriptions == null || accessor.getSubscriptionId() == null) return;
+
+        String gameId = subscriptions.remove(accessor.getSubscriptionId());
+        if (gameId != null) decreaseLocalSubscriber(gameId);
+    }
+
+    @EventListener
+    public void disconnect(SessionDisconnectEvent event) {
+        Map<String, String> subscriptions = subscriptionsBySession.remove(getSessionId(event));
+        if (subscriptions != null) subscriptions.values().forEach(this::decreaseLocalSubscriber);
+    }
+
+    /**
+     * 첫 로컬 구독자라면 relay를 subscribe한다.
+     * 같은 게임의 구독이 해제되는 중이라면, 해제가 끝난 후 다시 시도한다.
+     */
+    private void increaseLocalSubscriber(String gameId) {
+        while (true) {
+            LocalSubscription created = new LocalSubscription();
+            LocalSubscription subscription = localSubscriptions.putIfAbsent(gameId, created);
+            if (subscription == null) {
+                register(gameId, created);
+                return;
+            }
+            if (subscription.retain()) return;
+            subscription.closed.join();
+        }
+    }
+
+    private void register(String gameId, LocalSubscription subscription) {
+        try {
+            gameTopicRelay.subscribe(gameId, frame -> deliver(gameId, frame));
+            subscription.registered.complete(null);
+        } catch (RuntimeException e) {
+            subscription.registered.completeExceptionally(e);
+            localSubscriptions.remove(gameId, subscription);
+            subscription.closed.complete(null);
+            throw e;
+        }
+    }
+
+    /**
+     * 마지막 로컬 구독자라면 relay subscribe가 끝나기를 기다린 후 unsubscribe한다.
+     */
+    private void decreaseLocalSubscriber(String gameId) {
+        LocalSubscription subscription = localSubscriptions.get(gameId);
+        if (subscription == null || !subscription.release()) return;
+
+        try {
+            subscription.registered.join();
+            gameTopicRelay.unsubscribe(gameId);
+        } catch (RuntimeException e) {
+            log.warn("game topic unsubscribe failed, gameId = {}", gameId, e);
+        } finally {
+            localSubscriptions.remove(gameId, subscription);
+            subscription.closed.complete(null);
+        }
+    }
+
+    /**
+     * 직렬화된 메시지를 다시 변환하지 않고 로컬 broker로 보낸다.
+     */
+    private void deliver(String gameId, byte[] frame) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+        template.send(TOPIC_PREFIX + gameId, MessageBuilder.createMessage(frame, accessor.getMessageHeaders()));
+        deliverCounter.increment();
+    }
+
+    private byte[] encode(Object payload) {
+        try {
+            return objectMapper.writeValueAsBytes(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    private String getGameId(String destination) {
+        if (destination == null || !destination.startsWith(TOPIC_PREFIX)) return null;
+        return destination.substring(TOPIC_PREFIX.length());
+    }
+
+    private String getSessionId(AbstractSubProtocolEvent event) {
+        return SimpMessageHeaderAccessor.getSessionId(event.getMessage().getHeaders());
+    }
+
+    /**
+     * 게임의 로컬 구독자 수와 relay 구독 상태
+     * 구독자 수가 0이 되면 닫힌 상태가 되어 더 이상 늘어나지 않는다.
+     */
+    private static class LocalSubscription {
+        private final AtomicInteger cnt = new AtomicInteger(1);
+        private final CompletableFuture<Void> registered = new CompletableFuture<>();
+        private final CompletableFuture<Void> closed = new CompletableFuture<>();
+
+        private boolean retain() {
+            int current;
+            do {
+                current = cnt.get();
+                if (current == 0) return false;
+            } while (!cnt.compareAndSet(current, current + 1));
+            return true;
+        }
+
+        /**
+         * 마지막 구독자였다면 true
+         */
+        private boolean release() {
+            int current;
+            do {
+                current = cnt.get();
+                if (current == 0) return false;
+            } while (!cnt.compareAndSet(current, current - 1));
+            return current == 1;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package liar.gamemvcservice.common.websocket;
+
+import java.util.function.Consumer;
+
+/**
+ * 게임 topic 메시지를 노드 사이에 전달한다.
+ * 각 노드는 로컬 세션이 구독 중인 게임만 subscribe한다.
+ */
+public interface GameTopicRelay {
+
+    /**
+     * 모든 노드의 gameId 구독자에게 직렬화된 메시지를 보낸다.
+     */
+    void publish(String gameId, byte[] frame);
+
+    void subscribe(String gameId, Consumer<byte[]> listener);
+
+    void unsubscribe(String gameId);
+
+    /**
+     * metric tag로 사용하는 relay 이름
+     */
+    String getName();
+}
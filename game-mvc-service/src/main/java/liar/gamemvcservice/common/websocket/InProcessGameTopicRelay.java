@@ -0,0 +1,40 @@
+package liar.gamemvcservice.common.websocket;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 단일 노드용 GameTopicRelay
+ * publish한 메시지를 같은 JVM의 구독자에게 바로 전달하며, 테스트와 단일 인스턴스 배포에서 사용한다.
+ */
+@Component
+@ConditionalOnProperty(name = "game.topic.relay", havingValue = "local", matchIfMissing = true)
+public class InProcessGameTopicRelay implements GameTopicRelay {
+
+    private final Map<String, Consumer<byte[]>> listeners = new ConcurrentHashMap<>();
+
+    @Override
+    public void publish(String gameId, byte[] frame) {
+        Consumer<byte[]> listener = listeners.get(gameId);
+        if (listener != null) listener.accept(frame);
+    }
+
+    @Override
+    public void subscribe(String gameId, Consumer<byte[]> listener) {
+        listeners.put(gameId, listener);
+    }
+
+    @Override
+    public void unsubscribe(String gameId) {
+        listeners.remove(gameId);
+    }
+
+    @Override
+    public String getName() {
+        return "local";
+    }
+}
@@ -0,0 +1,51 @@
+package liar.gamemvcservice.common.websocket;
+
+import lombok.RequiredArgsConstructor;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.ByteArrayCodec;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * redis pub/sub으로 게임 topic 메시지를 모든 노드에 전달하는 GameTopicRelay
+ * 게임마다 "GameTopic:{gameId}" 채널을 사용하므로, 노드는 로컬 세션이 있는 게임의 메시지만 받는다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "game.topic.relay", havingValue = "redis")
+public class RedisGameTopicRelay implements GameTopicRelay {
+
+    private final RedissonClient redissonClient;
+    private final Map<String, Integer> listenerIds = new ConcurrentHashMap<>();
+
+    @Override
+    public void publish(String gameId, byte[] frame) {
+        getTopic(gameId).publish(frame);
+    }
+
+    @Override
+    public void subscribe(String gameId, Consumer<byte[]> listener) {
+        listenerIds.computeIfAbsent(gameId, key -> getTopic(gameId)
+                .addListener(byte[].class, (channel, frame) -> listener.accept(frame)));
+    }
+
+    @Override
+    public void unsubscribe(String gameId) {
+        Integer listenerId = listenerIds.remove(gameId);
+        if (listenerId != null) getTopic(gameId).removeListener(listenerId);
+    }
+
+    @Override
+    public String getName() {
+        return "redis";
+    }
+
+    private RTopic getTopic(String gameId) {
+        return redissonClient.getTopic("GameTopic:{" + gameId + "}", ByteArrayCodec.INSTANCE);
+    }
+}
@@ -0,0 +1,11 @@
+package liar.gamemvcservice.exception.exception;
+
+import liar.gamemvcservice.exception.type.ExceptionCode;
+import liar.gamemvcservice.exception.type.ExceptionMessage;
+
+public class NotOwnedGameException extends CommonException {
+
+    public NotOwnedGameException() {
+        super(ExceptionCode.CONFLICT, ExceptionMessage.NOT_OWNED_GAME);
+    }
+}
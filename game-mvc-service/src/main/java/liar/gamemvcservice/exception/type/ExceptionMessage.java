@@ -10,5 +10,6 @@ public class ExceptionMessage {
     public static final String NOT_USER_TURN = "유저의 차례가 아닙니다.";
     public static final String REDIS_ROCK_EXCEPTION = "다른 요청이 처리 중입니다.";
     public static final String VOTE_NOT_FOUND = "투표를 할 수 없습니다.";
+    public static final String NOT_OWNED_GAME = "다른 서버에서 진행 중인 게임입니다.";
 
 }
@@ -1,5 +1,6 @@
 package liar.gamemvcservice.game.controller;
 
+import liar.gamemvcservice.common.websocket.GameTopicBroadcaster;
 import liar.gamemvcservice.exception.exception.NotEqualUserIdException;
 import liar.gamemvcservice.game.controller.dto.message.ChatMessage;
 import liar.gamemvcservice.game.controller.dto.message.message.ChatMessageResponse;
@@ -9,7 +10,6 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -20,7 +20,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class ChatController {
 
     private final GameFacadeService gameFacadeService;
-    private final SimpMessagingTemplate template;
+    private final GameTopicBroadcaster gameTopicBroadcaster;
 
     @MessageMapping("/{gameId}")
     public void chatTopic(@DestinationVariable String gameId,
@@ -31,7 +31,7 @@ public class ChatController {
         NextTurn nextTurn = gameFacadeService
                 .setNextTurnWhenValidated(gameId, message.getCharMessage());
 
-        template.convertAndSend("/topic/" + gameId, ChatMessageResponse.of(message, nextTurn));
+        gameTopicBroadcaster.broadcast(gameId, ChatMessageResponse.of(message, nextTurn));
     }
 
     private boolean isMatchUserIdAndRequestMessageUserId(SimpMessageHeaderAccessor headerAccessor, ChatMessage message) {
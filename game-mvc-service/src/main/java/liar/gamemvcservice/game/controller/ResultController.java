@@ -1,14 +1,10 @@
 package liar.gamemvcservice.game.controller;
 
-import com.amazonaws.services.sqs.AmazonSQS;
-import com.amazonaws.services.sqs.model.GetQueueUrlResult;
-import com.amazonaws.services.sqs.model.SendMessageRequest;
 import liar.gamemvcservice.game.controller.dto.message.SendSuccessBody;
 import liar.gamemvcservice.game.controller.dto.request.CommonRequest;
 import liar.gamemvcservice.game.service.GameFacadeService;
-import liar.gamemvcservice.game.service.dto.GameResultToServerDto;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -20,36 +16,25 @@ import org.springframework.web.bind.annotation.RestController;
 public class ResultController {
 
     private final GameFacadeService gameFacadeService;
-    private final AmazonSQS amazonSQS;
-
-    @Value("${aws.sqs.queueName}")
-    private String queueName;
 
+    /**
+     * 게임 결과는 마지막 투표가 저장될 때 1회 계산하여 json snapshot으로 저장되고,
+     * 이후 요청은 락과 계산 없이 저장된 snapshot을 그대로 응답한다.
+     * 투표가 끝나지 않았다면 snapshot을 저장하지 않고 현재 투표 결과를 응답한다.
+     */
     @GetMapping("/result")
     public ResponseEntity getGameResultInformation(CommonRequest dto) {
 
-        messageGameResultToServerIfFirstMessage(dto);
-
-        return ResponseEntity.ok()
-                .body(SendSuccessBody.of(gameFacadeService
-                        .sendGameResultToClient(dto.getGameId())));
-    }
-
-    private void messageGameResultToServerIfFirstMessage(CommonRequest dto) {
-        GameResultToServerDto gameResultToServerDto = gameFacadeService
-                .sendGameResultToServer(dto.getGameId());
+        byte[] snapshot = gameFacadeService.findGameResultSnapshot(dto.getGameId());
+        if (snapshot == null) snapshot = gameFacadeService.closeGameResult(dto.getGameId());
 
-        if (gameResultToServerDto != null) {
-            SendMessageRequest sendMessageRequest = new SendMessageRequest()
-                    .withQueueUrl(getQueueUrl())
-                    .withMessageBody(gameResultToServerDto.toString());
-            amazonSQS.sendMessage(sendMessageRequest);
+        if (snapshot == null) {
+            return ResponseEntity.ok()
+                    .body(SendSuccessBody.of(gameFacadeService.sendGameResultToClient(dto.getGameId())));
         }
-    }
 
-    private String getQueueUrl() {
-        GetQueueUrlResult queueUrlResult = amazonSQS.getQueueUrl(queueName);
-        return queueUrlResult.getQueueUrl();
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(snapshot);
     }
-
 }
@@ -1,36 +1,267 @@
 package liar.gamemvcservice.game.controller;
 
 import com.amazonaws.services.sqs.AmazonSQS;
+import com.amazonaws.services.sqs.model.BatchResultErrorEntry;
+import com.amazonaws.services.sqs.model.DeleteMessageBatchRequest;
+import com.amazonaws.services.sqs.model.DeleteMessageBatchRequestEntry;
+import com.amazonaws.services.sqs.model.DeleteMessageBatchResult;
 import com.amazonaws.services.sqs.model.Message;
+import com.amazonaws.services.sqs.model.MessageSystemAttributeName;
 import com.amazonaws.services.sqs.model.ReceiveMessageRequest;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.messaging.MessageHandler;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * sqs 메세지를 전용 스레드에서 받아 처리한다.
+ * poller 스레드는 long polling으로 메세지를 받아 크기가 제한된 hand-off 큐에 넣고,
+ * worker 스레드는 큐에서 꺼낸 메세지를 SqsMessageReceivedEvent로 발행한다.
+ * listener가 handled()로 처리를 알린 메세지만 모아서 DeleteMessageBatch로 삭제하고,
+ * 처리한 listener가 없는 메세지는 삭제하지 않아 다시 전달되도록 한다.
+ * 받았지만 처리를 마치지 않은 메세지 수는 maxInFlight 개로 제한되므로, worker가 밀리면 poller가 수신을 멈춘다.
+ */
+@Slf4j
 @Component
-@RequiredArgsConstructor
 public class ScheduleController {
 
+    private static final int MAX_BATCH_SIZE = 10;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
     private final AmazonSQS amazonSQS;
-    private final MessageHandler messageHandler;
-
-    @Value("${aws.sqs.queueUrl}")
-    private String sqsQueueUrl;
-
-    @Scheduled(fixedRate = 1000)
-    public void receiveMessages() {
-        ReceiveMessageRequest request = new ReceiveMessageRequest()
-                .withQueueUrl(sqsQueueUrl)
-                .withMaxNumberOfMessages(10)
-                .withWaitTimeSeconds(20);
-        List<Message> messages = amazonSQS.receiveMessage(request).getMessages();
-        for (Message message : messages) {
-//            messageHandler.handleMessage(message.getBody());
-            amazonSQS.deleteMessage(sqsQueueUrl, message.getReceiptHandle());
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    private final String sqsQueueUrl;
+    private final boolean enabled;
+    private final int pollerCnt;
+    private final int workerCnt;
+    private final int waitTimeSeconds;
+    private final long ackFlushMillis;
+    private final long errorBackoffMillis;
+
+    private final Semaphore inFlight;
+    private final BlockingQueue<Message> handoff;
+    private final BlockingQueue<String> acks = new LinkedBlockingQueue<>();
+
+    private ExecutorService pollers;
+    private ExecutorService workers;
+    private ScheduledExecutorService acker;
+    private volatile boolean running;
+
+    private final Counter receivedCounter;
+    private final Counter processedCounter;
+    private final Counter failedCounter;
+    private final Counter unhandledCounter;
+    private final Counter deletedCounter;
+    private final Timer lagTimer;
+
+    public ScheduleController(AmazonSQS amazonSQS,
+                              ApplicationEventPublisher applicationEventPublisher,
+                              MeterRegistry meterRegistry,
+                              @Value("${aws.sqs.queueUrl}") String sqsQueueUrl,
+                              @Value("${game.sqs.consumer.enabled:false}") boolean enabled,
+                              @Value("${game.sqs.consumer.pollers:2}") int pollerCnt,
+                              @Value("${game.sqs.consumer.workers:8}") int workerCnt,
+                              @Value("${game.sqs.consumer.max-in-flight:100}") int maxInFlight,
+                              @Value("${game.sqs.consumer.queue-capacity:100}") int queueCapacity,
+                              @Value("${game.sqs.consumer.wait-time-seconds:20}") int waitTimeSeconds,
+                              @Value("${game.sqs.consumer.ack-flush-millis:100}") long ackFlushMillis,
+                              @Value("${game.sqs.consumer.error-backoff-millis:1000}") long errorBackoffMillis) {
+        this.amazonSQS = amazonSQS;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.sqsQueueUrl = sqsQueueUrl;
+        this.enabled = enabled;
+        this.pollerCnt = pollerCnt;
+        this.workerCnt = workerCnt;
+        this.waitTimeSeconds = waitTimeSeconds;
+        this.ackFlushMillis = ackFlushMillis;
+        this.errorBackoffMillis = errorBackoffMillis;
+        this.inFlight = new Semaphore(maxInFlight);
+        this.handoff = new ArrayBlockingQueue<>(queueCapacity);
+
+        this.receivedCounter = Counter.builder("game.sqs.received").register(meterRegistry);
+        this.processedCounter = Counter.builder("game.sqs.processed").register(meterRegistry);
+        this.failedCounter = Counter.builder("game.sqs.failed").register(meterRegistry);
+        this.unhandledCounter = Counter.builder("game.sqs.unhandled").register(meterRegistry);
+        this.deletedCounter = Counter.builder("game.sqs.deleted").register(meterRegistry);
+        this.lagTimer = Timer.builder("game.sqs.lag")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("game.sqs.in-flight", inFlight, semaphore -> maxInFlight - semaphore.availablePermits())
+                .register(meterRegistry);
+        Gauge.builder("game.sqs.handoff", handoff, BlockingQueue::size)
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startIfEnabled() {
+        if (enabled) start();
+    }
+
+    public synchronized void start() {
+        if (running) return;
+        running = true;
+
+        pollers = Executors.newFixedThreadPool(pollerCnt);
+        workers = Executors.newFixedThreadPool(workerCnt);
+        acker = Executors.newSingleThreadScheduledExecutor();
+
+        for (int i = 0; i < pollerCnt; i++) pollers.execute(this::poll);
+        for (int i = 0; i < workerCnt; i++) workers.execute(this::work);
+        acker.scheduleWithFixedDelay(this::flushAcks, ackFlushMillis, ackFlushMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 수신을 멈추고, hand-off 큐에 남은 메세지를 처리한 뒤 삭제 요청을 보낸다.
+     */
+    @PreDestroy
+    public synchronized void stop() throws InterruptedException {
+        if (!running) return;
+        running = false;
+
+        pollers.shutdownNow();
+        workers.shutdown();
+        workers.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        acker.shutdown();
+        acker.awaitTermination(ackFlushMillis, TimeUnit.MILLISECONDS);
+        flushAcks();
+    }
+
+    private void poll() {
+        while (running) {
+            int permits = 0;
+            try {
+                permits = acquirePermits();
+                List<Message> messages = amazonSQS.receiveMessage(new ReceiveMessageRequest()
+                                .withQueueUrl(sqsQueueUrl)
+                                .withMaxNumberOfMessages(permits)
+                                .withWaitTimeSeconds(waitTimeSeconds)
+                                .withAttributeNames(MessageSystemAttributeName.SentTimestamp.toString()))
+                        .getMessages();
+
+                inFlight.release(permits - messages.size());
+                permits = 0;
+                receivedCounter.increment(messages.size());
+                for (Message message : messages) {
+                    handoff.put(message);
+                }
+            } catch (InterruptedException e) {
+                inFlight.release(permits);
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                inFlight.release(permits);
+                log.warn("sqs receive failed, queueUrl = {}", sqsQueueUrl, e);
+                if (!sleepQuietly(errorBackoffMillis)) return;
+            }
+        }
+    }
+
+    /**
+     * 최소 1개, 최대 10개의 처리 가능 수를 가져온다. 가져온 만큼만 메세지를 받는다.
+     */
+    private int acquirePermits() throws InterruptedException {
+        inFlight.acquire();
+        int permits = 1;
+        while (permits < MAX_BATCH_SIZE && inFlight.tryAcquire()) {
+            permits++;
+        }
+        return permits;
+    }
+
+    private void work() {
+        while (running || !handoff.isEmpty()) {
+            try {
+                Message message = handoff.poll(100, TimeUnit.MILLISECONDS);
+                if (message != null) process(message);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void process(Message message) {
+        try {
+            recordLag(message);
+            SqsMessageReceivedEvent event = new SqsMessageReceivedEvent(message.getMessageId(), message.getBody());
+            applicationEventPublisher.publishEvent(event);
+            if (!event.isHandled()) {
+                unhandledCounter.increment();
+                log.warn("sqs message has no handler, messageId = {}", message.getMessageId());
+                return;
+            }
+            acks.add(message.getReceiptHandle());
+            processedCounter.increment();
+        } catch (RuntimeException e) {
+            failedCounter.increment();
+            log.warn("sqs message handling failed, messageId = {}", message.getMessageId(), e);
+        } finally {
+            inFlight.release();
+        }
+    }
+
+    private void recordLag(Message message) {
+        String sentTimestamp = message.getAttributes().get(MessageSystemAttributeName.SentTimestamp.toString());
+        if (sentTimestamp == null) return;
+        lagTimer.record(Math.max(System.currentTimeMillis() - Long.parseLong(sentTimestamp), 0), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 쌓인 삭제 요청을 10개씩 DeleteMessageBatch로 보낸다.
+     * 삭제에 실패한 메세지는 visibility timeout 후 다시 전달된다.
+     */
+    private void flushAcks() {
+        List<String> receiptHandles = new ArrayList<>(MAX_BATCH_SIZE);
+        while (acks.drainTo(receiptHandles, MAX_BATCH_SIZE) > 0) {
+            deleteBatch(receiptHandles);
+            receiptHandles.clear();
+        }
+    }
+
+    private void deleteBatch(List<String> receiptHandles) {
+        List<DeleteMessageBatchRequestEntry> entries = new ArrayList<>(receiptHandles.size());
+        for (int i = 0; i < receiptHandles.size(); i++) {
+            entries.add(new DeleteMessageBatchRequestEntry(String.valueOf(i), receiptHandles.get(i)));
+        }
+
+        try {
+            DeleteMessageBatchResult result = amazonSQS.deleteMessageBatch(
+                    new DeleteMessageBatchRequest(sqsQueueUrl, entries));
+            deletedCounter.increment(result.getSuccessful().size());
+            for (BatchResultErrorEntry error : result.getFailed()) {
+                log.warn("sqs delete failed, code = {}, message = {}", error.getCode(), error.getMessage());
+            }
+        } catch (RuntimeException e) {
+            log.warn("sqs delete batch failed, size = {}", entries.size(), e);
+        }
+    }
+
+    private boolean sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
         }
     }
 }
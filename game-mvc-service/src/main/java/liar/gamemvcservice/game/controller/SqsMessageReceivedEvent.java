@@ -0,0 +1,25 @@
+package liar.gamemvcservice.game.controller;
+
+import lombok.Getter;
+
+/**
+ * sqs에서 받은 메세지 1건마다 발행된다.
+ * 메세지를 처리한 listener는 handled()를 호출해야 하며, handled()가 호출된 메세지만 삭제된다.
+ * 처리한 listener가 없거나 listener가 예외를 던지면, 메세지는 visibility timeout 후 다시 전달된다.
+ */
+@Getter
+public class SqsMessageReceivedEvent {
+
+    private final String messageId;
+    private final String body;
+    private volatile boolean handled;
+
+    public SqsMessageReceivedEvent(String messageId, String body) {
+        this.messageId = messageId;
+        this.body = body;
+    }
+
+    public void handled() {
+        this.handled = true;
+    }
+}
@@ -0,0 +1,35 @@
+package liar.gamemvcservice.game.controller;
+
+import liar.gamemvcservice.common.websocket.GameTopicBroadcaster;
+import liar.gamemvcservice.exception.exception.NotUserTurnException;
+import liar.gamemvcservice.game.controller.dto.message.message.ChatMessageResponse;
+import liar.gamemvcservice.game.domain.NextTurn;
+import liar.gamemvcservice.game.service.GameFacadeService;
+import liar.gamemvcservice.game.service.turn.TurnExpiredEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TurnTimeoutController {
+
+    private final GameFacadeService gameFacadeService;
+    private final GameTopicBroadcaster gameTopicBroadcaster;
+
+    /**
+     * 제한 시간이 지난 턴을 넘기고, 다음 턴을 게임 topic으로 알린다.
+     * 그 사이 플레이어가 턴을 마쳤다면 아무것도 하지 않는다.
+     */
+    @EventListener
+    public void timeOutTurn(TurnExpiredEvent event) throws InterruptedException {
+        try {
+            NextTurn nextTurn = gameFacadeService.setNextTurnByTimeOut(event.getGameId(), event.getExpiredTurn());
+            gameTopicBroadcaster.broadcast(event.getGameId(), ChatMessageResponse.timeOut(nextTurn));
+        } catch (NotUserTurnException e) {
+            log.debug("turn already passed, gameId = {}, turn = {}", event.getGameId(), event.getExpiredTurn());
+        }
+    }
+}
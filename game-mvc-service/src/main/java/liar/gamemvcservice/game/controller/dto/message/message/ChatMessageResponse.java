@@ -11,6 +11,8 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 public class ChatMessageResponse<T> {
 
+    private static final String TIME_OUT_MESSAGE = "시간 초과";
+
     private String userId;
     private String charMessage;
     private LocalDateTime createdAt;
@@ -36,4 +38,11 @@ public class ChatMessageResponse<T> {
     public static <T> ChatMessageResponse of(ChatMessage msg, T body) {
         return new ChatMessageResponse(msg.getUserId(), msg.getCharMessage(), body);
     }
+
+    /**
+     * 서버가 시간 초과로 턴을 넘겼을 때의 메시지 (userId 없음)
+     */
+    public static <T> ChatMessageResponse timeOut(T body) {
+        return new ChatMessageResponse(null, TIME_OUT_MESSAGE, body);
+    }
 }
@@ -36,7 +36,7 @@ public class ChatInterceptor implements ChannelInterceptor {
         String gameId = headerAccessor.getFirstNativeHeader("gameId");
 
         if(userId != null && gameId != null) {
-            if (gameFacadeServiceImpl.findJoinPlayer(gameId, userId) != null) {
+            if (gameFacadeServiceImpl.isJoinPlayer(gameId, userId)) {
                 return true;
             }
         }
@@ -0,0 +1,63 @@
+package liar.gamemvcservice.game.controller.interceptor;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 요청 body를 한 번만 읽고, 타입 별로 한 번만 역직렬화하여 request attribute에 보관한다.
+ * interceptor가 읽은 body는 ParsedRequestBodyAdvice가 @RequestBody 인자로 그대로 전달하므로,
+ * controller는 body를 다시 읽거나 역직렬화하지 않는다.
+ */
+@Component
+public class ParsedRequestBody {
+
+    private static final String ATTRIBUTE = ParsedRequestBody.class.getName();
+
+    private final ObjectMapper objectMapper;
+
+    public ParsedRequestBody(MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter) {
+        this.objectMapper = mappingJackson2HttpMessageConverter.getObjectMapper();
+    }
+
+    /**
+     * body를 type으로 역직렬화한다. body가 없다면 null
+     */
+    public <T> T read(HttpServletRequest request, Class<T> type) throws IOException {
+        CachedBody cachedBody = (CachedBody) request.getAttribute(ATTRIBUTE);
+        if (cachedBody == null) {
+            cachedBody = new CachedBody(StreamUtils.copyToByteArray(request.getInputStream()));
+            request.setAttribute(ATTRIBUTE, cachedBody);
+        }
+
+        Object parsed = cachedBody.parsed.get(type);
+        if (parsed == null && cachedBody.raw.length > 0) {
+            parsed = objectMapper.readValue(cachedBody.raw, type);
+            cachedBody.parsed.put(type, parsed);
+        }
+        return type.cast(parsed);
+    }
+
+    /**
+     * 이미 type으로 역직렬화한 body가 있다면 반환하고, 없다면 null
+     */
+    public Object find(HttpServletRequest request, Class<?> type) {
+        CachedBody cachedBody = (CachedBody) request.getAttribute(ATTRIBUTE);
+        return cachedBody == null ? null : cachedBody.parsed.get(type);
+    }
+
+    private static class CachedBody {
+        private final byte[] raw;
+        private final Map<Class<?>, Object> parsed = new HashMap<>(2);
+
+        private CachedBody(byte[] raw) {
+            this.raw = raw;
+        }
+    }
+}
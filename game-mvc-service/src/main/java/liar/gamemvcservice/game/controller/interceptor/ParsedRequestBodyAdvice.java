@@ -0,0 +1,43 @@
+package liar.gamemvcservice.game.controller.interceptor;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.mvc.method.annotation.RequestBodyAdviceAdapter;
+
+import java.lang.reflect.Type;
+
+/**
+ * interceptor가 body를 먼저 읽으면 @RequestBody 처리 시점에는 body가 비어 있으므로,
+ * ParsedRequestBody에 보관된 객체를 @RequestBody 인자로 사용한다.
+ * @Valid 검증은 반환된 객체에 그대로 적용된다.
+ */
+@ControllerAdvice
+@RequiredArgsConstructor
+public class ParsedRequestBodyAdvice extends RequestBodyAdviceAdapter {
+
+    private final ParsedRequestBody parsedRequestBody;
+
+    @Override
+    public boolean supports(MethodParameter methodParameter, Type targetType,
+                            Class<? extends HttpMessageConverter<?>> converterType) {
+        return targetType instanceof Class;
+    }
+
+    @Override
+    public Object handleEmptyBody(Object body, HttpInputMessage inputMessage, MethodParameter parameter,
+                                  Type targetType, Class<? extends HttpMessageConverter<?>> converterType) {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (!(requestAttributes instanceof ServletRequestAttributes servletRequestAttributes)) return body;
+
+        HttpServletRequest request = servletRequestAttributes.getRequest();
+        Object parsed = parsedRequestBody.find(request, (Class<?>) targetType);
+        return parsed != null ? parsed : body;
+    }
+}
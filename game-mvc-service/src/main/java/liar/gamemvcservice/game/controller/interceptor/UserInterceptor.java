@@ -1,36 +1,48 @@
 package liar.gamemvcservice.game.controller.interceptor;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import liar.gamemvcservice.exception.exception.NotEqualUserIdException;
-import liar.gamemvcservice.game.service.dto.CommonDto;
+import liar.gamemvcservice.game.controller.dto.request.CommonRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
 
-import java.util.stream.Collectors;
+import java.util.Map;
 
 @Component
 @RequiredArgsConstructor
 public class UserInterceptor implements HandlerInterceptor {
 
-    private final ObjectMapper objectMapper;
+    private final ParsedRequestBody parsedRequestBody;
 
+    /**
+     * path의 userId와 header의 userId를 먼저 비교하고, 같을 때만 body를 읽는다.
+     * 읽은 body는 controller의 @RequestBody로 그대로 전달된다.
+     */
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
-        String userId = request.getPathInfo().split("/")[1];
+        String userId = getPathUserId(request);
 
         String headerUserId = request.getHeader("userId");
-        CommonDto dto = objectMapper
-                .readValue(request.getReader().lines().collect(Collectors.joining()),
-                        CommonDto.class);
+        if (userId == null || !userId.equals(headerUserId)) {
+            throw new NotEqualUserIdException();
+        }
 
-        if (!(headerUserId.equals(userId) && dto.getUserId().equals(userId))) {
+        CommonRequest dto = parsedRequestBody.read(request, CommonRequest.class);
+        if (dto == null || !userId.equals(dto.getUserId())) {
             throw new NotEqualUserIdException();
         }
 
         return true;
     }
 
+    @SuppressWarnings("unchecked")
+    private String getPathUserId(HttpServletRequest request) {
+        Map<String, String> pathVariables = (Map<String, String>) request
+                .getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        return pathVariables == null ? null : pathVariables.get("userId");
+    }
+
 }
@@ -1,8 +1,10 @@
 package liar.gamemvcservice.game.domain;
 
 import jakarta.persistence.Id;
+import liar.gamemvcservice.common.redis.VersionedEntity;
 import liar.gamemvcservice.game.service.dto.SetUpGameDto;
 import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.springframework.data.redis.core.RedisHash;
@@ -13,8 +15,9 @@ import java.util.UUID;
 
 @Getter
 @RedisHash("Game")
+@AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class Game {
+public class Game implements VersionedEntity {
 
     @Id
     private String id;
@@ -26,6 +29,7 @@ public class Game {
     private Topic topic;
     private boolean sendMessage;
     private boolean sendMessageSuccess;
+    private long version;
 
     protected Game (SetUpGameDto setUpGameDto) {
         this.id = UUID.randomUUID().toString();
@@ -62,6 +66,11 @@ public class Game {
         return this;
     }
 
+    @Override
+    public void increaseVersion() {
+        this.version++;
+    }
+
     @Override
     public String toString() {
         return "Game:" + id;
@@ -0,0 +1,51 @@
+package liar.gamemvcservice.game.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * gameId 하나의 redis hash에 함께 저장되는 게임 상태
+ * game, 플레이어 역할, 턴 순서, 투표 기록을 한 번의 조회로 읽는다.
+ * 턴 순서와 투표 기록은 플레이어 ordinal로 저장되어 있으며, 조회 시 playerOrdinals로 userId로 변환한다.
+ */
+@Getter
+@AllArgsConstructor
+public class GameAggregate {
+
+    private String gameId;
+    private Game game;
+    private List<Player> players;
+    private PlayerOrdinals playerOrdinals;
+    private int[] turns;
+    private int nowTurn;
+    private VoteTally voteTally;
+
+    /**
+     * 턴이 설정되지 않았다면 null
+     */
+    public GameTurn toGameTurn() {
+        if (turns == null) return null;
+        return new GameTurn(gameId, gameId, playerOrdinals.toUserIds(turns), nowTurn, nowTurn);
+    }
+
+    /**
+     * 후보 별 득표 결과로 변환한다.
+     * 투표가 시작되지 않았다면 null
+     */
+    public Vote toVote() {
+        if (voteTally == null) return null;
+        return new Vote(gameId, gameId, voteTally.toVotedResults(playerOrdinals),
+                LocalDateTime.now(), voteTally.getTotalCnt());
+    }
+
+    /**
+     * 최다 득표 결과만 변환한다. 투표가 시작되지 않았다면 null
+     */
+    public List<VotedResult> toMostVotedResults() {
+        if (voteTally == null) return null;
+        return voteTally.toMostVotedResults(playerOrdinals);
+    }
+}
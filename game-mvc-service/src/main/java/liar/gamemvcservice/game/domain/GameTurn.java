@@ -1,6 +1,7 @@
 package liar.gamemvcservice.game.domain;
 
 import jakarta.persistence.Id;
+import liar.gamemvcservice.common.redis.VersionedEntity;
 import liar.gamemvcservice.exception.exception.GameTurnEndException;
 import liar.gamemvcservice.exception.exception.NotUserTurnException;
 import lombok.AccessLevel;
@@ -17,7 +18,7 @@ import java.util.UUID;
 @RedisHash("GameTurn")
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class GameTurn {
+public class GameTurn implements VersionedEntity {
 
     @Id
     private String id;
@@ -27,6 +28,7 @@ public class GameTurn {
 
     private List<String> playerTurnsConsistingOfUserId;
     private int nowTurn;
+    private long version;
 
     public GameTurn(String gameId, List<String> playerTurnsConsistingOfUserId) {
         this.id = UUID.randomUUID().toString();
@@ -55,6 +57,27 @@ public class GameTurn {
         return this;
     }
 
+    /**
+     * 시간이 초과된 턴(expiredTurn)이 아직 현재 턴이라면, 타임아웃을 실행한다.
+     * 이미 턴이 넘어갔다면 NotUserTurnException을 호출한다.
+     */
+    public GameTurn updateTurnCntByTimeOut(int expiredTurn) {
+        if (nowTurn == expiredTurn) return updateTurnCntByTimeOut();
+        throw new NotUserTurnException();
+    }
+
+    /**
+     * 비동기 저장을 위해 현재 턴 상태를 복사한다.
+     */
+    public GameTurn snapshot() {
+        return new GameTurn(id, gameId, playerTurnsConsistingOfUserId, nowTurn, version);
+    }
+
+    @Override
+    public void increaseVersion() {
+        this.version++;
+    }
+
     /**
      * 플레이어의 턴이 맞는지 확인하는 메소드
      */
@@ -75,9 +98,9 @@ public class GameTurn {
         int lastTurn = playerTurnsConsistingOfUserId.size() * 2;
 
         if (nowTurn > lastTurn) throw new GameTurnEndException();
-        else if (nowTurn == lastTurn) return new NextTurn(null, true);
+        else if (nowTurn == lastTurn) return new NextTurn(null, true, nowTurn);
         else return new NextTurn(playerTurnsConsistingOfUserId
-                    .get(nowTurn % playerTurnsConsistingOfUserId.size()), false);
+                    .get(nowTurn % playerTurnsConsistingOfUserId.size()), false, nowTurn);
     }
 }
 
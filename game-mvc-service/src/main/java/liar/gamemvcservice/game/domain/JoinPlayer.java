@@ -2,6 +2,7 @@ package liar.gamemvcservice.game.domain;
 
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
+import liar.gamemvcservice.common.redis.VersionedEntity;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -13,7 +14,7 @@ import java.util.UUID;
 @Getter
 @RedisHash("JoinPlayer")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class JoinPlayer {
+public class JoinPlayer implements VersionedEntity {
 
     @Id
     private String id;
@@ -21,10 +22,16 @@ public class JoinPlayer {
     @Indexed
     private String gameId;
     private Player player;
+    private long version;
 
     public JoinPlayer(String gameId, Player player) {
         this.id = gameId + "_" + player.getUserId();
         this.gameId = gameId;
         this.player = player;
     }
+
+    @Override
+    public void increaseVersion() {
+        this.version++;
+    }
 }
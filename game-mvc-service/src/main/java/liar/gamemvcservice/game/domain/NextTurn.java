@@ -11,5 +11,6 @@ public class NextTurn {
 
     private String userIdOfNextTurn;
     private boolean isLastTurn;
+    private int nowTurn;
 
 }
\ No newline at end of file
@@ -0,0 +1,82 @@
+package liar.gamemvcservice.game.domain;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 게임 1개의 userId를 0부터 시작하는 작은 정수(ordinal)로 치환하는 intern 테이블
+ * 게임 설정 시 플레이어 순서대로 ordinal을 부여하며, 이후 턴 순서와 투표 기록은 userId 대신 ordinal로 저장한다.
+ * 한 게임의 플레이어는 많지 않으므로, map을 만들지 않고 배열을 순회하여 ordinal을 찾는다.
+ */
+public class PlayerOrdinals {
+
+    public static final int MAX_PLAYERS = Long.SIZE;
+
+    private final String[] userIds;
+
+    private PlayerOrdinals(String[] userIds) {
+        if (userIds.length > MAX_PLAYERS) {
+            throw new IllegalArgumentException("too many players: " + userIds.length);
+        }
+        this.userIds = userIds;
+    }
+
+    public static PlayerOrdinals of(List<String> userIds) {
+        return new PlayerOrdinals(userIds.toArray(new String[0]));
+    }
+
+    /**
+     * ordinal 자리에 userId가 놓인 배열로 생성한다. 비어있는 ordinal이 있다면 IllegalArgumentException
+     */
+    public static PlayerOrdinals of(String[] userIdsByOrdinal) {
+        for (String userId : userIdsByOrdinal) {
+            if (userId == null) throw new IllegalArgumentException("missing ordinal");
+        }
+        return new PlayerOrdinals(userIdsByOrdinal.clone());
+    }
+
+    /**
+     * userId의 ordinal, 게임의 플레이어가 아니라면 -1
+     */
+    public int ordinalOf(String userId) {
+        for (int i = 0; i < userIds.length; i++) {
+            if (userIds[i].equals(userId)) return i;
+        }
+        return -1;
+    }
+
+    public String userIdOf(int ordinal) {
+        return userIds[ordinal];
+    }
+
+    public int size() {
+        return userIds.length;
+    }
+
+    public List<String> getUserIds() {
+        return new ArrayList<>(Arrays.asList(userIds));
+    }
+
+    /**
+     * ordinal 배열을 userId 목록으로 변환한다.
+     */
+    public List<String> toUserIds(int[] ordinals) {
+        List<String> result = new ArrayList<>(ordinals.length);
+        for (int ordinal : ordinals) {
+            result.add(userIds[ordinal]);
+        }
+        return result;
+    }
+
+    /**
+     * bitmask에 포함된 ordinal을 오름차순의 userId 목록으로 변환한다.
+     */
+    public List<String> toUserIds(long mask) {
+        List<String> result = new ArrayList<>(Long.bitCount(mask));
+        for (long remain = mask; remain != 0; remain &= remain - 1) {
+            result.add(userIds[Long.numberOfTrailingZeros(remain)]);
+        }
+        return result;
+    }
+}
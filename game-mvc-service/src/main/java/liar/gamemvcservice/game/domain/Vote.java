@@ -1,6 +1,7 @@
 package liar.gamemvcservice.game.domain;
 
 import jakarta.persistence.Id;
+import liar.gamemvcservice.common.redis.VersionedEntity;
 import liar.gamemvcservice.exception.exception.NotFoundUserException;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -17,7 +18,7 @@ import java.util.stream.Collectors;
 @AllArgsConstructor
 @RedisHash(value = "Vote")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class Vote {
+public class Vote implements VersionedEntity {
 
     @Id
     private String id;
@@ -25,6 +26,7 @@ public class Vote {
     private String gameId;
     private List<VotedResult> votedResults;
     private LocalDateTime modifiedAt;
+    private long version;
 
     public Vote(String gameId, List<String> userIds) {
         this.id = UUID.randomUUID().toString();
@@ -36,25 +38,47 @@ public class Vote {
         this.modifiedAt = LocalDateTime.now();
     }
 
-    public void updateVoteResults(String userId, String liarId) {
-        votedResults.stream()
+    /**
+     * 투표가 반영되면 true, 후보가 아니라면 false
+     */
+    public boolean updateVoteResults(String userId, String liarId) {
+        Optional<VotedResult> findVotedResult = votedResults.stream()
                 .filter(vote -> vote.getLiarId().equals(liarId))
-                .findFirst()
-                .ifPresent(votedResult -> {
-                    votedResult.addUserId(userId);
-                    modifiedAt = LocalDateTime.now();
-                });
+                .findFirst();
 
+        findVotedResult.ifPresent(votedResult -> {
+            votedResult.addUserId(userId);
+            modifiedAt = LocalDateTime.now();
+        });
+        return findVotedResult.isPresent();
     }
 
+    /**
+     * 최다 득표 수를 먼저 찾고, 같은 득표 수의 결과만 모은다.
+     * 득표 수 별로 그룹을 만들지 않으므로 후보 수만큼의 boxing, map 할당이 없다.
+     */
     public List<VotedResult> getMostVotedResult() {
-        return votedResults.stream()
-                .collect(Collectors.groupingBy(VotedResult::getCnt))
-                .entrySet()
-                .stream()
-                .max(Map.Entry.comparingByKey())
-                .map(Map.Entry::getValue)
-                .orElse(Collections.emptyList());
+        int maxCnt = Integer.MIN_VALUE;
+        for (VotedResult votedResult : votedResults) {
+            maxCnt = Math.max(maxCnt, votedResult.getCnt());
+        }
+
+        List<VotedResult> mostVotedResults = new ArrayList<>();
+        for (VotedResult votedResult : votedResults) {
+            if (votedResult.getCnt() == maxCnt) mostVotedResults.add(votedResult);
+        }
+        return mostVotedResults;
+    }
+
+    /**
+     * 후보(플레이어) 모두가 투표했다면 투표가 끝난 것으로 본다.
+     */
+    public boolean isClosed() {
+        long voterCnt = votedResults.stream()
+                .flatMap(votedResult -> votedResult.getUserIds().stream())
+                .distinct()
+                .count();
+        return voterCnt >= votedResults.size();
     }
 
     public VotedResult getVotedResult(String userId) {
@@ -63,7 +87,12 @@ public class Vote {
                 .findFirst()
                 .orElseThrow(NotFoundUserException::new);
     }
-    
+
+    @Override
+    public void increaseVersion() {
+        this.version++;
+    }
+
     @Override
     public String toString() {
         return "Vote:" + id;
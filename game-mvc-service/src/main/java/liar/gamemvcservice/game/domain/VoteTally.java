@@ -0,0 +1,104 @@
+package liar.gamemvcservice.game.domain;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * ordinal로 표현된 투표 집계
+ * 후보 별 득표 수는 int 배열, 후보 별 투표한 유저는 long bitmask로 보관하고,
+ * 최다 득표 수와 최다 득표 후보 bitmask는 투표가 반영될 때마다 갱신하여 조회 시 다시 세지 않는다.
+ */
+public class VoteTally {
+
+    private static final int NOT_VOTED = -1;
+
+    private final int[] counts;
+    private final long[] voterMasks;
+    private final int[] ballots;
+    private int maxCnt;
+    private long mostVotedMask;
+    private int totalCnt;
+
+    /**
+     * 후보는 ordinal 0 ~ size - 1 이며, 모든 후보가 0표인 상태로 시작한다.
+     */
+    public VoteTally(int size) {
+        if (size > PlayerOrdinals.MAX_PLAYERS) {
+            throw new IllegalArgumentException("too many players: " + size);
+        }
+        this.counts = new int[size];
+        this.voterMasks = new long[size];
+        this.ballots = new int[size];
+        Arrays.fill(ballots, NOT_VOTED);
+        this.mostVotedMask = size == Long.SIZE ? -1L : (1L << size) - 1;
+    }
+
+    /**
+     * 투표가 반영되면 true, 이미 투표한 유저이거나 후보가 아니라면 false
+     */
+    public boolean cast(int voter, int candidate) {
+        if (voter < 0 || voter >= ballots.length || candidate < 0 || candidate >= counts.length) return false;
+        if (ballots[voter] != NOT_VOTED) return false;
+
+        ballots[voter] = candidate;
+        voterMasks[candidate] |= 1L << voter;
+        totalCnt++;
+
+        int cnt = ++counts[candidate];
+        if (cnt > maxCnt) {
+            maxCnt = cnt;
+            mostVotedMask = 1L << candidate;
+        } else if (cnt == maxCnt) {
+            mostVotedMask |= 1L << candidate;
+        }
+        return true;
+    }
+
+    public int getCnt(int candidate) {
+        return counts[candidate];
+    }
+
+    public int getMaxCnt() {
+        return maxCnt;
+    }
+
+    public long getMostVotedMask() {
+        return mostVotedMask;
+    }
+
+    public long getVoterMask(int candidate) {
+        return voterMasks[candidate];
+    }
+
+    public int getTotalCnt() {
+        return totalCnt;
+    }
+
+    /**
+     * 모든 후보의 득표 결과를 ordinal 순서대로 userId로 변환한다.
+     */
+    public List<VotedResult> toVotedResults(PlayerOrdinals playerOrdinals) {
+        List<VotedResult> votedResults = new ArrayList<>(counts.length);
+        for (int candidate = 0; candidate < counts.length; candidate++) {
+            votedResults.add(toVotedResult(playerOrdinals, candidate));
+        }
+        return votedResults;
+    }
+
+    /**
+     * 최다 득표 후보의 득표 결과만 userId로 변환한다.
+     */
+    public List<VotedResult> toMostVotedResults(PlayerOrdinals playerOrdinals) {
+        List<VotedResult> votedResults = new ArrayList<>(Long.bitCount(mostVotedMask));
+        for (long remain = mostVotedMask; remain != 0; remain &= remain - 1) {
+            votedResults.add(toVotedResult(playerOrdinals, Long.numberOfTrailingZeros(remain)));
+        }
+        return votedResults;
+    }
+
+    private VotedResult toVotedResult(PlayerOrdinals playerOrdinals, int candidate) {
+        return new VotedResult(playerOrdinals.userIdOf(candidate),
+                playerOrdinals.toUserIds(voterMasks[candidate]), counts[candidate]);
+    }
+}
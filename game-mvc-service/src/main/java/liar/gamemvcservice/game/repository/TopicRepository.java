@@ -4,7 +4,11 @@ import liar.gamemvcservice.game.domain.Topic;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface TopicRepository extends JpaRepository<Topic, Long> {
     Topic findTopicById(Long id);
+
+    List<Topic> findAllByOrderByIdAsc();
 }
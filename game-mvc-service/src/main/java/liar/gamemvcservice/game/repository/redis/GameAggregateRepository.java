@@ -0,0 +1,232 @@
+package liar.gamemvcservice.game.repository.redis;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import liar.gamemvcservice.exception.exception.NotFoundUserException;
+import liar.gamemvcservice.game.domain.Game;
+import liar.gamemvcservice.game.domain.GameAggregate;
+import liar.gamemvcservice.game.domain.GameRole;
+import liar.gamemvcservice.game.domain.Player;
+import liar.gamemvcservice.game.domain.PlayerOrdinals;
+import liar.gamemvcservice.game.domain.VoteTally;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.util.*;
+
+/**
+ * 게임 1개의 상태를 "GameAggregate:{gameId}" hash 하나에 저장한다.
+ * game(json), turns, nowTurn, voteOpened, role:{userId}, ballot:{ordinal} 필드로 구성되며,
+ * gameId 보조 인덱스 set을 만들지 않고 HGETALL 1회로 게임 전체를 조회한다.
+ * role 필드는 "{ordinal}:{역할}"로 플레이어의 ordinal을 함께 저장하고,
+ * 턴 순서("2,0,1")와 투표 기록(ballot:{투표한 유저 ordinal} -> 후보 ordinal)은 userId 대신 ordinal로 저장한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class GameAggregateRepository {
+
+    private static final String GAME = "game";
+    private static final String TURNS = "turns";
+    private static final String NOW_TURN = "nowTurn";
+    private static final String VOTE_OPENED = "voteOpened";
+    private static final String ROLE_PREFIX = "role:";
+    private static final String BALLOT_PREFIX = "ballot:";
+    private static final char ORDINAL_DELIMITER = ':';
+    private static final String TURN_DELIMITER = ",";
+
+    /**
+     * 투표가 시작되었고, 투표한 유저와 후보가 게임의 플레이어이며, 투표하지 않은 유저라면
+     * 두 유저의 ordinal로 투표를 기록한다.
+     */
+    private static final RedisScript<Long> BALLOT_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('HEXISTS', KEYS[1], 'voteOpened') == 0 then return 0 end " +
+            "local voter = redis.call('HGET', KEYS[1], 'role:' .. ARGV[1]) " +
+            "local liar = redis.call('HGET', KEYS[1], 'role:' .. ARGV[2]) " +
+            "voter = voter and string.match(voter, '^(%d+):') " +
+            "liar = liar and string.match(liar, '^(%d+):') " +
+            "if not voter or not liar then return 0 end " +
+            "return redis.call('HSETNX', KEYS[1], 'ballot:' .. voter, liar)",
+            Long.class);
+
+    /**
+     * 턴 순서가 저장되지 않았다면, userId를 role 필드의 ordinal로 바꾸어 저장한다.
+     * 저장했다면 1, 이미 저장되어 있다면 0, 역할이 없는 유저가 있다면 -1
+     */
+    private static final RedisScript<Long> TURNS_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('HEXISTS', KEYS[1], 'turns') == 1 then return 0 end " +
+            "local ordinals = {} " +
+            "for i, userId in ipairs(ARGV) do " +
+            "  local role = redis.call('HGET', KEYS[1], 'role:' .. userId) " +
+            "  local ordinal = role and string.match(role, '^(%d+):') " +
+            "  if not ordinal then return -1 end " +
+            "  ordinals[i] = ordinal " +
+            "end " +
+            "redis.call('HSET', KEYS[1], 'turns', table.concat(ordinals, ',')) " +
+            "redis.call('HSETNX', KEYS[1], 'nowTurn', '0') " +
+            "return 1",
+            Long.class);
+
+    /**
+     * 현재 턴이 기대한 값일 때만 다음 턴으로 변경한다.
+     */
+    private static final RedisScript<Long> TURN_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('HGET', KEYS[1], 'nowTurn') ~= ARGV[1] then return 0 end " +
+            "redis.call('HSET', KEYS[1], 'nowTurn', ARGV[2]) " +
+            "return 1",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public void saveGame(Game game) {
+        stringRedisTemplate.opsForHash().put(getKey(game.getId()), GAME, writeValue(game));
+    }
+
+    /**
+     * 플레이어의 역할을 저장한다. players의 순서가 플레이어의 ordinal이 된다.
+     */
+    public void saveRoles(String gameId, List<Player> players) {
+        Map<String, String> roles = new LinkedHashMap<>();
+        for (int ordinal = 0; ordinal < players.size(); ordinal++) {
+            Player player = players.get(ordinal);
+            roles.put(ROLE_PREFIX + player.getUserId(), ordinal + ":" + player.getGameRole().name());
+        }
+        stringRedisTemplate.opsForHash().putAll(getKey(gameId), roles);
+    }
+
+    /**
+     * 플레이어의 역할을 조회한다. 없다면 null
+     */
+    public GameRole findRole(String gameId, String userId) {
+        Object role = stringRedisTemplate.opsForHash().get(getKey(gameId), ROLE_PREFIX + userId);
+        return role == null ? null : parseRole((String) role);
+    }
+
+    /**
+     * 턴 순서가 저장되지 않았을 때만 저장한다.
+     * 턴 순서의 userId는 saveRoles로 역할이 저장된 플레이어여야 한다.
+     */
+    public boolean saveTurnsIfAbsent(String gameId, List<String> playerTurnsConsistingOfUserId) {
+        Long result = stringRedisTemplate.execute(TURNS_SCRIPT, Collections.singletonList(getKey(gameId)),
+                playerTurnsConsistingOfUserId.toArray());
+        if (result != null && result == -1L) throw new NotFoundUserException();
+        return result != null && result == 1L;
+    }
+
+    public boolean compareAndSetNowTurn(String gameId, int expectedTurn, int nextTurn) {
+        Long result = stringRedisTemplate.execute(TURN_SCRIPT, Collections.singletonList(getKey(gameId)),
+                String.valueOf(expectedTurn), String.valueOf(nextTurn));
+        return result != null && result == 1L;
+    }
+
+    public boolean openVote(String gameId) {
+        return Boolean.TRUE.equals(stringRedisTemplate.opsForHash().putIfAbsent(getKey(gameId), VOTE_OPENED, "1"));
+    }
+
+    /**
+     * 투표가 반영되면 true, 이미 투표한 유저이거나 후보가 아니라면 false
+     */
+    public boolean castBallot(String gameId, String userId, String liarId) {
+        Long result = stringRedisTemplate.execute(BALLOT_SCRIPT, Collections.singletonList(getKey(gameId)),
+                userId, liarId);
+        return result != null && result == 1L;
+    }
+
+    /**
+     * HGETALL 1회로 게임 상태를 조회한다. 저장된 게임이 없다면 null
+     * role 필드로 ordinal 테이블을 만든 뒤, 턴 순서와 투표 기록을 ordinal 그대로 읽는다.
+     */
+    public GameAggregate findAggregate(String gameId) {
+        Map<Object, Object> entries = stringRedisTemplate.opsForHash().entries(getKey(gameId));
+        if (entries.isEmpty()) return null;
+
+        List<Player> players = new ArrayList<>();
+        List<Integer> ordinals = new ArrayList<>();
+        entries.forEach((field, value) -> {
+            String name = (String) field;
+            if (!name.startsWith(ROLE_PREFIX)) return;
+            String role = (String) value;
+            players.add(new Player(name.substring(ROLE_PREFIX.length()), parseRole(role)));
+            ordinals.add(parseOrdinal(role));
+        });
+
+        String[] userIdsByOrdinal = new String[players.size()];
+        Player[] playersByOrdinal = new Player[players.size()];
+        for (int i = 0; i < players.size(); i++) {
+            int ordinal = ordinals.get(i);
+            if (ordinal < 0 || ordinal >= players.size()) throw new IllegalStateException("invalid ordinal: " + ordinal);
+            userIdsByOrdinal[ordinal] = players.get(i).getUserId();
+            playersByOrdinal[ordinal] = players.get(i);
+        }
+        PlayerOrdinals playerOrdinals = PlayerOrdinals.of(userIdsByOrdinal);
+
+        Object nowTurn = entries.get(NOW_TURN);
+        return new GameAggregate(gameId,
+                readValue((String) entries.get(GAME), new TypeReference<>() {}),
+                Arrays.asList(playersByOrdinal),
+                playerOrdinals,
+                parseTurns((String) entries.get(TURNS)),
+                nowTurn == null ? 0 : Integer.parseInt((String) nowTurn),
+                entries.containsKey(VOTE_OPENED) ? toVoteTally(entries, playerOrdinals.size()) : null);
+    }
+
+    public void delete(String gameId) {
+        stringRedisTemplate.delete(getKey(gameId));
+    }
+
+    private VoteTally toVoteTally(Map<Object, Object> entries, int size) {
+        VoteTally voteTally = new VoteTally(size);
+        entries.forEach((field, value) -> {
+            String name = (String) field;
+            if (!name.startsWith(BALLOT_PREFIX)) return;
+            voteTally.cast(Integer.parseInt(name.substring(BALLOT_PREFIX.length())), Integer.parseInt((String) value));
+        });
+        return voteTally;
+    }
+
+    private int[] parseTurns(String turns) {
+        if (turns == null) return null;
+        if (turns.isEmpty()) return new int[0];
+        String[] values = turns.split(TURN_DELIMITER);
+        int[] ordinals = new int[values.length];
+        for (int i = 0; i < values.length; i++) {
+            ordinals[i] = Integer.parseInt(values[i]);
+        }
+        return ordinals;
+    }
+
+    private GameRole parseRole(String role) {
+        return GameRole.valueOf(role.substring(role.indexOf(ORDINAL_DELIMITER) + 1));
+    }
+
+    private int parseOrdinal(String role) {
+        int idx = role.indexOf(ORDINAL_DELIMITER);
+        if (idx < 0) throw new IllegalStateException("role without ordinal: " + role);
+        return Integer.parseInt(role.substring(0, idx));
+    }
+
+    private String writeValue(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private <T> T readValue(String value, TypeReference<T> typeReference) {
+        if (value == null) return null;
+        try {
+            return objectMapper.readValue(value, typeReference);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String getKey(String gameId) {
+        return "GameAggregate:{" + gameId + "}";
+    }
+}
@@ -0,0 +1,346 @@
+package liar.gamemvcservice.game.repository.redis;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 끝난 게임의 redis key 만료와 보조 인덱스 정리를 처리한다.
+ * Game, GameTurn, Vote, JoinPlayer hash는 TTL 없이 저장되고, keyspace set(Game, GameTurn, ...)과
+ * gameId 인덱스 set(GameTurn:gameId:{gameId}, ...)은 hash가 사라져도 정리되지 않으므로,
+ * 게임이 끝나면 게임의 모든 key에 같은 TTL을 설정하여 hash와 인덱스 set이 함께 만료되도록 하고,
+ * 만료된 hash를 가리키는 인덱스 항목은 SCAN으로 조금씩 찾아 제거한다.
+ * 진행 중인 게임의 key에는 TTL을 설정하지 않는다.
+ * 인덱스 set에서 key 이름을 찾는 일은 java에서 하고, lua script는 KEYS로 넘겨받은 key만 사용한다.
+ */
+@Repository
+public class GameLifecycleRepository {
+
+    public static final List<String> KEYSPACES = Arrays.asList("Game", "GameTurn", "Vote", "JoinPlayer");
+    private static final List<String> ENTITY_KEYSPACES = Arrays.asList("GameTurn", "Vote", "JoinPlayer");
+    private static final Set<String> AGGREGATE_KEYSPACES = Set.of("GameAggregate", "VoteTally");
+
+    private static final long LIVE = 0;
+    private static final long FINISHED = 1;
+    private static final long ORPHANED = 2;
+    private static final long IDLE = 3;
+
+    /**
+     * SCAN 1회의 결과만 반환한다. 가져온 key는 script 안에서 사용하지 않는다.
+     * @return {다음 cursor, key 목록}
+     */
+    private static final RedisScript<List> SCAN_SCRIPT = new DefaultRedisScript<>(
+            "return redis.call('SCAN', ARGV[1], 'COUNT', ARGV[2])", List.class);
+
+    /**
+     * @return {다음 cursor, member 목록}
+     */
+    private static final RedisScript<List> SSCAN_SCRIPT = new DefaultRedisScript<>(
+            "return redis.call('SSCAN', KEYS[1], ARGV[1], 'COUNT', ARGV[2])", List.class);
+
+    /**
+     * KEYS[1] set의 member ARGV[i] 중, 가리키는 hash KEYS[i + 1]이 사라진 member를 제거한다.
+     * @return {제거한 member 수, 제거한 byte}
+     */
+    private static final RedisScript<List> REMOVE_MISSING_MEMBERS_SCRIPT = new DefaultRedisScript<>(
+            "local removed, bytes = 0, 0 " +
+            "for i, id in ipairs(ARGV) do " +
+            "  if redis.call('EXISTS', KEYS[i + 1]) == 0 and redis.call('SREM', KEYS[1], id) == 1 then " +
+            "    removed = removed + 1 " +
+            "    bytes = bytes + #id " +
+            "  end " +
+            "end " +
+            "return {removed, bytes}", List.class);
+
+    /**
+     * hash KEYS[2]가 사라졌다면 :idx set KEYS[1]을 제거한다.
+     * @return {제거한 key 수, 제거한 byte}
+     */
+    private static final RedisScript<List> DELETE_IF_MISSING_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[2]) == 1 then return {0, 0} end " +
+            "local bytes = redis.call('MEMORY', 'USAGE', KEYS[1]) or 0 " +
+            "return {redis.call('DEL', KEYS[1]), bytes}", List.class);
+
+    /**
+     * KEYS[1] 결과 snapshot, KEYS[2] Game hash, KEYS[3..] 게임 진행 중에 읽고 쓰는 key
+     * 결과 snapshot이 있다면 끝난 게임(1), Game hash가 없다면 고아 게임(2),
+     * 모든 key가 ARGV[1]초 넘게 사용되지 않았다면 버려진 게임(3), 나머지는 진행 중인 게임(0)이다.
+     * OBJECT IDLETIME을 쓸 수 없는 maxmemory-policy(LFU)라면 진행 중으로 본다.
+     */
+    private static final RedisScript<Long> GAME_STATE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return 1 end " +
+            "if redis.call('EXISTS', KEYS[2]) == 0 then return 2 end " +
+            "for i = 2, #KEYS do " +
+            "  if redis.call('EXISTS', KEYS[i]) == 1 then " +
+            "    local ok, idle = pcall(redis.call, 'OBJECT', 'IDLETIME', KEYS[i]) " +
+            "    if not ok or idle < tonumber(ARGV[1]) then return 0 end " +
+            "  end " +
+            "end " +
+            "return 3", Long.class);
+
+    /**
+     * KEYS에 ARGV[1]초 TTL을 설정한다. ARGV[2]가 1이라면 TTL이 없는 key에만 설정한다.
+     * @return {TTL을 설정한 key 수, 설정한 key의 메모리 사용량(byte)}
+     */
+    private static final RedisScript<List> EXPIRE_SCRIPT = new DefaultRedisScript<>(
+            "local keys, bytes = 0, 0 " +
+            "for _, key in ipairs(KEYS) do " +
+            "  if ARGV[2] ~= '1' or redis.call('TTL', key) == -1 then " +
+            "    local usage = redis.call('MEMORY', 'USAGE', key) " +
+            "    if redis.call('EXPIRE', key, ARGV[1]) == 1 then " +
+            "      keys = keys + 1 " +
+            "      bytes = bytes + (usage or 0) " +
+            "    end " +
+            "  end " +
+            "end " +
+            "return {keys, bytes}", List.class);
+
+    /**
+     * repository save처럼 key를 지우고 다시 쓰는 명령은 TTL을 없애므로, 끝난 게임의 key에 TTL을 다시 설정한다.
+     * Game hash에 TTL이 남아 있다면 같은 시점에 만료되도록 남은 TTL을, 없다면 finishedTtl을 설정한다.
+     * 결과 snapshot이 없는 진행 중인 게임이라면 아무것도 하지 않는다.
+     * @return TTL을 설정한 key 수
+     */
+    private static final RedisScript<Long> KEEP_FINISHED_TTL_SCRIPT = new DefaultRedisScript<>(
+            "local pttl = redis.call('PTTL', KEYS[1]) " +
+            "if pttl < 0 then " +
+            "  if redis.call('EXISTS', KEYS[2]) == 0 then return 0 end " +
+            "  pttl = tonumber(ARGV[1]) * 1000 " +
+            "end " +
+            "local expired = 0 " +
+            "for i = 3, #KEYS do " +
+            "  if redis.call('PTTL', KEYS[i]) == -1 then " +
+            "    redis.call('PEXPIRE', KEYS[i], pttl) " +
+            "    expired = expired + 1 " +
+            "  end " +
+            "end " +
+            "return expired", Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public GameLifecycleRepository(StringRedisTemplate stringRedisTemplate) {
+        this.stringRedisTemplate = stringRedisTemplate;
+    }
+
+    /**
+     * 게임의 aggregate, 투표 집계, 엔티티 hash와 gameId 인덱스 set이 ttlSeconds 후에 함께 만료되도록 하고,
+     * keyspace set에서 게임의 엔티티 id를 제거한다.
+     * 여러 번 호출해도 TTL만 다시 설정된다.
+     */
+    public Reclaimed expireGame(String gameId, long ttlSeconds) {
+        List<String> keys = new ArrayList<>(getGameKeys(gameId));
+        Map<String, Set<String>> idsByKeyspace = new HashMap<>();
+        for (String keyspace : ENTITY_KEYSPACES) {
+            String index = getIndexKey(keyspace, gameId);
+            Set<String> ids = findMembers(index);
+            idsByKeyspace.put(keyspace, ids);
+            for (String id : ids) {
+                keys.add(keyspace + ":" + id);
+                keys.add(keyspace + ":" + id + ":idx");
+            }
+            keys.add(index);
+        }
+
+        Reclaimed reclaimed = expire(keys, ttlSeconds, false);
+        stringRedisTemplate.opsForSet().remove("Game", gameId);
+        idsByKeyspace.forEach((keyspace, ids) -> {
+            if (!ids.isEmpty()) stringRedisTemplate.opsForSet().remove(keyspace, ids.toArray());
+        });
+        return reclaimed;
+    }
+
+    /**
+     * SCAN 1회로 가져온 key 중 hash가 사라진 gameId 인덱스 항목과 :idx set을 제거하고,
+     * TTL이 없는 key 중 끝난 게임과 maxIdle 동안 사용되지 않은 게임의 key에는 finishedTtl을,
+     * Game hash가 없는 게임의 key에는 maxIdle TTL을 설정한다. 진행 중인 게임의 key는 건드리지 않는다.
+     * 엔티티 hash는 gameId 인덱스 set을 통해 게임을 확인한 뒤 함께 TTL을 설정한다.
+     */
+    public SweepStep sweep(String cursor, int count, long finishedTtlSeconds, long maxIdleSeconds) {
+        List<?> scanned = stringRedisTemplate.execute(SCAN_SCRIPT, Collections.emptyList(),
+                cursor, String.valueOf(count));
+        if (scanned == null) return new SweepStep("0", 0, 0, 0);
+
+        long removed = 0, bytes = 0, expired = 0;
+        Map<String, Long> ttlByGameId = new HashMap<>();
+        for (Object scannedKey : (List<?>) scanned.get(1)) {
+            String key = String.valueOf(scannedKey);
+            int idx = key.indexOf(':');
+            if (idx < 0) continue;
+            String keyspace = key.substring(0, idx);
+            String rest = key.substring(idx + 1);
+
+            if (ENTITY_KEYSPACES.contains(keyspace) && rest.startsWith("gameId:")) {
+                String gameId = rest.substring("gameId:".length());
+                Set<String> ids = findMembers(key);
+                Reclaimed orphans = removeMissingMembers(key, keyspace, ids);
+                removed += orphans.getKeys();
+                bytes += orphans.getBytes();
+
+                long ttl = ttlByGameId.computeIfAbsent(gameId,
+                        id -> getTtlOfGame(id, finishedTtlSeconds, maxIdleSeconds));
+                if (ttl > 0) {
+                    List<String> keys = new ArrayList<>();
+                    for (String id : ids) {
+                        keys.add(keyspace + ":" + id);
+                        keys.add(keyspace + ":" + id + ":idx");
+                    }
+                    keys.add(key);
+                    expired += expire(keys, ttl, true).getKeys();
+                }
+            }
+            else if (KEYSPACES.contains(keyspace) && rest.endsWith(":idx")) {
+                List<?> result = stringRedisTemplate.execute(DELETE_IF_MISSING_SCRIPT,
+                        Arrays.asList(key, key.substring(0, key.length() - ":idx".length())));
+                if (result != null) {
+                    removed += toLong(result.get(0));
+                    bytes += toLong(result.get(1));
+                }
+            }
+            else if ("Game".equals(keyspace) || AGGREGATE_KEYSPACES.contains(keyspace)) {
+                String gameId = "Game".equals(keyspace) ? rest : parseHashTag(rest);
+                if (gameId == null) continue;
+                long ttl = ttlByGameId.computeIfAbsent(gameId,
+                        id -> getTtlOfGame(id, finishedTtlSeconds, maxIdleSeconds));
+                if (ttl > 0) expired += expire(List.of(key), ttl, true).getKeys();
+            }
+        }
+        return new SweepStep(String.valueOf(scanned.get(0)), removed, bytes, expired);
+    }
+
+    /**
+     * SSCAN 1회로 가져온 keyspace set의 id 중 hash가 사라진 id를 제거한다.
+     */
+    public SweepStep sweepKeyspace(String keyspace, String cursor, int count) {
+        List<?> scanned = stringRedisTemplate.execute(SSCAN_SCRIPT, Collections.singletonList(keyspace),
+                cursor, String.valueOf(count));
+        if (scanned == null) return new SweepStep("0", 0, 0, 0);
+
+        List<String> ids = new ArrayList<>();
+        for (Object id : (List<?>) scanned.get(1)) ids.add(String.valueOf(id));
+        Reclaimed orphans = removeMissingMembers(keyspace, keyspace, ids);
+        return new SweepStep(String.valueOf(scanned.get(0)), orphans.getKeys(), orphans.getBytes(), 0);
+    }
+
+    /**
+     * 끝난 게임이라면 TTL이 없는 keys에 게임의 TTL을 다시 설정한다.
+     */
+    public long keepFinishedTtl(String gameId, List<String> keys, long ttlSeconds) {
+        List<String> scriptKeys = new ArrayList<>(keys.size() + 2);
+        scriptKeys.add("Game:" + gameId);
+        scriptKeys.add(getSnapshotKey(gameId));
+        scriptKeys.addAll(keys);
+        Long expired = stringRedisTemplate.execute(KEEP_FINISHED_TTL_SCRIPT, scriptKeys, String.valueOf(ttlSeconds));
+        return expired == null ? 0 : expired;
+    }
+
+    public long countKeys() {
+        Long size = stringRedisTemplate.execute((RedisCallback<Long>) connection ->
+                connection.serverCommands().dbSize());
+        return size == null ? 0 : size;
+    }
+
+    /**
+     * 진행 중인 게임이라면 0, 끝났거나 maxIdle 동안 사용되지 않은 게임이라면 finishedTtl, 고아 게임이라면 maxIdle
+     * 사용 여부는 Game hash, aggregate, 게임 턴과 투표 hash 중 가장 최근에 사용된 key로 판단한다.
+     */
+    private long getTtlOfGame(String gameId, long finishedTtlSeconds, long maxIdleSeconds) {
+        List<String> keys = new ArrayList<>();
+        keys.add(getSnapshotKey(gameId));
+        keys.add("Game:" + gameId);
+        keys.add("GameAggregate:{" + gameId + "}");
+        for (String keyspace : Arrays.asList("GameTurn", "Vote")) {
+            for (String id : findMembers(getIndexKey(keyspace, gameId))) keys.add(keyspace + ":" + id);
+        }
+
+        Long state = stringRedisTemplate.execute(GAME_STATE_SCRIPT, keys, String.valueOf(maxIdleSeconds));
+        if (state == null || state == LIVE) return 0;
+        if (state == FINISHED || state == IDLE) return finishedTtlSeconds;
+        return maxIdleSeconds;
+    }
+
+    private Reclaimed removeMissingMembers(String setKey, String keyspace, Iterable<String> ids) {
+        List<String> keys = new ArrayList<>();
+        List<String> args = new ArrayList<>();
+        keys.add(setKey);
+        for (String id : ids) {
+            keys.add(keyspace + ":" + id);
+            args.add(id);
+        }
+        if (args.isEmpty()) return new Reclaimed(0, 0);
+
+        List<?> result = stringRedisTemplate.execute(REMOVE_MISSING_MEMBERS_SCRIPT, keys, args.toArray());
+        if (result == null) return new Reclaimed(0, 0);
+        return new Reclaimed(toLong(result.get(0)), toLong(result.get(1)));
+    }
+
+    private Reclaimed expire(List<String> keys, long ttlSeconds, boolean onlyPersistent) {
+        List<?> result = stringRedisTemplate.execute(EXPIRE_SCRIPT, keys,
+                String.valueOf(ttlSeconds), onlyPersistent ? "1" : "0");
+        if (result == null) return new Reclaimed(0, 0);
+        return new Reclaimed(toLong(result.get(0)), toLong(result.get(1)));
+    }
+
+    private Set<String> findMembers(String key) {
+        Set<String> members = stringRedisTemplate.opsForSet().members(key);
+        return members == null ? Collections.emptySet() : members;
+    }
+
+    private List<String> getGameKeys(String gameId) {
+        return Arrays.asList("Game:" + gameId, "GameAggregate:{" + gameId + "}",
+                "VoteTally:{" + gameId + "}:count", "VoteTally:{" + gameId + "}:voter");
+    }
+
+    private String getIndexKey(String keyspace, String gameId) {
+        return keyspace + ":gameId:" + gameId;
+    }
+
+    private String getSnapshotKey(String gameId) {
+        return "GameResultSnapshot:{" + gameId + "}";
+    }
+
+    /**
+     * "{gameId}:count" 처럼 hash tag로 시작하는 key에서 gameId를 꺼낸다.
+     */
+    private String parseHashTag(String rest) {
+        int end = rest.indexOf('}');
+        if (!rest.startsWith("{") || end < 0) return null;
+        return rest.substring(1, end);
+    }
+
+    private long toLong(Object value) {
+        if (value instanceof Number number) return number.longValue();
+        return value == null ? 0 : Long.parseLong(String.valueOf(value));
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Reclaimed {
+        private long keys;
+        private long bytes;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class SweepStep {
+        private String cursor;
+        private long removed;
+        private long bytes;
+        private long expired;
+
+        public boolean isFinished() {
+            return "0".equals(cursor);
+        }
+    }
+}
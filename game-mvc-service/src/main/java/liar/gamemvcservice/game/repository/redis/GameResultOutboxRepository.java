@@ -0,0 +1,196 @@
+package liar.gamemvcservice.game.repository.redis;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 데이터 서버로 보낼 게임 결과를 redis에 저장하는 outbox
+ * 게임(Game)의 sendMessage 설정과 outbox 저장을 lua script 1회로 처리하므로, 설정된 게임의 결과는 유실되지 않는다.
+ * outbox는 전송 예정 시각을 score로 하는 sorted set과, gameId 별 메세지 본문, 시도 횟수 hash로 구성된다.
+ * 최대 시도 횟수를 넘은 메세지는 dead hash와 옮긴 시각을 score로 하는 sorted set에 보관하며,
+ * 다시 outbox로 옮기거나(replayDead) 보관 기간이 지나면 지운다(purgeDead).
+ */
+@Repository
+public class GameResultOutboxRepository {
+
+    private static final String OUTBOX_KEY = "GameResultOutbox";
+    private static final String BODY_KEY = "GameResultOutbox:body";
+    private static final String ATTEMPT_KEY = "GameResultOutbox:attempt";
+    private static final String DEAD_KEY = "GameResultOutbox:dead";
+    private static final String DEAD_AT_KEY = "GameResultOutbox:dead:at";
+
+    private static final RedisScript<Long> ENQUEUE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end " +
+            "local sent = redis.call('HGET', KEYS[1], 'sendMessage') " +
+            "if sent == '1' or sent == 'true' then return 0 end " +
+            "redis.call('HSET', KEYS[1], 'sendMessage', '1') " +
+            "redis.call('HINCRBY', KEYS[1], 'version', 1) " +
+            "redis.call('HSET', KEYS[3], ARGV[1], ARGV[2]) " +
+            "redis.call('ZADD', KEYS[2], ARGV[3], ARGV[1]) " +
+            "return 1", Long.class);
+
+    private static final RedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>(
+            "local ids = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2]) " +
+            "local result = {} " +
+            "for _, id in ipairs(ids) do " +
+            "  local body = redis.call('HGET', KEYS[2], id) " +
+            "  if body then " +
+            "    redis.call('ZADD', KEYS[1], ARGV[3], id) " +
+            "    local attempt = redis.call('HINCRBY', KEYS[3], id, 1) " +
+            "    table.insert(result, id) " +
+            "    table.insert(result, body) " +
+            "    table.insert(result, tostring(attempt)) " +
+            "  else " +
+            "    redis.call('ZREM', KEYS[1], id) " +
+            "  end " +
+            "end " +
+            "return result", List.class);
+
+    private static final RedisScript<Long> DELETE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('ZREM', KEYS[1], unpack(ARGV)) " +
+            "redis.call('HDEL', KEYS[2], unpack(ARGV)) " +
+            "redis.call('HDEL', KEYS[3], unpack(ARGV)) " +
+            "return #ARGV", Long.class);
+
+    private static final RedisScript<Long> BURY_SCRIPT = new DefaultRedisScript<>(
+            "local body = redis.call('HGET', KEYS[2], ARGV[1]) " +
+            "if body then " +
+            "  redis.call('HSET', KEYS[4], ARGV[1], body) " +
+            "  redis.call('ZADD', KEYS[5], ARGV[2], ARGV[1]) " +
+            "end " +
+            "redis.call('ZREM', KEYS[1], ARGV[1]) " +
+            "redis.call('HDEL', KEYS[2], ARGV[1]) " +
+            "redis.call('HDEL', KEYS[3], ARGV[1]) " +
+            "return 1", Long.class);
+
+    private static final RedisScript<Long> REPLAY_DEAD_SCRIPT = new DefaultRedisScript<>(
+            "local ids = redis.call('ZRANGE', KEYS[5], 0, tonumber(ARGV[1]) - 1) " +
+            "for _, id in ipairs(ids) do " +
+            "  local body = redis.call('HGET', KEYS[4], id) " +
+            "  if body then " +
+            "    redis.call('HSET', KEYS[2], id, body) " +
+            "    redis.call('HDEL', KEYS[3], id) " +
+            "    redis.call('ZADD', KEYS[1], ARGV[2], id) " +
+            "  end " +
+            "  redis.call('HDEL', KEYS[4], id) " +
+            "  redis.call('ZREM', KEYS[5], id) " +
+            "end " +
+            "return #ids", Long.class);
+
+    private static final RedisScript<Long> PURGE_DEAD_SCRIPT = new DefaultRedisScript<>(
+            "local ids = redis.call('ZRANGEBYSCORE', KEYS[2], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2]) " +
+            "for _, id in ipairs(ids) do " +
+            "  redis.call('HDEL', KEYS[1], id) " +
+            "  redis.call('ZREM', KEYS[2], id) " +
+            "end " +
+            "return #ids", Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public GameResultOutboxRepository(StringRedisTemplate stringRedisTemplate) {
+        this.stringRedisTemplate = stringRedisTemplate;
+    }
+
+    /**
+     * 게임의 sendMessage가 설정되지 않았다면, 설정하고 메세지를 outbox에 저장한다.
+     * @return 저장했다면 1, 이미 설정된 게임이라면 0, 게임이 없다면 -1
+     */
+    public long saveIfNotSent(String gameId, String body) {
+        Long result = stringRedisTemplate.execute(ENQUEUE_SCRIPT,
+                Arrays.asList("Game:" + gameId, OUTBOX_KEY, BODY_KEY),
+                gameId, body, String.valueOf(System.currentTimeMillis()));
+        return result == null ? -1 : result;
+    }
+
+    /**
+     * 전송 예정 시각이 지난 메세지를 최대 limit 개 가져오고, leaseUntil 까지 다른 노드가 가져가지 못하게 한다.
+     * 가져온 메세지의 시도 횟수는 1 증가한다.
+     */
+    @SuppressWarnings("unchecked")
+    public List<OutboxMessage> claim(int limit, long now, long leaseUntil) {
+        List<Object> result = stringRedisTemplate.execute(CLAIM_SCRIPT,
+                Arrays.asList(OUTBOX_KEY, BODY_KEY, ATTEMPT_KEY),
+                String.valueOf(now), String.valueOf(limit), String.valueOf(leaseUntil));
+
+        List<OutboxMessage> messages = new ArrayList<>();
+        if (result == null) return messages;
+        for (int i = 0; i + 2 < result.size(); i += 3) {
+            messages.add(new OutboxMessage((String) result.get(i), (String) result.get(i + 1),
+                    Integer.parseInt((String) result.get(i + 2))));
+        }
+        return messages;
+    }
+
+    /**
+     * 전송에 성공한 메세지를 lua script 1회로 outbox에서 제거한다.
+     */
+    public void delete(Collection<String> gameIds) {
+        if (gameIds.isEmpty()) return;
+        stringRedisTemplate.execute(DELETE_SCRIPT,
+                Arrays.asList(OUTBOX_KEY, BODY_KEY, ATTEMPT_KEY), gameIds.toArray());
+    }
+
+    /**
+     * 전송에 실패한 메세지를 retryAt 에 다시 전송하도록 예약한다.
+     */
+    public void retryAt(String gameId, long retryAt) {
+        stringRedisTemplate.opsForZSet().add(OUTBOX_KEY, gameId, retryAt);
+    }
+
+    /**
+     * 최대 시도 횟수를 넘은 메세지를 dead hash로 옮긴다.
+     */
+    public void bury(String gameId) {
+        stringRedisTemplate.execute(BURY_SCRIPT,
+                Arrays.asList(OUTBOX_KEY, BODY_KEY, ATTEMPT_KEY, DEAD_KEY, DEAD_AT_KEY),
+                gameId, String.valueOf(System.currentTimeMillis()));
+    }
+
+    /**
+     * 오래 전에 옮긴 dead 메세지부터 최대 limit 개를 시도 횟수 0으로 outbox에 다시 넣는다.
+     * @return 다시 넣은 메세지 수
+     */
+    public long replayDead(int limit) {
+        Long replayed = stringRedisTemplate.execute(REPLAY_DEAD_SCRIPT,
+                Arrays.asList(OUTBOX_KEY, BODY_KEY, ATTEMPT_KEY, DEAD_KEY, DEAD_AT_KEY),
+                String.valueOf(limit), String.valueOf(System.currentTimeMillis()));
+        return replayed == null ? 0 : replayed;
+    }
+
+    /**
+     * deadBefore 이전에 옮긴 dead 메세지를 최대 limit 개 지운다.
+     * @return 지운 메세지 수
+     */
+    public long purgeDead(long deadBefore, int limit) {
+        Long purged = stringRedisTemplate.execute(PURGE_DEAD_SCRIPT,
+                Arrays.asList(DEAD_KEY, DEAD_AT_KEY), String.valueOf(deadBefore), String.valueOf(limit));
+        return purged == null ? 0 : purged;
+    }
+
+    public long countDead() {
+        Long size = stringRedisTemplate.opsForHash().size(DEAD_KEY);
+        return size == null ? 0 : size;
+    }
+
+    public long countPending() {
+        Long size = stringRedisTemplate.opsForZSet().zCard(OUTBOX_KEY);
+        return size == null ? 0 : size;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class OutboxMessage {
+        private String gameId;
+        private String body;
+        private int attempt;
+    }
+}
@@ -0,0 +1,76 @@
+package liar.gamemvcservice.game.repository.redis;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * 게임 결과 응답을 json byte 그대로 저장한다.
+ * 처음 저장된 snapshot만 유지되며, 이후 요청은 역직렬화 없이 byte를 그대로 응답한다.
+ */
+@Repository
+public class GameResultSnapshotRepository {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final long ttlSeconds;
+    private final long claimMillis;
+
+    public GameResultSnapshotRepository(StringRedisTemplate stringRedisTemplate,
+                                        @Value("${game.result.snapshot-ttl-seconds:3600}") long ttlSeconds,
+                                        @Value("${game.result.claim-millis:5000}") long claimMillis) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.ttlSeconds = ttlSeconds;
+        this.claimMillis = claimMillis;
+    }
+
+    /**
+     * snapshot을 만들 요청 1개만 true를 받는다.
+     * 요청이 snapshot을 저장하지 못하고 실패해도, claimMillis 후에는 다른 요청이 다시 만들 수 있다.
+     */
+    public boolean tryClaim(String gameId) {
+        return Boolean.TRUE.equals(stringRedisTemplate.opsForValue()
+                .setIfAbsent(getClaimKey(gameId), "1", Duration.ofMillis(claimMillis)));
+    }
+
+    public void releaseClaim(String gameId) {
+        stringRedisTemplate.delete(getClaimKey(gameId));
+    }
+
+    /**
+     * 저장된 snapshot이 없다면 null
+     */
+    public byte[] findSnapshot(String gameId) {
+        byte[] key = getKey(gameId);
+        return stringRedisTemplate.execute((RedisCallback<byte[]>) connection ->
+                connection.stringCommands().get(key));
+    }
+
+    /**
+     * snapshot이 없을 때만 저장하고, 저장된 snapshot을 반환한다.
+     */
+    public byte[] saveSnapshotIfAbsent(String gameId, byte[] snapshot) {
+        byte[] key = getKey(gameId);
+        Boolean isSaved = stringRedisTemplate.execute((RedisCallback<Boolean>) connection ->
+                connection.stringCommands().set(key, snapshot, Expiration.seconds(ttlSeconds),
+                        RedisStringCommands.SetOption.SET_IF_ABSENT));
+
+        if (Boolean.TRUE.equals(isSaved)) return snapshot;
+        byte[] savedSnapshot = findSnapshot(gameId);
+        return savedSnapshot == null ? snapshot : savedSnapshot;
+    }
+
+    private String getClaimKey(String gameId) {
+        return "GameResultSnapshot:{" + gameId + "}:claim";
+    }
+
+    private byte[] getKey(String gameId) {
+        return ("GameResultSnapshot:{" + gameId + "}").getBytes(UTF_8);
+    }
+}
@@ -0,0 +1,76 @@
+package liar.gamemvcservice.game.repository.redis;
+
+import liar.gamemvcservice.game.domain.JoinPlayer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.convert.IndexedData;
+import org.springframework.data.redis.core.convert.RedisConverter;
+import org.springframework.data.redis.core.convert.RedisData;
+import org.springframework.data.redis.core.convert.SimpleIndexedPropertyValue;
+import org.springframework.stereotype.Repository;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * 게임의 모든 JoinPlayer를 하나의 pipeline(MULTI/EXEC)으로 저장한다.
+ * JoinPlayerRepository와 같은 hash, keyspace, gameId 인덱스 구조로 저장하므로
+ * findByGameId, findById로 그대로 조회할 수 있다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class JoinPlayerBatchRepository {
+
+    private final RedisConverter redisConverter;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public void saveAllInPipeline(List<JoinPlayer> joinPlayers) {
+        List<RedisData> redisDataList = joinPlayers.stream()
+                .map(this::toRedisData)
+                .collect(Collectors.toList());
+
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.multi();
+            redisDataList.forEach(redisData -> write(connection, redisData));
+            connection.exec();
+            return null;
+        });
+    }
+
+    private RedisData toRedisData(JoinPlayer joinPlayer) {
+        RedisData redisData = new RedisData();
+        redisConverter.write(joinPlayer, redisData);
+        return redisData;
+    }
+
+    private void write(RedisConnection connection, RedisData redisData) {
+        byte[] id = toBytes(redisData.getId());
+        String key = redisData.getKeyspace() + ":" + redisData.getId();
+
+        Map<byte[], byte[]> hash = new LinkedHashMap<>();
+        redisData.getBucket().rawMap().forEach((field, value) -> hash.put(toBytes(field), value));
+
+        connection.keyCommands().del(toBytes(key));
+        connection.hashCommands().hMSet(toBytes(key), hash);
+        connection.setCommands().sAdd(toBytes(redisData.getKeyspace()), id);
+
+        for (IndexedData indexedData : redisData.getIndexedData()) {
+            if (indexedData instanceof SimpleIndexedPropertyValue indexedValue) {
+                byte[] indexKey = toBytes(indexedData.getKeyspace() + ":" + indexedData.getIndexName()
+                        + ":" + indexedValue.getValue());
+                connection.setCommands().sAdd(indexKey, id);
+                connection.setCommands().sAdd(toBytes(key + ":idx"), indexKey);
+            }
+        }
+    }
+
+    private byte[] toBytes(String value) {
+        return value.getBytes(UTF_8);
+    }
+}
@@ -0,0 +1,67 @@
+package liar.gamemvcservice.game.repository.redis;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * gameId 별 투표 집계를 redis hash로 관리한다.
+ * count hash (liarId -> 득표 수)와 voter hash (userId -> liarId)는 같은 hash tag를 사용한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class VoteTallyRepository {
+
+    /**
+     * 후보가 존재하고, 투표하지 않은 유저라면 voter hash에 기록하고 득표 수를 올린다.
+     * 한 번의 redis 명령으로 처리되므로 분산 락이 필요 없다.
+     */
+    private static final RedisScript<Long> VOTE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('HEXISTS', KEYS[1], ARGV[2]) == 0 then return 0 end " +
+            "if redis.call('HSETNX', KEYS[2], ARGV[1], ARGV[2]) == 0 then return 0 end " +
+            "redis.call('HINCRBY', KEYS[1], ARGV[2], 1) " +
+            "return 1",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 투표 후보를 0표로 초기화한다.
+     */
+    public void initTally(String gameId, List<String> liarIds) {
+        Map<String, String> counts = new LinkedHashMap<>();
+        liarIds.forEach(liarId -> counts.put(liarId, "0"));
+        stringRedisTemplate.opsForHash().putAll(getCountKey(gameId), counts);
+    }
+
+    /**
+     * 투표가 반영되면 true, 이미 투표한 유저이거나 후보가 아니라면 false
+     */
+    public boolean castBallot(String gameId, String userId, String liarId) {
+        Long result = stringRedisTemplate.execute(VOTE_SCRIPT,
+                Arrays.asList(getCountKey(gameId), getVoterKey(gameId)), userId, liarId);
+        return result != null && result == 1L;
+    }
+
+    /**
+     * userId -> liarId 투표 기록을 조회한다.
+     */
+    public Map<Object, Object> findBallots(String gameId) {
+        return stringRedisTemplate.opsForHash().entries(getVoterKey(gameId));
+    }
+
+    private String getCountKey(String gameId) {
+        return "VoteTally:{" + gameId + "}:count";
+    }
+
+    private String getVoterKey(String gameId) {
+        return "VoteTally:{" + gameId + "}:voter";
+    }
+}
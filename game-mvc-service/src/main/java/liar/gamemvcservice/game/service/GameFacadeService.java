@@ -41,6 +41,12 @@ public interface GameFacadeService {
      */
     JoinPlayer findJoinPlayer(String gameId, String userId);
 
+    /**
+     * userId가 게임에 참여한 플레이어인지 확인한다.
+     * 참여자 목록은 노드 캐시에서 확인하며, 캐시에 없을 때만 redis에서 조회한다.
+     */
+    boolean isJoinPlayer(String gameId, String userId);
+
     /**
      * gameId를 받아, 게임의 턴을 설정한다.
      * @param gameId gameId
@@ -55,6 +61,14 @@ public interface GameFacadeService {
      */
     NextTurn setNextTurnWhenValidated(String gameId, String userId) throws InterruptedException;
 
+    /**
+     * 시간이 초과된 턴(expiredTurn)이 아직 현재 턴이라면 턴을 넘기고, 마지막 턴이라면 vote를 초기화하여 저장한다.
+     * 이미 턴이 넘어갔다면 NotUserTurnException을 발생시킨다.
+     * @return nextTurn (다음턴 userId, 마지막 턴 boolean)
+     * @throws InterruptedException
+     */
+    NextTurn setNextTurnByTimeOut(String gameId, int expiredTurn) throws InterruptedException;
+
 
     /**
      * 클라이언트의 개별 투표를 저장한다.
@@ -78,4 +92,19 @@ public interface GameFacadeService {
      */
     GameResultToServerDto sendGameResultToServer(String gameId);
 
+    /**
+     * 저장된 게임 결과 snapshot(json byte)을 조회한다.
+     * @param gameId
+     * @return snapshot, 없다면 null
+     */
+    byte[] findGameResultSnapshot(String gameId);
+
+    /**
+     * 투표가 끝난 게임이라면 게임 결과를 1회만 계산하여 snapshot으로 저장하고,
+     * 데이터 서버로 보낼 결과를 outbox에 저장한 뒤 게임의 redis key가 만료되도록 한다.
+     * @param gameId
+     * @return 저장된 snapshot, 투표가 끝나지 않았거나 다른 요청이 snapshot을 만드는 중이라면 null
+     */
+    byte[] closeGameResult(String gameId);
+
 }
@@ -1,30 +1,44 @@
 package liar.gamemvcservice.game.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import liar.gamemvcservice.common.redis.shard.RedisShards;
 import liar.gamemvcservice.exception.exception.NotFoundGameException;
-import liar.gamemvcservice.exception.exception.NotFoundUserException;
 import liar.gamemvcservice.exception.exception.NotFoundVoteException;
+import liar.gamemvcservice.exception.exception.NotUserTurnException;
+import liar.gamemvcservice.game.controller.dto.message.SendSuccessBody;
 import liar.gamemvcservice.game.controller.dto.request.VoteLiarRequest;
-import liar.gamemvcservice.game.repository.redis.VoteRepository;
 import liar.gamemvcservice.game.service.dto.*;
 import liar.gamemvcservice.game.domain.*;
+import liar.gamemvcservice.game.repository.redis.GameAggregateRepository;
 import liar.gamemvcservice.game.repository.redis.GameRepository;
-import liar.gamemvcservice.game.repository.redis.GameTurnRepository;
-import liar.gamemvcservice.game.repository.redis.JoinPlayerRepository;
+import liar.gamemvcservice.game.repository.redis.GameResultSnapshotRepository;
+import liar.gamemvcservice.game.service.cache.GameMembershipCache;
+import liar.gamemvcservice.game.service.cache.GameMetadataCache;
+import liar.gamemvcservice.game.service.lifecycle.GameLifecycleManager;
+import liar.gamemvcservice.game.service.outbox.GameResultOutbox;
 import liar.gamemvcservice.game.service.player.PlayerPolicy;
 import liar.gamemvcservice.game.service.result.ResultPolicy;
 import liar.gamemvcservice.game.service.topic.TopicPolicy;
+import liar.gamemvcservice.game.service.turn.GameTurnEngine;
 import liar.gamemvcservice.game.service.turn.PlayerTurnPolicy;
+import liar.gamemvcservice.game.service.turn.TurnDeadlineScheduler;
 import liar.gamemvcservice.game.service.vote.VotePolicy;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.NotNull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static liar.gamemvcservice.game.domain.GameRole.CITIZEN;
 import static liar.gamemvcservice.game.domain.GameRole.LIAR;
 
+@Slf4j
 @Service
 @Transactional
 @RequiredArgsConstructor
@@ -34,25 +48,43 @@ public class GameFacadeServiceImpl implements GameFacadeService {
     private final TopicPolicy topicPolicy;
     private final PlayerPolicy playerPolicy;
     private final PlayerTurnPolicy playerTurnPolicy;
+    private final GameTurnEngine gameTurnEngine;
+    private final TurnDeadlineScheduler turnDeadlineScheduler;
     private final VotePolicy votePolicy;
     private final ResultPolicy resultPolicy;
-    private final JoinPlayerRepository joinPlayerRepository;
-    private final GameTurnRepository gameTurnRepository;
-    private final VoteRepository voteRepository;
+    private final GameAggregateRepository gameAggregateRepository;
+    private final GameMetadataCache gameMetadataCache;
+    private final GameMembershipCache gameMembershipCache;
+    private final GameResultSnapshotRepository gameResultSnapshotRepository;
+    private final GameResultOutbox gameResultOutbox;
+    private final GameLifecycleManager gameLifecycleManager;
+    private final RedisShards redisShards;
+    private final MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter;
+
+    @Value("${game.storage.mode:entity}")
+    private String storageMode;
 
 
     /**
      * 방장의 요청을 받아 game을 저장한다,
+     * gameId가 만들어진 후의 redis 명령은 게임이 배정된 노드로 보낸다.
      * @param dto game 설정 정보
      * @return gameId
      */
     @Override
     public String save(SetUpGameDto dto) {
         Game notSetUpTopicGame = Game.of(dto);
+        return redisShards.callInGame(notSetUpTopicGame.getId(), () -> save(dto, notSetUpTopicGame));
+    }
+
+    private String save(SetUpGameDto dto, Game notSetUpTopicGame) {
         String liarId = playerPolicy.setUpPlayerRole(notSetUpTopicGame);
-        Topic topic = topicPolicy.setUp();
+        Topic topic = topicPolicy.setUp(dto.getRoomId());
         Game completeGame = notSetUpTopicGame.updateTopicOfGame(topic, liarId);
-        return gameRepository.save(completeGame).getId();
+        if (isAggregateStorage()) gameAggregateRepository.saveGame(completeGame);
+        String gameId = gameRepository.save(completeGame).getId();
+        gameMembershipCache.put(gameId, completeGame.getPlayerIds());
+        return gameId;
     }
 
 
@@ -75,33 +107,47 @@ public class GameFacadeServiceImpl implements GameFacadeService {
     @Override
     public Topic checkTopic(CommonDto dto) {
         if (playerPolicy.checkPlayerInfo(dto.getGameId(), dto.getUserId()).getGameRole() == GameRole.CITIZEN)
-            return findGameByGameId(dto.getGameId()).getTopic();
+            return findGameMetadata(dto.getGameId()).getTopic();
         return null;
     }
 
 
     /**
      * gameId, userId로 joinPlayer 값을 조회한다.
+     * 게임에 참여하지 않은 userId라면 NotFoundGameException을 발생시킨다.
      * @return joinPlayer
      */
     @Override
     public JoinPlayer findJoinPlayer(String gameId, String userId) {
-        return findJoinPlayersByGameId(gameId)
+        return playerPolicy.findPlayers(gameId)
                 .stream()
-                .filter(player -> player.getPlayer().getUserId().equals(userId))
+                .filter(player -> player.getUserId().equals(userId))
                 .findFirst()
+                .map(player -> new JoinPlayer(gameId, player))
                 .orElseThrow(NotFoundGameException::new);
     }
 
 
     /**
-     * gameId를 받아, 게임의 턴을 설정한다.
+     * userId가 게임에 참여한 플레이어인지 확인한다.
+     * @return 참여한 플레이어라면 true
+     */
+    @Override
+    public boolean isJoinPlayer(String gameId, String userId) {
+        return gameMembershipCache.isMember(gameId, userId, this::findPlayerIds);
+    }
+
+
+    /**
+     * gameId를 받아, 게임의 턴을 설정하고 첫 턴의 제한 시간을 건다.
      * @param gameId gameId
      * @return gameTurns(userId로 구성)
      */
     @Override
     public List<String> setUpTurn(String gameId) {
-        return playerTurnPolicy.setUpTurn(findGameByGameId(gameId)).getPlayerTurnsConsistingOfUserId();
+        GameTurn gameTurn = playerTurnPolicy.setUpTurn(findGameByGameId(gameId));
+        turnDeadlineScheduler.arm(gameId, gameTurn.getNowTurn());
+        return gameTurn.getPlayerTurnsConsistingOfUserId();
     }
 
 
@@ -113,83 +159,189 @@ public class GameFacadeServiceImpl implements GameFacadeService {
     @Override
     public NextTurn setNextTurnWhenValidated(String gameId, String userId) throws InterruptedException {
         NextTurn nextTurn = setNextTurnIfExistsNextTurn(gameId, userId);
+        armDeadlineOfNextTurn(gameId, nextTurn);
+        saveVoteWhenLastTurnEnd(gameId, nextTurn);
+        return nextTurn;
+    }
+
+
+    /**
+     * 시간이 초과된 턴(expiredTurn)이 아직 현재 턴이라면 턴을 넘기고, 마지막 턴이라면 vote를 초기화하여 저장한다.
+     * @return nextTurn (다음턴 userId, 마지막 턴 boolean)
+     * @throws InterruptedException
+     */
+    @Override
+    public NextTurn setNextTurnByTimeOut(String gameId, int expiredTurn) throws InterruptedException {
+        NextTurn nextTurn = setNextTurnByTimeOutIfExistsNextTurn(gameId, expiredTurn);
+        armDeadlineOfNextTurn(gameId, nextTurn);
         saveVoteWhenLastTurnEnd(gameId, nextTurn);
         return nextTurn;
     }
 
 
     /**
-     * 클라이언트의 개별 투표를 저장한다.
+     * 클라이언트의 개별 투표를 저장하고, 마지막 투표라면 게임 결과를 확정한다.
      * gameId(게임 Id), userId(클라이언트의 userId), liarId(라이어로 지목할 클라이언트 userId)
      * @return vote가 수정되어 저장되면 true, 아니라면 false
      * @throws InterruptedException
      */
     @Override
     public boolean voteLiarUser(VoteLiarRequest dto) throws InterruptedException {
-        return votePolicy.voteLiarUser(dto.getGameId(), dto.getUserId(), dto.getLiarId());
+        boolean isVoted = votePolicy.voteLiarUser(dto.getGameId(), dto.getUserId(), dto.getLiarId());
+        if (isVoted) closeGameResultQuietly(dto.getGameId());
+        return isVoted;
     }
 
 
     /**
      * gameResult를 client에게 전달하는 Dto를 생성한다.
+     * aggregate 저장 방식이라면, game, 플레이어 역할, 투표 기록을 한 번에 조회한다.
      * @param gameId
      * @return gameResultToClientDto
      */
     @Override
     public GameResultToClientDto sendGameResultToClient(String gameId) {
-        Game game = findGameByGameId(gameId);
-        return createGameResultToClientDto(game, getVote(game));
+        if (isAggregateStorage()) {
+            GameAggregate gameAggregate = findGameAggregate(gameId);
+            return createGameResultToClientDto(gameAggregate.getGame(), gameAggregate.getPlayers(),
+                    getVote(gameAggregate.toVote()));
+        }
+        Game game = findGameMetadata(gameId);
+        return createGameResultToClientDto(game, playerPolicy.findPlayers(gameId), getVote(game));
     }
 
     /**
      * 같은 게임을 공유하는 gameResultToServer가 처음 실행 되면 game save message를 보낸다.
+     * 게임이 끝났으므로 모든 노드의 game 캐시를 무효화한다.
      * @param gameId
      * @return gameResultToServerDto
      */
     @Override
     public GameResultToServerDto sendGameResultToServer(String gameId) {
         Game game = findGameByGameId(gameId);
-        if (!game.isSendMessage()) return createGameResultToServerDto(game);
+        if (!game.isSendMessage()) {
+            GameResultToServerDto gameResultToServerDto = createGameResultToServerDto(game);
+            if (!gameResultOutbox.enqueueIfNotSent(gameResultToServerDto)) return null;
+            gameMetadataCache.invalidate(gameId);
+            gameMembershipCache.invalidate(gameId);
+            return gameResultToServerDto;
+        }
         return null;
     }
 
+    @Override
+    public byte[] findGameResultSnapshot(String gameId) {
+        return gameResultSnapshotRepository.findSnapshot(gameId);
+    }
+
+    /**
+     * 투표가 끝난 뒤 claim을 얻은 요청 1개만 결과를 계산하고, 나머지 요청은 계산하지 않는다.
+     * 결과 snapshot을 저장한 뒤에는 게임 상태가 더 이상 필요하지 않으므로, 게임의 key를 만료시킨다.
+     */
+    @Override
+    public byte[] closeGameResult(String gameId) {
+        Vote vote = votePolicy.getVote(gameId);
+        if (vote == null || !vote.isClosed()) return null;
+        if (!gameResultSnapshotRepository.tryClaim(gameId)) return gameResultSnapshotRepository.findSnapshot(gameId);
+
+        try {
+            byte[] savedSnapshot = gameResultSnapshotRepository.findSnapshot(gameId);
+            if (savedSnapshot != null) return savedSnapshot;
+
+            sendGameResultToServer(gameId);
+            savedSnapshot = gameResultSnapshotRepository.saveSnapshotIfAbsent(gameId,
+                    toSnapshot(sendGameResultToClient(gameId)));
+            gameLifecycleManager.finish(gameId);
+            return savedSnapshot;
+        } finally {
+            gameResultSnapshotRepository.releaseClaim(gameId);
+        }
+    }
+
+    /**
+     * 결과 확정에 실패해도 투표는 이미 저장되었으므로, 다음 /result 요청이 다시 확정한다.
+     */
+    private void closeGameResultQuietly(String gameId) {
+        try {
+            closeGameResult(gameId);
+        } catch (RuntimeException e) {
+            log.warn("game result close failed, gameId = {}", gameId, e);
+        }
+    }
+
+    /**
+     * 응답과 같은 ObjectMapper로 SendSuccessBody를 json byte로 변환한다.
+     */
+    private byte[] toSnapshot(GameResultToClientDto gameResultToClientDto) {
+        try {
+            return mappingJackson2HttpMessageConverter.getObjectMapper()
+                    .writeValueAsBytes(SendSuccessBody.of(gameResultToClientDto));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     @NotNull
-    private GameResultToClientDto createGameResultToClientDto(Game game, Vote vote) {
+    private GameResultToClientDto createGameResultToClientDto(Game game, List<Player> players, Vote vote) {
         return GameResultToClientDto
                 .fromBaseDtoAndVoteResults(
-                        createGameResultBaseDto(game, vote), resultPolicy.getVotedResultDto(vote));
+                        createGameResultBaseDto(game, players, vote), resultPolicy.getVotedResultDto(vote));
     }
 
     @NotNull
     private GameResultToServerDto createGameResultToServerDto(Game game) {
         Vote vote = getVote(game);
-        updateSendMessage(game);
+        List<Player> players = playerPolicy.findPlayers(game.getId());
         return GameResultToServerDto
-                .fromBaseDtoAndGame(createGameResultBaseDto(game, vote), game, resultPolicy.getVotedResultDto(vote));
+                .fromBaseDtoAndGame(createGameResultBaseDto(game, players, vote), game,
+                        resultPolicy.getVotedResultDto(vote));
     }
 
+    /**
+     * 게임 턴 엔진이 활성화되어 있다면, 게임을 소유한 노드의 메모리에서 턴을 변경한다.
+     * 마지막 턴이라면 엔진의 게임 턴을 redis에 저장하고 소유권을 반납한다.
+     */
     private NextTurn setNextTurnIfExistsNextTurn(String gameId, String userId) {
+        if (gameTurnEngine.isEnabled()) {
+            NextTurn nextTurn = gameTurnEngine.updateTurnWhenPlayerTurnIsValidated(gameId, userId);
+            if (nextTurn.getUserIdOfNextTurn() == null) gameTurnEngine.release(gameId);
+            return nextTurn;
+        }
+
         NextTurn nextTurn = playerTurnPolicy
-                .updateTurnWhenPlayerTurnIsValidated(gameTurnRepository.findGameTurnByGameId(gameId), userId)
+                .updateTurnWhenPlayerTurnIsValidated(playerTurnPolicy.findGameTurn(gameId), userId)
                 .setIfExistsNextTurn();
         return nextTurn;
     }
 
 
-    private GameResultBaseDto createGameResultBaseDto(Game game, Vote vote) {
-        return GameResultBaseDto.of(
-                game.getId(),
-                resultPolicy.checkWhoWin(game, vote.getMostVotedResult()) ? CITIZEN : LIAR,
-                resultPolicy.getPlayersResultInfo(game, vote.getVotedResult(game.getLiarId()))
-        );
+    private NextTurn setNextTurnByTimeOutIfExistsNextTurn(String gameId, int expiredTurn) {
+        if (gameTurnEngine.isEnabled()) {
+            NextTurn nextTurn = gameTurnEngine.timeOut(gameId, expiredTurn);
+            if (nextTurn.getUserIdOfNextTurn() == null) gameTurnEngine.release(gameId);
+            return nextTurn;
+        }
+
+        GameTurn gameTurn = playerTurnPolicy.findGameTurn(gameId);
+        if (gameTurn == null) throw new NotFoundGameException();
+        if (gameTurn.getNowTurn() != expiredTurn) throw new NotUserTurnException();
+        return playerTurnPolicy.timeOut(gameTurn).setIfExistsNextTurn();
     }
 
     /**
-     * gameResult가 데이터 서버로 보낼 때, 1회만 보내지도록 message 설정
-     * @param game
+     * 다음 턴이 있다면 제한 시간을 걸고, 마지막 턴이라면 제한 시간을 취소한다.
      */
-    private void updateSendMessage(Game game) {
-        gameRepository.save(game.sendMessage());
+    private void armDeadlineOfNextTurn(String gameId, NextTurn nextTurn) {
+        if (nextTurn.getUserIdOfNextTurn() == null) turnDeadlineScheduler.cancel(gameId, nextTurn.getNowTurn());
+        else turnDeadlineScheduler.arm(gameId, nextTurn.getNowTurn());
+    }
+
+    private GameResultBaseDto createGameResultBaseDto(Game game, List<Player> players, Vote vote) {
+        return GameResultBaseDto.of(
+                game.getId(),
+                resultPolicy.checkWhoWin(players, vote.getMostVotedResult()) ? CITIZEN : LIAR,
+                resultPolicy.getPlayersResultInfo(players, vote.getVotedResult(game.getLiarId()))
+        );
     }
 
     /**
@@ -200,7 +352,7 @@ public class GameFacadeServiceImpl implements GameFacadeService {
      */
     private void saveVoteWhenLastTurnEnd(String gameId, NextTurn nextTurn) throws InterruptedException {
         if (nextTurn.getUserIdOfNextTurn() == null) {
-            Game game = findGameByGameId(gameId);
+            Game game = findGameMetadata(gameId);
             votePolicy.saveVote(game);
         }
     }
@@ -215,24 +367,45 @@ public class GameFacadeServiceImpl implements GameFacadeService {
     }
 
     /**
-     * gameId로 JoinPlayers 찾기
+     * 변하지 않는 game 정보만 필요할 때, 노드 캐시에서 Game을 찾는다.
+     * 반환된 Game은 수정하지 않는다.
      */
-    private List<JoinPlayer> findJoinPlayersByGameId(String gameId) {
-        return isValidateGameId(joinPlayerRepository.findByGameId(gameId));
+    private Game findGameMetadata(String gameId) {
+        return gameMetadataCache.get(gameId, this::findGameByGameId);
     }
 
     /**
-     * joinPlayers 리턴, empty라면 exception
+     * gameId로 GameAggregate를 찾는다.
      */
-    private List<JoinPlayer> isValidateGameId(List<JoinPlayer> joinPlayers) {
-        if (!joinPlayers.isEmpty()) {
-            return joinPlayers;
+    private GameAggregate findGameAggregate(String gameId) {
+        GameAggregate gameAggregate = gameAggregateRepository.findAggregate(gameId);
+        if (gameAggregate == null || gameAggregate.getGame() == null) throw new NotFoundGameException();
+        return gameAggregate;
+    }
+
+    /**
+     * 게임의 참여자 userId를 조회한다. 게임이 없다면 null
+     */
+    private Set<String> findPlayerIds(String gameId) {
+        try {
+            return playerPolicy.findPlayers(gameId)
+                    .stream()
+                    .map(Player::getUserId)
+                    .collect(Collectors.toSet());
+        } catch (NotFoundGameException e) {
+            return null;
         }
-        throw new NotFoundUserException();
+    }
+
+    private boolean isAggregateStorage() {
+        return "aggregate".equals(storageMode);
     }
 
     private Vote getVote(Game game) {
-        Vote vote = voteRepository.findVoteByGameId(game.getId());
+        return getVote(votePolicy.getVote(game.getId()));
+    }
+
+    private Vote getVote(Vote vote) {
         if (vote == null) throw new NotFoundVoteException();
         return vote;
     }
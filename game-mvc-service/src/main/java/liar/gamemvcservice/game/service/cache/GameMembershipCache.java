@@ -0,0 +1,71 @@
+package liar.gamemvcservice.game.service.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 게임에 참여한 userId 집합을 노드 메모리에 보관하여, STOMP CONNECT 검증을 redis 조회 없이 처리한다.
+ * 참여하지 않은 (gameId, userId) 요청은 짧은 시간 동안 거절 결과를 보관하여, 재접속 요청이 redis로 가지 않게 한다.
+ */
+@Component
+public class GameMembershipCache {
+
+    private static final String DELIMITER = "|";
+
+    private final Cache<String, Set<String>> members;
+    private final Cache<String, Boolean> rejected;
+
+    public GameMembershipCache(MeterRegistry meterRegistry,
+                               @Value("${game.membership.max-games:10000}") long maxGames,
+                               @Value("${game.membership.ttl-seconds:3600}") long ttlSeconds,
+                               @Value("${game.membership.rejected-max-size:10000}") long rejectedMaxSize,
+                               @Value("${game.membership.rejected-ttl-seconds:5}") long rejectedTtlSeconds) {
+        this.members = Caffeine.newBuilder()
+                .maximumSize(maxGames)
+                .expireAfterAccess(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        this.rejected = Caffeine.newBuilder()
+                .maximumSize(rejectedMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(rejectedTtlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, members, "gameMembership");
+        CaffeineCacheMetrics.monitor(meterRegistry, rejected, "gameMembershipRejected");
+    }
+
+    /**
+     * 게임을 설정한 노드는 참여자 목록을 바로 저장한다.
+     */
+    public void put(String gameId, Collection<String> userIds) {
+        members.put(gameId, Set.copyOf(userIds));
+    }
+
+    /**
+     * 캐시에 참여자 목록이 없다면 loader로 한 번 조회한다.
+     * loader가 null을 반환하면(게임이 없다면) 참여자 목록은 저장하지 않고, 거절 결과만 저장한다.
+     */
+    public boolean isMember(String gameId, String userId, Function<String, Set<String>> loader) {
+        String rejectedKey = gameId + DELIMITER + userId;
+        if (rejected.getIfPresent(rejectedKey) != null) return false;
+
+        Set<String> userIds = members.get(gameId, loader);
+        if (userIds != null && userIds.contains(userId)) return true;
+
+        rejected.put(rejectedKey, Boolean.TRUE);
+        return false;
+    }
+
+    public void invalidate(String gameId) {
+        members.invalidate(gameId);
+    }
+}
@@ -0,0 +1,81 @@
+package liar.gamemvcservice.game.service.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import liar.gamemvcservice.game.domain.Game;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * 게임 설정 이후 변하지 않는 Game 정보(roomId, host, players, liarId, topic)를 노드 메모리에 보관한다.
+ * 크기와 TTL로 제한되며, 게임이 끝나면 redis pub/sub으로 모든 노드의 캐시를 무효화한다.
+ * 캐시된 Game은 여러 요청이 공유하므로 수정하면 안 되고, sendMessage 같은 변경 값은 redis에서 조회해야 한다.
+ */
+@Slf4j
+@Component
+public class GameMetadataCache {
+
+    private static final String INVALIDATION_TOPIC = "GameMetadataInvalidation";
+
+    private final boolean enabled;
+    private final Cache<String, Game> cache;
+    private final RTopic invalidationTopic;
+    private int listenerId;
+
+    public GameMetadataCache(RedissonClient redissonClient,
+                             MeterRegistry meterRegistry,
+                             @Value("${game.cache.enabled:true}") boolean enabled,
+                             @Value("${game.cache.max-size:10000}") long maxSize,
+                             @Value("${game.cache.ttl-seconds:600}") long ttlSeconds) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        this.invalidationTopic = redissonClient.getTopic(INVALIDATION_TOPIC, StringCodec.INSTANCE);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "gameMetadata");
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerId = invalidationTopic.addListener(String.class, (channel, gameId) -> cache.invalidate(gameId));
+    }
+
+    @PreDestroy
+    public void unsubscribe() {
+        invalidationTopic.removeListener(listenerId);
+    }
+
+    /**
+     * 캐시에 없다면 loader로 조회하여 저장한다.
+     * loader가 예외를 던지면 저장하지 않는다.
+     */
+    public Game get(String gameId, Function<String, Game> loader) {
+        if (!enabled) return loader.apply(gameId);
+        return cache.get(gameId, loader);
+    }
+
+    /**
+     * 현재 노드의 캐시를 비우고, 다른 노드에 무효화 메시지를 보낸다.
+     */
+    public void invalidate(String gameId) {
+        cache.invalidate(gameId);
+        try {
+            invalidationTopic.publish(gameId);
+        } catch (RuntimeException e) {
+            log.warn("game metadata invalidation publish failed, gameId = {}", gameId, e);
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package liar.gamemvcservice.game.service.lifecycle;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import liar.gamemvcservice.common.redis.shard.RedisShardContext;
+import liar.gamemvcservice.common.redis.shard.RedisShards;
+import liar.gamemvcservice.game.repository.redis.GameLifecycleRepository;
+import liar.gamemvcservice.game.repository.redis.GameLifecycleRepository.Reclaimed;
+import liar.gamemvcservice.game.repository.redis.GameLifecycleRepository.SweepStep;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBucket;
+import org.redisson.api.RScript;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게임 결과 snapshot이 저장된 게임의 redis key를 finishedTtlSeconds 후에 만료시키고,
+ * 백그라운드 스레드에서 SCAN cursor를 이어가며 만료된 hash를 가리키는 인덱스 항목을 정리한다.
+ * sweep은 TTL이 없는 key 중 끝난 게임의 key에만 finishedTtlSeconds를, Game hash가 사라진 게임의 key에는 maxIdleSeconds를 설정하며,
+ * 진행 중인 게임의 key에는 TTL을 설정하지 않는다.
+ * sweep 1회는 redis 노드마다 SCAN 1회, keyspace set SSCAN 1회로 제한되므로 redis를 오래 점유하지 않는다.
+ * sweep은 lease를 가진 인스턴스 1개만 실행하며, lease를 가진 인스턴스가 멈추면 lease 만료 후 다른 인스턴스가 이어받는다.
+ */
+@Slf4j
+@Component
+public class GameLifecycleManager {
+
+    private static final String START_CURSOR = "0";
+    private static final String LEADER_KEY = "GameLifecycle:sweep-leader";
+
+    /**
+     * lease가 이 인스턴스에 있을 때만 연장한다.
+     */
+    private static final String RENEW_SCRIPT =
+            "if redis.call('get', KEYS[1]) == ARGV[1] then " +
+                    "return redis.call('pexpire', KEYS[1], ARGV[2]) " +
+            "end " +
+            "return 0";
+
+    private final GameLifecycleRepository gameLifecycleRepository;
+    private final RedisShards redisShards;
+
+    private final long finishedTtlSeconds;
+    private final long maxIdleSeconds;
+    private final int scanCount;
+    private final long leaseMillis;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final ScheduledExecutorService sweeper = Executors.newSingleThreadScheduledExecutor();
+
+    private final Map<String, SweepCursor> sweepCursors = new ConcurrentHashMap<>();
+    private final Map<String, Long> keyspaceSizes = new ConcurrentHashMap<>();
+
+    private final AtomicLong keyspaceSize = new AtomicLong();
+    private final Counter expiredKeysCounter;
+    private final Counter expiredBytesCounter;
+    private final Counter sweptKeysCounter;
+    private final Counter sweptBytesCounter;
+    private final Counter idleKeysCounter;
+
+    public GameLifecycleManager(GameLifecycleRepository gameLifecycleRepository,
+                                RedisShards redisShards,
+                                MeterRegistry meterRegistry,
+                                @Value("${game.lifecycle.finished-ttl-seconds:600}") long finishedTtlSeconds,
+                                @Value("${game.lifecycle.max-idle-seconds:86400}") long maxIdleSeconds,
+                                @Value("${game.lifecycle.sweep.enabled:true}") boolean sweepEnabled,
+                                @Value("${game.lifecycle.sweep.period-millis:1000}") long periodMillis,
+                                @Value("${game.lifecycle.sweep.scan-count:200}") int scanCount,
+                                @Value("${game.lifecycle.sweep.lease-millis:10000}") long leaseMillis) {
+        this.gameLifecycleRepository = gameLifecycleRepository;
+        this.redisShards = redisShards;
+        this.finishedTtlSeconds = finishedTtlSeconds;
+        this.maxIdleSeconds = maxIdleSeconds;
+        this.scanCount = scanCount;
+        this.leaseMillis = leaseMillis;
+
+        Gauge.builder("game.redis.keyspace.size", keyspaceSize, AtomicLong::get).register(meterRegistry);
+        this.expiredKeysCounter = Counter.builder("game.lifecycle.reclaimed.keys")
+                .tag("phase", "expire").register(meterRegistry);
+        this.expiredBytesCounter = Counter.builder("game.lifecycle.reclaimed.bytes")
+                .tag("phase", "expire").register(meterRegistry);
+        this.sweptKeysCounter = Counter.builder("game.lifecycle.reclaimed.keys")
+                .tag("phase", "sweep").register(meterRegistry);
+        this.sweptBytesCounter = Counter.builder("game.lifecycle.reclaimed.bytes")
+                .tag("phase", "sweep").register(meterRegistry);
+        this.idleKeysCounter = Counter.builder("game.lifecycle.idle.keys").register(meterRegistry);
+
+        if (sweepEnabled) {
+            sweeper.scheduleWithFixedDelay(this::sweepQuietly, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sweeper.shutdownNow();
+        try {
+            getLeaderBucket().compareAndSet(nodeId, null);
+        } catch (RuntimeException e) {
+            log.warn("game lifecycle sweep lease release failed", e);
+        }
+    }
+
+    /**
+     * 결과 snapshot이 저장된 게임의 모든 key와 gameId 인덱스 set이 함께 만료되도록 하고,
+     * keyspace set에서 게임의 엔티티를 제거한다.
+     * 만료 전까지는 늦게 도착한 결과 요청도 기존 key로 처리할 수 있다.
+     */
+    public void finish(String gameId) {
+        Reclaimed reclaimed = redisShards.callInGame(gameId,
+                () -> gameLifecycleRepository.expireGame(gameId, finishedTtlSeconds));
+        expiredKeysCounter.increment(reclaimed.getKeys());
+        expiredBytesCounter.increment(reclaimed.getBytes());
+    }
+
+    /**
+     * 게임이 끝난 뒤 key를 지우고 다시 저장했다면, 사라진 TTL을 게임의 다른 key와 같게 다시 설정한다.
+     * 진행 중인 게임이라면 아무것도 하지 않는다.
+     */
+    public void keepFinishedTtl(String gameId, List<String> keys) {
+        long expired = redisShards.callInGame(gameId,
+                () -> gameLifecycleRepository.keepFinishedTtl(gameId, keys, finishedTtlSeconds));
+        if (expired > 0) log.debug("finished game ttl restored, gameId = {}, keys = {}", gameId, expired);
+    }
+
+    /**
+     * 모든 redis 노드에서 SCAN 1회와 keyspace set SSCAN 1회를 이어서 실행한다.
+     * SCAN cursor는 노드마다 따로 보관한다. sweep lease를 얻지 못한 인스턴스는 실행하지 않는다.
+     */
+    public synchronized void sweep() {
+        if (!acquireLease()) return;
+        redisShards.forEachNode(this::sweepNode);
+        keyspaceSize.set(keyspaceSizes.values().stream().mapToLong(Long::longValue).sum());
+    }
+
+    private void sweepNode() {
+        String node = RedisShardContext.currentNode();
+        SweepCursor sweepCursor = sweepCursors.computeIfAbsent(node, key -> new SweepCursor());
+
+        SweepStep step = gameLifecycleRepository.sweep(sweepCursor.cursor, scanCount, finishedTtlSeconds, maxIdleSeconds);
+        sweepCursor.cursor = step.getCursor();
+        record(step);
+
+        List<String> keyspaces = GameLifecycleRepository.KEYSPACES;
+        SweepStep keyspaceStep = gameLifecycleRepository.sweepKeyspace(
+                keyspaces.get(sweepCursor.keyspaceIdx), sweepCursor.keyspaceCursor, scanCount);
+        sweepCursor.keyspaceCursor = keyspaceStep.getCursor();
+        record(keyspaceStep);
+        if (keyspaceStep.isFinished()) sweepCursor.keyspaceIdx = (sweepCursor.keyspaceIdx + 1) % keyspaces.size();
+
+        keyspaceSizes.put(node, gameLifecycleRepository.countKeys());
+    }
+
+    /**
+     * lease가 비어 있다면 얻고, 이미 이 인스턴스의 lease라면 연장한다.
+     */
+    private boolean acquireLease() {
+        RBucket<String> leader = getLeaderBucket();
+        if (leader.trySet(nodeId, leaseMillis, TimeUnit.MILLISECONDS)) return true;
+        Boolean renewed = redisShards.getHomeRedissonClient().getScript(StringCodec.INSTANCE)
+                .eval(RScript.Mode.READ_WRITE, RENEW_SCRIPT, RScript.ReturnType.BOOLEAN,
+                        List.of(LEADER_KEY), nodeId, String.valueOf(leaseMillis));
+        return Boolean.TRUE.equals(renewed);
+    }
+
+    private RBucket<String> getLeaderBucket() {
+        return redisShards.getHomeRedissonClient().getBucket(LEADER_KEY, StringCodec.INSTANCE);
+    }
+
+    private void record(SweepStep step) {
+        sweptKeysCounter.increment(step.getRemoved());
+        sweptBytesCounter.increment(step.getBytes());
+        idleKeysCounter.increment(step.getExpired());
+    }
+
+    private void sweepQuietly() {
+        try {
+            sweep();
+        } catch (RuntimeException e) {
+            log.warn("game lifecycle sweep failed", e);
+        }
+    }
+
+    private static class SweepCursor {
+        private String cursor = START_CURSOR;
+        private String keyspaceCursor = START_CURSOR;
+        private int keyspaceIdx;
+    }
+}
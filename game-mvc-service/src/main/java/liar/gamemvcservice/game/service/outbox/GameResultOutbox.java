@@ -0,0 +1,44 @@
+package liar.gamemvcservice.game.service.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import liar.gamemvcservice.exception.exception.NotFoundGameException;
+import liar.gamemvcservice.game.repository.redis.GameResultOutboxRepository;
+import liar.gamemvcservice.game.service.dto.GameResultToServerDto;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 데이터 서버로 보낼 게임 결과를 json으로 변환하여 outbox에 저장한다.
+ * 전송은 GameResultOutboxRelay가 요청 스레드와 별도로 처리한다.
+ */
+@Component
+public class GameResultOutbox {
+
+    private final GameResultOutboxRepository gameResultOutboxRepository;
+    private final ObjectMapper objectMapper;
+
+    public GameResultOutbox(GameResultOutboxRepository gameResultOutboxRepository) {
+        this.gameResultOutboxRepository = gameResultOutboxRepository;
+        this.objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    }
+
+    /**
+     * 게임의 sendMessage를 설정하고 게임 결과를 저장한다.
+     * 이미 다른 요청이 저장한 게임이라면 false
+     */
+    public boolean enqueueIfNotSent(GameResultToServerDto gameResultToServerDto) {
+        String gameId = gameResultToServerDto.getGameId();
+        long result = gameResultOutboxRepository.saveIfNotSent(gameId, toJson(gameResultToServerDto));
+        if (result < 0) throw new NotFoundGameException();
+        return result == 1;
+    }
+
+    private String toJson(GameResultToServerDto gameResultToServerDto) {
+        try {
+            return objectMapper.writeValueAsString(gameResultToServerDto);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package liar.gamemvcservice.game.service.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * /actuator/resultoutbox : dead 메세지 수를 조회하고, dead 메세지를 다시 전송한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "resultoutbox")
+public class GameResultOutboxEndpoint {
+
+    private static final int DEFAULT_LIMIT = 100;
+
+    private final GameResultOutboxRelay gameResultOutboxRelay;
+
+    @ReadOperation
+    public long deadSize() {
+        return gameResultOutboxRelay.checkDead();
+    }
+
+    @WriteOperation
+    public long replayDead(@Nullable Integer limit) {
+        return gameResultOutboxRelay.replayDead(limit == null ? DEFAULT_LIMIT : limit);
+    }
+}
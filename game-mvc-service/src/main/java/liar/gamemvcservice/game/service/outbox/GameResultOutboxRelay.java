@@ -0,0 +1,222 @@
+package liar.gamemvcservice.game.service.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import liar.gamemvcservice.common.redis.shard.RedisShardContext;
+import liar.gamemvcservice.common.redis.shard.RedisShards;
+import liar.gamemvcservice.game.repository.redis.GameResultOutboxRepository;
+import liar.gamemvcservice.game.repository.redis.GameResultOutboxRepository.OutboxMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * outbox에 저장된 게임 결과를 백그라운드 스레드에서 전송 계층으로 보낸다.
+ * 전송 예정 시각이 지난 메세지를 lease와 함께 가져와 transport의 최대 batch 크기로 나누어 전송하며,
+ * 실패한 메세지는 시도 횟수에 따라 지수적으로 늘어나는 backoff 후 다시 전송하고,
+ * maxAttempts를 넘으면 dead hash로 옮긴다.
+ * dead 메세지 수는 deadCheckMillis 마다 game.result.outbox.dead.size gauge로 기록하고,
+ * deadRetentionMillis가 지난 dead 메세지는 지운다. 보관 중인 메세지는 replayDead로 다시 전송할 수 있다.
+ * 가져온 메세지가 limit 만큼 차 있다면 쉬지 않고 이어서 비운다.
+ * outbox는 게임이 배정된 redis 노드마다 있으므로, 모든 노드의 outbox를 차례로 비운다.
+ */
+@Slf4j
+@Component
+public class GameResultOutboxRelay {
+
+    private final GameResultOutboxRepository gameResultOutboxRepository;
+    private final GameResultTransport gameResultTransport;
+    private final RedisShards redisShards;
+
+    private final int claimSize;
+    private final long leaseMillis;
+    private final long backoffMillis;
+    private final long maxBackoffMillis;
+    private final int maxAttempts;
+    private final long deadRetentionMillis;
+
+    private final ScheduledExecutorService relay = Executors.newSingleThreadScheduledExecutor();
+
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+    private final Counter deadCounter;
+    private final Timer batchTimer;
+    private final Counter deadPurgedCounter;
+    private final Counter deadReplayedCounter;
+
+    private final Map<String, Long> deadSizes = new ConcurrentHashMap<>();
+    private final AtomicLong deadSize = new AtomicLong();
+
+    public GameResultOutboxRelay(GameResultOutboxRepository gameResultOutboxRepository,
+                                 GameResultTransport gameResultTransport,
+                                 RedisShards redisShards,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${game.result.outbox.enabled:true}") boolean enabled,
+                                 @Value("${game.result.outbox.poll-millis:200}") long pollMillis,
+                                 @Value("${game.result.outbox.claim-size:100}") int claimSize,
+                                 @Value("${game.result.outbox.lease-millis:30000}") long leaseMillis,
+                                 @Value("${game.result.outbox.backoff-millis:500}") long backoffMillis,
+                                 @Value("${game.result.outbox.max-backoff-millis:60000}") long maxBackoffMillis,
+                                 @Value("${game.result.outbox.max-attempts:10}") int maxAttempts,
+                                 @Value("${game.result.outbox.dead-check-millis:60000}") long deadCheckMillis,
+                                 @Value("${game.result.outbox.dead-retention-millis:604800000}") long deadRetentionMillis) {
+        this.gameResultOutboxRepository = gameResultOutboxRepository;
+        this.gameResultTransport = gameResultTransport;
+        this.redisShards = redisShards;
+        this.claimSize = claimSize;
+        this.leaseMillis = leaseMillis;
+        this.backoffMillis = backoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+        this.maxAttempts = maxAttempts;
+        this.deadRetentionMillis = deadRetentionMillis;
+
+        this.sentCounter = Counter.builder("game.result.outbox.sent").register(meterRegistry);
+        this.failedCounter = Counter.builder("game.result.outbox.failed").register(meterRegistry);
+        this.deadCounter = Counter.builder("game.result.outbox.dead").register(meterRegistry);
+        this.batchTimer = Timer.builder("game.result.outbox.batch").register(meterRegistry);
+        this.deadPurgedCounter = Counter.builder("game.result.outbox.dead.purged").register(meterRegistry);
+        this.deadReplayedCounter = Counter.builder("game.result.outbox.dead.replayed").register(meterRegistry);
+        Gauge.builder("game.result.outbox.dead.size", deadSize, AtomicLong::get).register(meterRegistry);
+
+        if (enabled) {
+            relay.scheduleWithFixedDelay(this::drainQuietly, pollMillis, pollMillis, TimeUnit.MILLISECONDS);
+            relay.scheduleWithFixedDelay(this::checkDeadQuietly, 0, deadCheckMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        relay.shutdownNow();
+    }
+
+    /**
+     * 전송할 메세지가 없거나 limit 보다 적게 가져올 때까지 outbox를 비운다.
+     * @return 전송에 성공한 메세지 수
+     */
+    public int drain() {
+        int sentCnt = 0;
+        List<OutboxMessage> messages;
+        do {
+            long now = System.currentTimeMillis();
+            messages = gameResultOutboxRepository.claim(claimSize, now, now + leaseMillis);
+            for (List<OutboxMessage> batch : partition(messages, gameResultTransport.getMaxBatchSize())) {
+                sentCnt += send(batch);
+            }
+        } while (messages.size() == claimSize && !Thread.currentThread().isInterrupted());
+        return sentCnt;
+    }
+
+    /**
+     * 모든 노드에서 보관 기간이 지난 dead 메세지를 지우고, 남은 dead 메세지 수를 gauge에 기록한다.
+     * @return 모든 노드의 dead 메세지 수
+     */
+    public long checkDead() {
+        redisShards.forEachNode(this::checkDeadNode);
+        long size = deadSizes.values().stream().mapToLong(Long::longValue).sum();
+        deadSize.set(size);
+        if (size > 0) log.warn("game result dead outbox is not empty, size = {}", size);
+        return size;
+    }
+
+    /**
+     * 모든 노드에서 dead 메세지를 최대 limit 개씩 outbox로 옮겨 다시 전송한다.
+     * @return outbox로 옮긴 메세지 수
+     */
+    public long replayDead(int limit) {
+        AtomicLong replayed = new AtomicLong();
+        redisShards.forEachNode(() -> replayed.addAndGet(gameResultOutboxRepository.replayDead(limit)));
+        deadReplayedCounter.increment(replayed.get());
+        log.info("game result dead outbox replayed, size = {}", replayed.get());
+        return replayed.get();
+    }
+
+    private void checkDeadNode() {
+        long deadBefore = System.currentTimeMillis() - deadRetentionMillis;
+        long purged;
+        do {
+            purged = gameResultOutboxRepository.purgeDead(deadBefore, claimSize);
+            deadPurgedCounter.increment(purged);
+        } while (purged == claimSize && !Thread.currentThread().isInterrupted());
+        deadSizes.put(RedisShardContext.currentNode(), gameResultOutboxRepository.countDead());
+    }
+
+    private int send(List<OutboxMessage> batch) {
+        Set<String> failed;
+        Timer.Sample sample = Timer.start();
+        try {
+            failed = gameResultTransport.sendBatch(batch);
+        } catch (RuntimeException e) {
+            log.warn("game result batch send failed, size = {}", batch.size(), e);
+            failed = null;
+        } finally {
+            sample.stop(batchTimer);
+        }
+
+        List<String> sentIds = new ArrayList<>();
+        for (OutboxMessage message : batch) {
+            if (failed == null || failed.contains(message.getGameId())) retryOrBury(message);
+            else sentIds.add(message.getGameId());
+        }
+        gameResultOutboxRepository.delete(sentIds);
+        sentCounter.increment(sentIds.size());
+        return sentIds.size();
+    }
+
+    private void retryOrBury(OutboxMessage message) {
+        failedCounter.increment();
+        if (message.getAttempt() >= maxAttempts) {
+            log.error("game result moved to dead outbox, gameId = {}, attempt = {}",
+                    message.getGameId(), message.getAttempt());
+            gameResultOutboxRepository.bury(message.getGameId());
+            deadCounter.increment();
+            return;
+        }
+        gameResultOutboxRepository.retryAt(message.getGameId(),
+                System.currentTimeMillis() + getBackoffMillis(message.getAttempt()));
+    }
+
+    /**
+     * backoffMillis * 2^(attempt - 1), 최대 maxBackoffMillis
+     */
+    private long getBackoffMillis(int attempt) {
+        int shift = Math.min(Math.max(attempt - 1, 0), 30);
+        return Math.min(backoffMillis << shift, maxBackoffMillis);
+    }
+
+    private void drainQuietly() {
+        try {
+            redisShards.forEachNode(this::drain);
+        } catch (RuntimeException e) {
+            log.warn("game result outbox relay failed", e);
+        }
+    }
+
+    private void checkDeadQuietly() {
+        try {
+            checkDead();
+        } catch (RuntimeException e) {
+            log.warn("game result dead outbox check failed", e);
+        }
+    }
+
+    private List<List<OutboxMessage>> partition(List<OutboxMessage> messages, int size) {
+        List<List<OutboxMessage>> batches = new ArrayList<>();
+        for (int i = 0; i < messages.size(); i += size) {
+            batches.add(messages.subList(i, Math.min(i + size, messages.size())));
+        }
+        return batches;
+    }
+}
@@ -0,0 +1,24 @@
+package liar.gamemvcservice.game.service.outbox;
+
+import liar.gamemvcservice.game.repository.redis.GameResultOutboxRepository.OutboxMessage;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * outbox의 게임 결과 메세지를 데이터 서버로 전송하는 전송 계층
+ * game.result.transport 설정으로 sqs, memory 중 하나를 사용한다.
+ */
+public interface GameResultTransport {
+
+    /**
+     * 메세지를 한 번의 요청으로 전송하고, 전송에 실패한 메세지의 gameId를 반환한다.
+     * 요청 자체가 실패하면 예외를 던지며, 모든 메세지를 실패로 처리한다.
+     */
+    Set<String> sendBatch(List<OutboxMessage> messages);
+
+    /**
+     * 한 번의 요청으로 전송할 수 있는 최대 메세지 수
+     */
+    int getMaxBatchSize();
+}
@@ -0,0 +1,64 @@
+package liar.gamemvcservice.game.service.outbox;
+
+import liar.gamemvcservice.game.repository.redis.GameResultOutboxRepository.OutboxMessage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * sqs 없이 outbox relay를 부하 테스트하기 위한 메모리 전송 계층
+ * 전송한 메세지는 capacity 까지 큐에 보관하며, 큐가 가득 차거나 failureRate 확률로 전송에 실패한다.
+ */
+@Component
+@ConditionalOnProperty(name = "game.result.transport", havingValue = "memory")
+public class InMemoryGameResultTransport implements GameResultTransport {
+
+    private final BlockingQueue<OutboxMessage> sentMessages;
+    private final int maxBatchSize;
+    private final double failureRate;
+
+    public InMemoryGameResultTransport(@Value("${game.result.memory-transport.capacity:100000}") int capacity,
+                                       @Value("${game.result.memory-transport.max-batch-size:10}") int maxBatchSize,
+                                       @Value("${game.result.memory-transport.failure-rate:0}") double failureRate) {
+        this.sentMessages = new LinkedBlockingQueue<>(capacity);
+        this.maxBatchSize = maxBatchSize;
+        this.failureRate = failureRate;
+    }
+
+    @Override
+    public Set<String> sendBatch(List<OutboxMessage> messages) {
+        Set<String> failed = new HashSet<>();
+        for (OutboxMessage message : messages) {
+            if (ThreadLocalRandom.current().nextDouble() < failureRate || !sentMessages.offer(message)) {
+                failed.add(message.getGameId());
+            }
+        }
+        return failed;
+    }
+
+    @Override
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * 전송된 메세지를 최대 maxSize 개 꺼낸다.
+     */
+    public List<OutboxMessage> drain(int maxSize) {
+        List<OutboxMessage> messages = new ArrayList<>();
+        sentMessages.drainTo(messages, maxSize);
+        return messages;
+    }
+
+    public int size() {
+        return sentMessages.size();
+    }
+}
@@ -0,0 +1,75 @@
+package liar.gamemvcservice.game.service.outbox;
+
+import com.amazonaws.services.sqs.AmazonSQS;
+import com.amazonaws.services.sqs.model.BatchResultErrorEntry;
+import com.amazonaws.services.sqs.model.QueueDoesNotExistException;
+import com.amazonaws.services.sqs.model.SendMessageBatchRequest;
+import com.amazonaws.services.sqs.model.SendMessageBatchRequestEntry;
+import com.amazonaws.services.sqs.model.SendMessageBatchResult;
+import liar.gamemvcservice.game.repository.redis.GameResultOutboxRepository.OutboxMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * SendMessageBatch 1회로 최대 10개의 메세지를 sqs에 전송한다.
+ * queue url은 처음 전송할 때 1회 조회하여 보관하고, queue가 없다는 응답을 받으면 다시 조회한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "game.result.transport", havingValue = "sqs", matchIfMissing = true)
+public class SqsGameResultTransport implements GameResultTransport {
+
+    private static final int MAX_BATCH_SIZE = 10;
+
+    private final AmazonSQS amazonSQS;
+    private final String queueName;
+
+    private volatile String queueUrl;
+
+    public SqsGameResultTransport(AmazonSQS amazonSQS,
+                                  @Value("${aws.sqs.queueName}") String queueName) {
+        this.amazonSQS = amazonSQS;
+        this.queueName = queueName;
+    }
+
+    @Override
+    public Set<String> sendBatch(List<OutboxMessage> messages) {
+        List<SendMessageBatchRequestEntry> entries = messages.stream()
+                .map(message -> new SendMessageBatchRequestEntry(message.getGameId(), message.getBody()))
+                .collect(Collectors.toList());
+
+        try {
+            SendMessageBatchResult result = amazonSQS.sendMessageBatch(
+                    new SendMessageBatchRequest(getQueueUrl(), entries));
+            return result.getFailed()
+                    .stream()
+                    .peek(error -> log.warn("sqs send failed gameId = {}, code = {}, message = {}",
+                            error.getId(), error.getCode(), error.getMessage()))
+                    .map(BatchResultErrorEntry::getId)
+                    .collect(Collectors.toSet());
+        } catch (QueueDoesNotExistException e) {
+            queueUrl = null;
+            throw e;
+        }
+    }
+
+    @Override
+    public int getMaxBatchSize() {
+        return MAX_BATCH_SIZE;
+    }
+
+    private String getQueueUrl() {
+        String url = queueUrl;
+        if (url == null) {
+            url = amazonSQS.getQueueUrl(queueName).getQueueUrl();
+            queueUrl = url;
+        }
+        return url;
+    }
+}
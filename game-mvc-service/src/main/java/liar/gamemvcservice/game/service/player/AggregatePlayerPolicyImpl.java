@@ -0,0 +1,66 @@
+package liar.gamemvcservice.game.service.player;
+
+import liar.gamemvcservice.exception.exception.NotFoundGameException;
+import liar.gamemvcservice.exception.exception.NotFoundUserException;
+import liar.gamemvcservice.game.domain.Game;
+import liar.gamemvcservice.game.domain.GameAggregate;
+import liar.gamemvcservice.game.domain.GameRole;
+import liar.gamemvcservice.game.domain.Player;
+import liar.gamemvcservice.game.repository.redis.GameAggregateRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 플레이어 역할을 GameAggregate hash의 role 필드로 저장하는 PlayerPolicy
+ * JoinPlayer 엔티티와 gameId 인덱스 set을 만들지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "game.storage.mode", havingValue = "aggregate")
+public class AggregatePlayerPolicyImpl implements PlayerPolicy {
+
+    private final GameAggregateRepository gameAggregateRepository;
+
+    /**
+     * 라이어를 정하고, 모든 플레이어의 역할을 한 번의 HSET으로 저장한다.
+     */
+    @Override
+    public String setUpPlayerRole(Game game) {
+
+        int randomIdx = (int) (Math.random() * game.getPlayerIds().size());
+        String liarId = game.getPlayerIds().get(randomIdx);
+
+        if (liarId == null) {
+            throw new NotFoundUserException();
+        }
+
+        List<Player> players = game.getPlayerIds().stream()
+                .map(userId -> new Player(userId, userId.equals(liarId) ? GameRole.LIAR : GameRole.CITIZEN))
+                .collect(Collectors.toList());
+        gameAggregateRepository.saveRoles(game.getId(), players);
+
+        return liarId;
+    }
+
+    @Override
+    public Player checkPlayerInfo(String gameId, String userId) {
+        GameRole gameRole = gameAggregateRepository.findRole(gameId, userId);
+        if (gameRole == null) {
+            throw new NotFoundUserException();
+        }
+        return new Player(userId, gameRole);
+    }
+
+    @Override
+    public List<Player> findPlayers(String gameId) {
+        GameAggregate gameAggregate = gameAggregateRepository.findAggregate(gameId);
+        if (gameAggregate == null || gameAggregate.getPlayers().isEmpty()) {
+            throw new NotFoundGameException();
+        }
+        return gameAggregate.getPlayers();
+    }
+}
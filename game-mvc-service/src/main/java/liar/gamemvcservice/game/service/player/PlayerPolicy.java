@@ -4,9 +4,16 @@ import liar.gamemvcservice.game.domain.Game;
 import liar.gamemvcservice.game.domain.Player;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component
 public interface PlayerPolicy {
     String setUpPlayerRole(Game game);
 
     Player checkPlayerInfo(String gameId, String userId);
+
+    /**
+     * 게임에 참여한 모든 플레이어를 조회한다.
+     */
+    List<Player> findPlayers(String gameId);
 }
@@ -6,20 +6,28 @@ import liar.gamemvcservice.game.domain.Game;
 import liar.gamemvcservice.game.domain.GameRole;
 import liar.gamemvcservice.game.domain.JoinPlayer;
 import liar.gamemvcservice.game.domain.Player;
+import liar.gamemvcservice.game.repository.redis.JoinPlayerBatchRepository;
 import liar.gamemvcservice.game.repository.redis.JoinPlayerRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
 @Transactional
+@ConditionalOnProperty(name = "game.storage.mode", havingValue = "entity", matchIfMissing = true)
 public class PlayerPolicyImpl implements PlayerPolicy {
 
     private final JoinPlayerRepository joinPlayerRepository;
+    private final JoinPlayerBatchRepository joinPlayerBatchRepository;
 
+    /**
+     * 라이어를 정하고, 모든 플레이어의 역할을 한 번의 pipeline으로 저장한다.
+     */
     @Override
     public String setUpPlayerRole(Game game) {
 
@@ -30,18 +38,11 @@ public class PlayerPolicyImpl implements PlayerPolicy {
             throw new NotFoundUserException();
         }
 
-        game.getPlayerIds().stream()
-                .forEach(
-                        userId -> {
-                            if (userId.equals(liarId)) {
-                                joinPlayerRepository.save(new JoinPlayer(game.getId(),
-                                        new Player(userId, GameRole.LIAR)));
-                            } else {
-                                joinPlayerRepository.save(new JoinPlayer(game.getId(),
-                                        new Player(userId, GameRole.CITIZEN)));
-                            }
-                        }
-                );
+        List<JoinPlayer> joinPlayers = game.getPlayerIds().stream()
+                .map(userId -> new JoinPlayer(game.getId(),
+                        new Player(userId, userId.equals(liarId) ? GameRole.LIAR : GameRole.CITIZEN)))
+                .collect(Collectors.toList());
+        joinPlayerBatchRepository.saveAllInPipeline(joinPlayers);
 
         return liarId;
     }
@@ -60,4 +61,17 @@ public class PlayerPolicyImpl implements PlayerPolicy {
                 .findFirst()
                 .orElseThrow(NotFoundUserException::new);
     }
+
+    @Override
+    public List<Player> findPlayers(String gameId) {
+        List<JoinPlayer> joinPlayers = joinPlayerRepository.findByGameId(gameId);
+
+        if (joinPlayers.isEmpty()) {
+            throw new NotFoundGameException();
+        }
+
+        return joinPlayers.stream()
+                .map(JoinPlayer::getPlayer)
+                .collect(Collectors.toList());
+    }
 }
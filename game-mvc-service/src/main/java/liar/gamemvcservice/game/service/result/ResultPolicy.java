@@ -1,6 +1,7 @@
 package liar.gamemvcservice.game.service.result;
 
 import liar.gamemvcservice.game.domain.Game;
+import liar.gamemvcservice.game.domain.Player;
 import liar.gamemvcservice.game.domain.Vote;
 import liar.gamemvcservice.game.domain.VotedResult;
 import liar.gamemvcservice.game.service.dto.PlayerResultInfoDto;
@@ -18,8 +19,14 @@ public interface ResultPolicy {
      */
     boolean checkWhoWin(Game game, List<VotedResult> votedResults);
 
+    /**
+     * 이미 조회한 플레이어 역할로 승리 팀을 판단한다.
+     */
+    boolean checkWhoWin(List<Player> players, List<VotedResult> votedResults);
+
     List<VotedResultDto> getVotedResultDto(Vote vote);
     List<PlayerResultInfoDto> getPlayersResultInfo(Game game, VotedResult votedResult);
+    List<PlayerResultInfoDto> getPlayersResultInfo(List<Player> players, VotedResult votedResult);
 
 
 }
@@ -35,6 +35,16 @@ public class ResultPolicyImpl implements ResultPolicy {
         return false;
     }
 
+    @Override
+    public boolean checkWhoWin(List<Player> players, List<VotedResult> votedResults) {
+        if (votedResults.size() == 1) {
+            String liarId = votedResults.get(0).getLiarId();
+            return players.stream()
+                    .anyMatch(player -> player.getUserId().equals(liarId) && player.getGameRole() == LIAR);
+        }
+        return false;
+    }
+
     @Override
     public List<VotedResultDto> getVotedResultDto(Vote vote) {
         return vote.getVotedResults()
@@ -45,10 +55,16 @@ public class ResultPolicyImpl implements ResultPolicy {
 
     @Override
     public List<PlayerResultInfoDto> getPlayersResultInfo(Game game, VotedResult votedResult) {
-        return joinPlayerRepository
+        return getPlayersResultInfo(joinPlayerRepository
                 .findByGameId(game.getId())
                 .stream()
                 .map(JoinPlayer::getPlayer)
+                .collect(Collectors.toList()), votedResult);
+    }
+
+    @Override
+    public List<PlayerResultInfoDto> getPlayersResultInfo(List<Player> players, VotedResult votedResult) {
+        return players.stream()
                 .map(player -> new PlayerResultInfoDto(player.getUserId(),
                         player.getGameRole(),
                         votedResult.getUserIds().contains(player.getUserId())))
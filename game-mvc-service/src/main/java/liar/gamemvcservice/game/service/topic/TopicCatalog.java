@@ -0,0 +1,235 @@
+package liar.gamemvcservice.game.service.topic;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import liar.gamemvcservice.game.domain.Topic;
+import liar.gamemvcservice.game.repository.TopicRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Topic 테이블을 노드 메모리의 배열로 보관하여, 무작위 topic을 db 조회 없이 배열 인덱스 1회로 선택한다.
+ * 시작 시와 refreshSeconds 마다 전체 topic을 읽어 내용의 digest를 비교하고, 추가, 수정, 삭제되어 digest가 바뀐 경우에만 배열을 교체한다.
+ * topic 테이블은 노드 메모리에 모두 올릴 만큼 작으므로, 별도의 수정 시각 없이 전체 내용의 digest를 version으로 사용한다.
+ * 같은 배열을 redis list(TopicCatalog)에 같은 순서로 저장하여, game-service도 같은 인덱스로 topic을 선택한다.
+ * redis list는 항상 DB의 전체 topic으로 다시 만들고 digest를 version(TopicCatalog:version)으로 함께 저장하므로,
+ * 여러 노드가 동시에 저장해도 topic이 중복되지 않고, game-service는 version이 바뀌었을 때만 list를 다시 읽는다.
+ */
+@Slf4j
+@Component
+public class TopicCatalog {
+
+    public static final String CATALOG_KEY = "TopicCatalog";
+    public static final String VERSION_KEY = "TopicCatalog:version";
+
+    private final TopicRepository topicRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final int recentSize;
+    private final long refreshSeconds;
+
+    private final Cache<String, RecentTopics> recentTopicsByRoom;
+    private final ScheduledExecutorService refresher = Executors.newSingleThreadScheduledExecutor();
+
+    private volatile Topic[] topics = new Topic[0];
+    private String version;
+
+    public TopicCatalog(TopicRepository topicRepository,
+                        StringRedisTemplate stringRedisTemplate,
+                        @Value("${game.topic.recent-size:5}") int recentSize,
+                        @Value("${game.topic.refresh-seconds:60}") long refreshSeconds,
+                        @Value("${game.topic.max-rooms:10000}") long maxRooms) {
+        this.topicRepository = topicRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        this.recentSize = recentSize;
+        this.refreshSeconds = refreshSeconds;
+        this.recentTopicsByRoom = Caffeine.newBuilder()
+                .maximumSize(maxRooms)
+                .expireAfterAccess(Duration.ofHours(1))
+                .build();
+    }
+
+    @PostConstruct
+    public void init() {
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            log.warn("topic catalog load failed, fallback topics will be used", e);
+        }
+        if (refreshSeconds > 0) {
+            refresher.scheduleWithFixedDelay(this::refreshQuietly, refreshSeconds, refreshSeconds, TimeUnit.SECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    /**
+     * 전체 topic을 다시 읽고, digest가 바뀌었다면(topic이 추가, 수정, 삭제된 경우) 배열을 교체한다.
+     * redis list는 저장된 version이 다를 때마다 다시 만든다.
+     * 삭제로 인덱스가 밀리면 방의 최근 topic 기록이 다른 topic을 가리킬 수 있지만, 제외 대상이 바뀔 뿐 선택은 그대로 균등하다.
+     * @return 배열을 교체했다면 true
+     */
+    public synchronized boolean reload() {
+        List<Topic> findTopics = topicRepository.findAllByOrderByIdAsc();
+        List<String> values = findTopics.stream().map(this::toJson).toList();
+        String reloadedVersion = DigestUtils.md5DigestAsHex(String.join("\n", values).getBytes(StandardCharsets.UTF_8));
+
+        boolean changed = !reloadedVersion.equals(version);
+        if (changed) {
+            topics = findTopics.toArray(new Topic[0]);
+            version = reloadedVersion;
+        }
+        publish(values, reloadedVersion);
+        return changed;
+    }
+
+    public int size() {
+        return topics.length;
+    }
+
+    /**
+     * 무작위 topic 하나를 선택한다. topic이 없다면 null
+     */
+    public Topic pick() {
+        Topic[] snapshot = topics;
+        if (snapshot.length == 0) return null;
+        return snapshot[ThreadLocalRandom.current().nextInt(snapshot.length)];
+    }
+
+    /**
+     * 방(roomId)에서 최근 recentSize 개 게임에 나온 topic을 제외하고 무작위 topic 하나를 선택한다.
+     * 제외할 topic을 건너뛰는 방식으로 남은 topic 중에서 균등하게 한 번에 선택하며, topic이 없다면 null
+     */
+    public Topic pick(String roomId) {
+        if (roomId == null || recentSize <= 0) return pick();
+
+        Topic[] snapshot = topics;
+        if (snapshot.length == 0) return null;
+
+        RecentTopics recentTopics = recentTopicsByRoom.get(roomId, key -> new RecentTopics(recentSize));
+        synchronized (recentTopics) {
+            int idx = recentTopics.draw(snapshot.length);
+            recentTopics.add(idx);
+            return snapshot[idx];
+        }
+    }
+
+    private void refreshQuietly() {
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            log.warn("topic catalog refresh failed", e);
+        }
+    }
+
+    /**
+     * DB의 전체 topic으로 redis list를 다시 만든다. 저장된 version이 같다면 다시 쓰지 않는다.
+     * DEL, RPUSH, version SET을 MULTI로 실행하므로, 읽는 쪽은 교체 전후의 list 중 하나만 본다.
+     */
+    private void publish(List<String> values, String version) {
+        if (version.equals(stringRedisTemplate.opsForValue().get(VERSION_KEY))) return;
+
+        stringRedisTemplate.execute(new SessionCallback<List<Object>>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public List<Object> execute(RedisOperations operations) {
+                operations.multi();
+                operations.delete(CATALOG_KEY);
+                if (!values.isEmpty()) operations.opsForList().rightPushAll(CATALOG_KEY, values);
+                operations.opsForValue().set(VERSION_KEY, version);
+                return operations.exec();
+            }
+        });
+    }
+
+    private String toJson(Topic topic) {
+        Map<String, Object> value = new LinkedHashMap<>();
+        value.put("id", topic.getId());
+        value.put("name", topic.getTopicName());
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 방에서 최근에 나온 topic 인덱스를 순환 버퍼로 보관한다.
+     */
+    static class RecentTopics {
+        private final int[] indexes;
+        private int cnt;
+        private int pos;
+
+        RecentTopics(int size) {
+            this.indexes = new int[size];
+        }
+
+        /**
+         * topic이 size개일 때, 최근 topic을 최대 size - 1개 제외하고 남은 인덱스 중 하나를 균등하게 선택한다.
+         */
+        int draw(int size) {
+            int[] excluded = excluded(size);
+            int idx = ThreadLocalRandom.current().nextInt(size - excluded.length);
+            for (int excludedIdx : excluded) {
+                if (excludedIdx <= idx) idx++;
+            }
+            return idx;
+        }
+
+        void add(int idx) {
+            indexes[pos] = idx;
+            pos = (pos + 1) % indexes.length;
+            if (cnt < indexes.length) cnt++;
+        }
+
+        /**
+         * 가장 최근 topic부터 size - 1개까지, 중복 없이 오름차순으로 정렬하여 반환한다.
+         */
+        private int[] excluded(int size) {
+            int limit = Math.min(cnt, size - 1);
+            int[] excluded = new int[limit];
+            int excludedCnt = 0;
+            for (int i = 1; i <= cnt && excludedCnt < limit; i++) {
+                int idx = indexes[(pos - i + indexes.length) % indexes.length];
+                if (idx >= size || contains(excluded, excludedCnt, idx)) continue;
+                excluded[excludedCnt++] = idx;
+            }
+            int[] sorted = Arrays.copyOf(excluded, excludedCnt);
+            Arrays.sort(sorted);
+            return sorted;
+        }
+
+        private boolean contains(int[] values, int cnt, int value) {
+            for (int i = 0; i < cnt; i++) {
+                if (values[i] == value) return true;
+            }
+            return false;
+        }
+    }
+}
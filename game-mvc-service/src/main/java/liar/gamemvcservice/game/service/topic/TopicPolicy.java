@@ -6,4 +6,6 @@ import org.springframework.stereotype.Component;
 @Component
 public interface TopicPolicy {
     Topic setUp();
+
+    Topic setUp(String roomId);
 }
@@ -1,20 +1,14 @@
 package liar.gamemvcservice.game.service.topic;
 
 import liar.gamemvcservice.game.domain.Topic;
-import liar.gamemvcservice.game.repository.TopicRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 @Component
-@Transactional
 @RequiredArgsConstructor
 public class TopicPolicyImpl implements TopicPolicy {
 
-    @Value("${topic.range}")
-    private long range;
-    private final TopicRepository topicRepository;
+    private final TopicCatalog topicCatalog;
 
     private static Topic[] supplyTopic = {
             new Topic(314000L, "축구"),
@@ -27,21 +21,27 @@ public class TopicPolicyImpl implements TopicPolicy {
             new Topic(314007L, "유재석")
     };
 
+    /**
+     * topicCatalog에서 무작위 topic을 가져온다.
+     * catalog가 비어있다면, supplyTopic에서 무작위 값을 가져온다.
+     */
     @Override
     public Topic setUp() {
-        Topic topic;
-        long randomId = (long) (Math.random() * range) + 1;
-        int cnt = 0;
+        return orSupplyTopic(topicCatalog.pick());
+    }
 
-        while((topic = topicRepository.findTopicById(randomId)) == null && cnt < 3) {
-            randomId = (long) (Math.random() * range) + 1;
-            cnt++;
-        }
+    /**
+     * 같은 방(roomId)에서 최근에 나온 topic을 제외하고 무작위 topic을 가져온다.
+     */
+    @Override
+    public Topic setUp(String roomId) {
+        return orSupplyTopic(topicCatalog.pick(roomId));
+    }
 
+    private Topic orSupplyTopic(Topic topic) {
         if (topic == null) {
             topic = supplyTopic[(int) (Math.random() * supplyTopic.length)];
         }
-
         return topic;
     }
 }
@@ -0,0 +1,80 @@
+package liar.gamemvcservice.game.service.turn;
+
+import liar.gamemvcservice.exception.exception.NotFoundGameException;
+import liar.gamemvcservice.exception.exception.NotUserTurnException;
+import liar.gamemvcservice.exception.exception.RedisLockException;
+import liar.gamemvcservice.game.domain.Game;
+import liar.gamemvcservice.game.domain.GameAggregate;
+import liar.gamemvcservice.game.domain.GameTurn;
+import liar.gamemvcservice.game.repository.redis.GameAggregateRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 턴 순서와 현재 턴을 GameAggregate hash에 저장하는 PlayerTurnPolicy
+ * 현재 턴은 compare-and-set script로 변경하며, GameTurn 엔티티와 gameId 인덱스 set을 만들지 않는다.
+ */
+@Component
+@ConditionalOnProperty(name = "game.storage.mode", havingValue = "aggregate")
+public class AggregatePlayerTurnPolicyImpl implements PlayerTurnPolicy {
+
+    private final GameAggregateRepository gameAggregateRepository;
+    private final int maxRetry;
+
+    public AggregatePlayerTurnPolicyImpl(GameAggregateRepository gameAggregateRepository,
+                                         @Value("${game.redis.optimistic-retry:5}") int maxRetry) {
+        this.gameAggregateRepository = gameAggregateRepository;
+        this.maxRetry = maxRetry;
+    }
+
+    /**
+     * 플레이어의 턴을 정한다.
+     * 이미 정해진 턴이 있다면, 저장된 턴을 반환한다.
+     */
+    @Override
+    public GameTurn setUpTurn(Game game) {
+        gameAggregateRepository.saveTurnsIfAbsent(game.getId(), game.shufflePlayer());
+        return findGameTurn(game.getId());
+    }
+
+    /**
+     * 플레이어의 턴이 맞는지 확인
+     * 검증이 되면, 턴의 횟수를 늘린다.
+     * 다른 요청이 먼저 턴을 변경했다면, 다시 조회하여 검증한다.
+     */
+    @Override
+    public GameTurn updateTurnWhenPlayerTurnIsValidated(GameTurn gameTurn, String userId) {
+        GameTurn findGameTurn = gameTurn;
+        for (int i = 0; i < maxRetry; i++) {
+            int expectedTurn = findGameTurn.getNowTurn();
+            findGameTurn.updateTurnCntWhenPlayerTurnIsValidated(userId);
+            if (gameAggregateRepository.compareAndSetNowTurn(findGameTurn.getGameId(),
+                    expectedTurn, findGameTurn.getNowTurn())) {
+                return findGameTurn;
+            }
+            findGameTurn = findGameTurn(findGameTurn.getGameId());
+        }
+        throw new RedisLockException();
+    }
+
+    /**
+     * 플레이어가 시간 안에 턴을 마치지 못하면, 시간초과로 인해 턴을 넘기고 저장한다.
+     * 그 사이 다른 요청이 턴을 넘겼다면 NotUserTurnException을 발생시킨다.
+     */
+    @Override
+    public GameTurn timeOut(GameTurn gameTurn) {
+        int expiredTurn = gameTurn.getNowTurn();
+        if (!gameAggregateRepository.compareAndSetNowTurn(gameTurn.getGameId(), expiredTurn, expiredTurn + 1)) {
+            throw new NotUserTurnException();
+        }
+        return gameTurn.updateTurnCntByTimeOut(expiredTurn);
+    }
+
+    @Override
+    public GameTurn findGameTurn(String gameId) {
+        GameAggregate gameAggregate = gameAggregateRepository.findAggregate(gameId);
+        if (gameAggregate == null) throw new NotFoundGameException();
+        return gameAggregate.toGameTurn();
+    }
+}
@@ -0,0 +1,30 @@
+package liar.gamemvcservice.game.service.turn;
+
+import liar.gamemvcservice.game.domain.NextTurn;
+import org.springframework.stereotype.Component;
+
+@Component
+public interface GameTurnEngine {
+
+    /**
+     * 게임 턴 엔진 사용 여부
+     */
+    boolean isEnabled();
+
+    /**
+     * 게임을 소유한 노드의 메모리에서 플레이어의 턴을 검증하고 다음 턴을 반환한다.
+     * 게임 턴 변경은 gameId 별 단일 스레드(mailbox)에서 순서대로 처리되며,
+     * redis에는 비동기로 저장된다.
+     */
+    NextTurn updateTurnWhenPlayerTurnIsValidated(String gameId, String userId);
+
+    /**
+     * 시간이 초과된 턴(expiredTurn)이 아직 현재 턴이라면, 턴을 넘기고 다음 턴을 반환한다.
+     */
+    NextTurn timeOut(String gameId, int expiredTurn);
+
+    /**
+     * 게임이 끝나면, 메모리의 게임 턴을 redis에 저장하고 소유권을 반납한다.
+     */
+    void release(String gameId);
+}
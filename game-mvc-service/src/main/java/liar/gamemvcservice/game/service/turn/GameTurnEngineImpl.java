@@ -0,0 +1,310 @@
+package liar.gamemvcservice.game.service.turn;
+
+import jakarta.annotation.PreDestroy;
+import liar.gamemvcservice.common.redis.shard.RedisShards;
+import liar.gamemvcservice.exception.exception.GameTurnEndException;
+import liar.gamemvcservice.exception.exception.NotFoundGameException;
+import liar.gamemvcservice.exception.exception.NotOwnedGameException;
+import liar.gamemvcservice.game.domain.GameTurn;
+import liar.gamemvcservice.game.domain.NextTurn;
+import liar.gamemvcservice.game.repository.redis.GameTurnRepository;
+import liar.gamemvcservice.game.service.lifecycle.GameLifecycleManager;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBucket;
+import org.redisson.api.RScript;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.*;
+
+@Slf4j
+@Component
+public class GameTurnEngineImpl implements GameTurnEngine {
+
+    private static final String OWNER_KEY_PREFIX = "GameTurnOwner:";
+
+    /**
+     * 소유권이 이 노드에 있을 때만 lease를 연장한다.
+     */
+    private static final String RENEW_SCRIPT =
+            "if redis.call('get', KEYS[1]) == ARGV[1] then " +
+                    "return redis.call('expire', KEYS[1], ARGV[2]) " +
+            "end " +
+            "return 0";
+
+    private final GameTurnRepository gameTurnRepository;
+    private final RedisShards redisShards;
+    private final GameLifecycleManager gameLifecycleManager;
+
+    private final boolean enabled;
+    private final long leaseSeconds;
+    private final long idleMillis;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final Map<String, OwnedGameTurn> gameTurns = new ConcurrentHashMap<>();
+    private final Map<String, GameTurn> dirtyGameTurns = new ConcurrentHashMap<>();
+    private final ExecutorService[] mailboxes;
+    private final ScheduledExecutorService writeBehind;
+
+    public GameTurnEngineImpl(GameTurnRepository gameTurnRepository,
+                              RedisShards redisShards,
+                              GameLifecycleManager gameLifecycleManager,
+                              @Value("${game.turn.engine.enabled:false}") boolean enabled,
+                              @Value("${game.turn.engine.mailboxes:8}") int mailboxCnt,
+                              @Value("${game.turn.engine.flush-millis:100}") long flushMillis,
+                              @Value("${game.turn.engine.lease-seconds:60}") long leaseSeconds,
+                              @Value("${game.turn.engine.idle-seconds:300}") long idleSeconds) {
+        this.gameTurnRepository = gameTurnRepository;
+        this.redisShards = redisShards;
+        this.gameLifecycleManager = gameLifecycleManager;
+        this.enabled = enabled;
+        this.leaseSeconds = leaseSeconds;
+        this.idleMillis = TimeUnit.SECONDS.toMillis(idleSeconds);
+
+        if (!enabled) {
+            this.mailboxes = new ExecutorService[0];
+            this.writeBehind = null;
+            return;
+        }
+
+        this.mailboxes = new ExecutorService[mailboxCnt];
+        for (int i = 0; i < mailboxCnt; i++) {
+            mailboxes[i] = Executors.newSingleThreadExecutor();
+        }
+        this.writeBehind = Executors.newSingleThreadScheduledExecutor();
+        writeBehind.scheduleWithFixedDelay(this::flush, flushMillis, flushMillis, TimeUnit.MILLISECONDS);
+        long renewSeconds = Math.max(1, leaseSeconds / 3);
+        writeBehind.scheduleWithFixedDelay(this::renewOwnership, renewSeconds, renewSeconds, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 게임을 소유한 노드의 메모리에서 플레이어의 턴을 검증하고 다음 턴을 반환한다.
+     * 게임 턴 변경은 gameId 별 단일 스레드(mailbox)에서 순서대로 처리되며,
+     * redis에는 비동기로 저장된다.
+     * 이미 끝난 게임이라면 메모리에서 제거하고 소유권을 반납한다.
+     */
+    @Override
+    public NextTurn updateTurnWhenPlayerTurnIsValidated(String gameId, String userId) {
+        return submit(gameId, () -> {
+            GameTurn gameTurn = getOrLoadGameTurn(gameId);
+            try {
+                NextTurn nextTurn = gameTurn.updateTurnCntWhenPlayerTurnIsValidated(userId).setIfExistsNextTurn();
+                dirtyGameTurns.put(gameId, gameTurn.snapshot());
+                return nextTurn;
+            } catch (GameTurnEndException e) {
+                evict(gameId, false);
+                throw e;
+            }
+        });
+    }
+
+    @Override
+    public NextTurn timeOut(String gameId, int expiredTurn) {
+        return submit(gameId, () -> {
+            GameTurn gameTurn = getOrLoadGameTurn(gameId);
+            try {
+                NextTurn nextTurn = gameTurn.updateTurnCntByTimeOut(expiredTurn).setIfExistsNextTurn();
+                dirtyGameTurns.put(gameId, gameTurn.snapshot());
+                return nextTurn;
+            } catch (GameTurnEndException e) {
+                evict(gameId, false);
+                throw e;
+            }
+        });
+    }
+
+    /**
+     * 게임이 끝나면, 메모리의 게임 턴을 redis에 저장하고 소유권을 반납한다.
+     */
+    @Override
+    public void release(String gameId) {
+        submit(gameId, () -> {
+            await(evict(gameId, true));
+            return null;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (!enabled) return;
+        for (ExecutorService mailbox : mailboxes) {
+            mailbox.shutdown();
+        }
+        writeBehind.shutdown();
+        flush();
+        gameTurns.keySet().forEach(gameId -> getOwnerBucket(gameId).compareAndSet(nodeId, null));
+    }
+
+    /**
+     * gameId를 기준으로 mailbox를 선택하여, 같은 게임의 요청은 항상 같은 스레드에서 처리한다.
+     * mailbox 스레드의 redis 명령은 게임이 배정된 노드로 보낸다.
+     */
+    private <T> T submit(String gameId, Callable<T> task) {
+        if (!enabled) throw new IllegalStateException("game turn engine is disabled");
+        try {
+            return getMailbox(gameId).submit(() -> redisShards.callInGame(gameId, task::call)).get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private ExecutorService getMailbox(String gameId) {
+        return mailboxes[Math.floorMod(gameId.hashCode(), mailboxes.length)];
+    }
+
+    /**
+     * 메모리에 게임 턴이 없다면, 소유권을 얻은 후 redis에서 1회 조회한다.
+     * 메모리에 있더라도 lease 확인 시점이 지났다면 소유권을 다시 확인하고,
+     * 다른 노드가 소유한 게임이라면 NotOwnedGameException을 발생시킨다.
+     */
+    private GameTurn getOrLoadGameTurn(String gameId) {
+        long now = System.currentTimeMillis();
+        OwnedGameTurn owned = gameTurns.get(gameId);
+        if (owned != null) {
+            if (now < owned.leaseUntil || renewLease(gameId)) {
+                owned.lastAccessAt = now;
+                if (now >= owned.leaseUntil) owned.leaseUntil = now + getLeaseCheckMillis();
+                return owned.gameTurn;
+            }
+            await(evict(gameId, false));
+        }
+
+        RBucket<String> ownerBucket = getOwnerBucket(gameId);
+        if (!ownerBucket.trySet(nodeId, leaseSeconds, TimeUnit.SECONDS) && !nodeId.equals(ownerBucket.get())) {
+            throw new NotOwnedGameException();
+        }
+
+        GameTurn gameTurn = gameTurnRepository.findGameTurnByGameId(gameId);
+        if (gameTurn == null) {
+            ownerBucket.compareAndSet(nodeId, null);
+            throw new NotFoundGameException();
+        }
+        gameTurns.put(gameId, new OwnedGameTurn(gameTurn, now, now + getLeaseCheckMillis()));
+        return gameTurn;
+    }
+
+    /**
+     * 메모리에서 게임 턴을 제거한다. save가 true라면 마지막 상태를 redis에 저장한다.
+     * 오래된 snapshot이 새 snapshot을 덮어쓰지 않도록, 저장과 소유권 반납은 writeBehind 스레드에서 실행한다.
+     */
+    private Future<?> evict(String gameId, boolean save) {
+        OwnedGameTurn owned = gameTurns.remove(gameId);
+        if (owned != null && save) dirtyGameTurns.put(gameId, owned.gameTurn.snapshot());
+        return writeBehind.submit(() -> {
+            flush();
+            try {
+                getOwnerBucket(gameId).compareAndSet(nodeId, null);
+            } catch (RuntimeException e) {
+                log.warn("gameTurn ownership release failed, gameId = {}", gameId, e);
+            }
+        });
+    }
+
+    private void await(Future<?> future) {
+        try {
+            future.get();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 변경된 게임 턴의 마지막 상태만 redis에 저장한다.
+     * save는 key를 지우고 다시 쓰므로, 이미 끝난 게임이라면 사라진 TTL을 다시 설정한다.
+     */
+    private void flush() {
+        for (String gameId : dirtyGameTurns.keySet()) {
+            GameTurn snapshot = dirtyGameTurns.remove(gameId);
+            if (snapshot == null) continue;
+            try {
+                redisShards.runInGame(gameId, () -> gameTurnRepository.save(snapshot));
+                gameLifecycleManager.keepFinishedTtl(gameId, List.of(
+                        "GameTurn:" + snapshot.getId(), "GameTurn:" + snapshot.getId() + ":idx",
+                        "GameTurn:gameId:" + gameId));
+            } catch (RuntimeException e) {
+                dirtyGameTurns.putIfAbsent(gameId, snapshot);
+                log.warn("gameTurn write-behind failed, gameId = {}", gameId, e);
+            }
+        }
+    }
+
+    /**
+     * idleMillis 동안 요청이 없던 게임은 mailbox에서 저장 후 제거하고,
+     * 나머지 게임은 소유권이 이 노드에 남아 있을 때만 lease를 연장한다.
+     */
+    private void renewOwnership() {
+        long now = System.currentTimeMillis();
+        for (Map.Entry<String, OwnedGameTurn> entry : gameTurns.entrySet()) {
+            String gameId = entry.getKey();
+            OwnedGameTurn owned = entry.getValue();
+            try {
+                if (now - owned.lastAccessAt >= idleMillis) {
+                    getMailbox(gameId).submit(() -> redisShards.runInGame(gameId, () -> {
+                        if (gameTurns.get(gameId) == owned && System.currentTimeMillis() - owned.lastAccessAt >= idleMillis) {
+                            evict(gameId, true);
+                        }
+                    }));
+                }
+                else {
+                    owned.leaseUntil = renewLease(gameId) ? now + getLeaseCheckMillis() : 0;
+                }
+            } catch (RuntimeException e) {
+                log.warn("gameTurn ownership renew failed, gameId = {}", gameId, e);
+            }
+        }
+    }
+
+    private boolean renewLease(String gameId) {
+        String ownerKey = getOwnerKey(gameId);
+        Boolean renewed = redisShards.getRedissonClient(ownerKey).getScript(StringCodec.INSTANCE)
+                .eval(RScript.Mode.READ_WRITE, RENEW_SCRIPT, RScript.ReturnType.BOOLEAN,
+                        List.of(ownerKey), nodeId, String.valueOf(leaseSeconds));
+        return Boolean.TRUE.equals(renewed);
+    }
+
+    /**
+     * 마지막 소유권 확인 후 lease의 절반이 지나기 전까지는 redis 확인 없이 메모리의 게임 턴을 사용한다.
+     */
+    private long getLeaseCheckMillis() {
+        return TimeUnit.SECONDS.toMillis(leaseSeconds) / 2;
+    }
+
+    private RBucket<String> getOwnerBucket(String gameId) {
+        String ownerKey = getOwnerKey(gameId);
+        return redisShards.getRedissonClient(ownerKey).getBucket(ownerKey, StringCodec.INSTANCE);
+    }
+
+    private String getOwnerKey(String gameId) {
+        return OWNER_KEY_PREFIX + "{" + gameId + "}";
+    }
+
+    private static class OwnedGameTurn {
+        private final GameTurn gameTurn;
+        private volatile long lastAccessAt;
+        private volatile long leaseUntil;
+
+        private OwnedGameTurn(GameTurn gameTurn, long lastAccessAt, long leaseUntil) {
+            this.gameTurn = gameTurn;
+            this.lastAccessAt = lastAccessAt;
+            this.leaseUntil = leaseUntil;
+        }
+    }
+}
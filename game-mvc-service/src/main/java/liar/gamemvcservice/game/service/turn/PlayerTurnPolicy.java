@@ -20,7 +20,13 @@ public interface PlayerTurnPolicy {
     GameTurn updateTurnWhenPlayerTurnIsValidated(GameTurn gameTurn, String userId);
 
     /**
-     * 플레이어가 시간 안에 턴을 마치지 못하면, 시간초과로 인해 턴을 넘긴다.
+     * 플레이어가 시간 안에 턴을 마치지 못하면, 시간초과로 인해 턴을 넘기고 저장한다.
+     * 그 사이 다른 요청이 턴을 넘겼다면 NotUserTurnException을 발생시킨다.
      */
     GameTurn timeOut(GameTurn gameTurn);
+
+    /**
+     * gameId로 게임의 턴을 조회한다.
+     */
+    GameTurn findGameTurn(String gameId);
 }
@@ -1,18 +1,22 @@
 package liar.gamemvcservice.game.service.turn;
 
+import liar.gamemvcservice.common.redis.RedisOptimisticLockTemplate;
 import liar.gamemvcservice.game.domain.Game;
 import liar.gamemvcservice.game.domain.GameTurn;
 import liar.gamemvcservice.game.repository.redis.GameTurnRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 @Component
 @Transactional
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "game.storage.mode", havingValue = "entity", matchIfMissing = true)
 public class PlayerTurnPolicyImpl implements PlayerTurnPolicy {
 
     private final GameTurnRepository gameTurnRepository;
+    private final RedisOptimisticLockTemplate redisOptimisticLockTemplate;
 
     /**
      * 플레이어의 턴을 정한다.
@@ -30,18 +34,30 @@ public class PlayerTurnPolicyImpl implements PlayerTurnPolicy {
      * 플레이어의 턴이 맞는지 확인
      * 검증이 되면, 턴의 횟수를 늘린다.
      * 턴이 아니라면 예외를 발생시킨다.
+     * 다른 요청이 먼저 턴을 변경했다면, 다시 조회하여 검증한다.
      */
     @Override
     public GameTurn updateTurnWhenPlayerTurnIsValidated(GameTurn gameTurn, String userId) {
-        return gameTurnRepository.save(gameTurn.updateTurnCntWhenPlayerTurnIsValidated(userId));
+        return redisOptimisticLockTemplate.update(gameTurn,
+                () -> gameTurnRepository.findGameTurnByGameId(gameTurn.getGameId()),
+                findGameTurn -> findGameTurn.updateTurnCntWhenPlayerTurnIsValidated(userId));
     }
 
     /**
-     * 플레이어가 시간 안에 턴을 마치지 못하면, 시간초과로 인해 턴을 넘긴다.
+     * 플레이어가 시간 안에 턴을 마치지 못하면, 시간초과로 인해 턴을 넘기고 저장한다.
+     * 그 사이 다른 요청이 턴을 넘겼다면 NotUserTurnException을 발생시킨다.
      */
     @Override
     public GameTurn timeOut(GameTurn gameTurn) {
-        return gameTurn.updateTurnCntByTimeOut();
+        int expiredTurn = gameTurn.getNowTurn();
+        return redisOptimisticLockTemplate.update(gameTurn,
+                () -> gameTurnRepository.findGameTurnByGameId(gameTurn.getGameId()),
+                findGameTurn -> findGameTurn.updateTurnCntByTimeOut(expiredTurn));
+    }
+
+    @Override
+    public GameTurn findGameTurn(String gameId) {
+        return gameTurnRepository.findGameTurnByGameId(gameId);
     }
 
     /**
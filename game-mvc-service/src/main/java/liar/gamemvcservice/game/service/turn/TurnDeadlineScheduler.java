@@ -0,0 +1,220 @@
+package liar.gamemvcservice.game.service.turn;
+
+import jakarta.annotation.PreDestroy;
+import liar.gamemvcservice.common.redis.shard.RedisShards;
+import liar.gamemvcservice.common.timer.HierarchicalTimingWheel;
+import liar.gamemvcservice.exception.exception.GameTurnEndException;
+import liar.gamemvcservice.exception.exception.NotFoundGameException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게임 턴의 제한 시간을 관리한다.
+ * 제한 시간은 redis sorted set(TurnDeadline)에 "gameId|turn" 으로 저장하고, 등록한 노드의 타이밍 휠이 만료를 감지한다.
+ * 만료된 턴은 score를 claimMillis 뒤로 옮겨 선점(claim)한 노드만 처리하고, 이벤트 처리가 끝난 뒤에 ZREM 한다.
+ * 처리에 실패하면 score를 현재 시간으로 되돌려 grace 시간이 지난 후 sweep이 다시 처리하고,
+ * 처리 중인 노드가 종료되어 선점이 만료된 턴도 grace 시간이 지난 후 다른 노드의 sweep이 처리한다.
+ * 제한 시간은 게임이 배정된 redis 노드의 TurnDeadline에 저장되며, sweep은 모든 redis 노드를 차례로 확인한다.
+ * game.turn.timeout.enabled=false 라면 타이밍 휠과 스레드를 만들지 않는다.
+ */
+@Slf4j
+@Component
+public class TurnDeadlineScheduler {
+
+    private static final String DEADLINE_KEY = "TurnDeadline";
+    private static final String DELIMITER = "|";
+    private static final String REMOVE = "";
+
+    /**
+     * ARGV[1]: member, ARGV[2]: 만료로 볼 최대 score, ARGV[3]: 선점 만료 시간
+     * 만료된 제한 시간만 선점하므로, 다른 노드가 처리 중인 턴은 선점하지 않는다.
+     */
+    private static final RedisScript<Long> CLAIM_SCRIPT = new DefaultRedisScript<>(
+            "local score = redis.call('ZSCORE', KEYS[1], ARGV[1]) " +
+            "if not score or tonumber(score) > tonumber(ARGV[2]) then return 0 end " +
+            "redis.call('ZADD', KEYS[1], 'XX', ARGV[3], ARGV[1]) " +
+            "return 1", Long.class);
+
+    /**
+     * ARGV[1]: member, ARGV[2]: 선점 만료 시간, ARGV[3]: 새 score (비어 있다면 ZREM)
+     * score가 선점한 값 그대로일 때만 변경하므로, 그 사이 취소되거나 다른 노드가 다시 선점한 턴은 건드리지 않는다.
+     */
+    private static final RedisScript<Long> RESOLVE_SCRIPT = new DefaultRedisScript<>(
+            "local score = redis.call('ZSCORE', KEYS[1], ARGV[1]) " +
+            "if not score or tonumber(score) ~= tonumber(ARGV[2]) then return 0 end " +
+            "if ARGV[3] == '' then return redis.call('ZREM', KEYS[1], ARGV[1]) end " +
+            "redis.call('ZADD', KEYS[1], 'XX', ARGV[3], ARGV[1]) " +
+            "return 1", Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisShards redisShards;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    private final boolean enabled;
+    private final long timeoutMillis;
+    private final long tickMillis;
+    private final long graceMillis;
+    private final long claimMillis;
+    private final int sweepBatch;
+
+    private final HierarchicalTimingWheel<String> timingWheel;
+    private final Map<String, HierarchicalTimingWheel.Timeout<String>> armedTurns = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService ticker;
+    private final ExecutorService dispatcher;
+
+    public TurnDeadlineScheduler(StringRedisTemplate stringRedisTemplate,
+                                 RedisShards redisShards,
+                                 ApplicationEventPublisher applicationEventPublisher,
+                                 @Value("${game.turn.timeout.enabled:false}") boolean enabled,
+                                 @Value("${game.turn.timeout.seconds:30}") long timeoutSeconds,
+                                 @Value("${game.turn.timeout.tick-millis:100}") long tickMillis,
+                                 @Value("${game.turn.timeout.grace-millis:3000}") long graceMillis,
+                                 @Value("${game.turn.timeout.claim-millis:10000}") long claimMillis,
+                                 @Value("${game.turn.timeout.sweep-batch:100}") int sweepBatch,
+                                 @Value("${game.turn.timeout.dispatchers:4}") int dispatcherCnt) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisShards = redisShards;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.enabled = enabled;
+        this.timeoutMillis = TimeUnit.SECONDS.toMillis(timeoutSeconds);
+        this.tickMillis = tickMillis;
+        this.graceMillis = graceMillis;
+        this.claimMillis = claimMillis;
+        this.sweepBatch = sweepBatch;
+
+        if (!enabled) {
+            this.timingWheel = null;
+            this.ticker = null;
+            this.dispatcher = null;
+            return;
+        }
+
+        this.timingWheel = new HierarchicalTimingWheel<>(tickMillis, 64, 4, System.currentTimeMillis());
+        this.dispatcher = Executors.newFixedThreadPool(dispatcherCnt);
+        this.ticker = Executors.newSingleThreadScheduledExecutor();
+        ticker.scheduleWithFixedDelay(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+        ticker.scheduleWithFixedDelay(this::sweep, graceMillis, graceMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 게임의 현재 턴(nowTurn)에 제한 시간을 건다.
+     * 이전 턴의 제한 시간은 취소되며, 이미 같은 턴에 제한 시간이 있다면 유지한다.
+     */
+    public void arm(String gameId, int nowTurn) {
+        if (!enabled) return;
+        redisShards.runInGame(gameId, () -> armInGame(gameId, nowTurn));
+    }
+
+    private void armInGame(String gameId, int nowTurn) {
+        String member = gameId + DELIMITER + nowTurn;
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        if (!Boolean.TRUE.equals(stringRedisTemplate.opsForZSet().addIfAbsent(DEADLINE_KEY, member, deadline))) {
+            return;
+        }
+
+        HierarchicalTimingWheel.Timeout<String> previous = armedTurns.put(gameId, timingWheel.arm(member, deadline));
+        if (previous != null) previous.cancel();
+        if (nowTurn > 0) stringRedisTemplate.opsForZSet().remove(DEADLINE_KEY, gameId + DELIMITER + (nowTurn - 1));
+    }
+
+    /**
+     * 게임의 마지막 턴이 끝나면, 남은 제한 시간을 취소한다.
+     */
+    public void cancel(String gameId, int nowTurn) {
+        if (!enabled) return;
+
+        HierarchicalTimingWheel.Timeout<String> previous = armedTurns.remove(gameId);
+        if (previous != null) previous.cancel();
+        redisShards.runInGame(gameId, () -> stringRedisTemplate.opsForZSet().remove(DEADLINE_KEY,
+                gameId + DELIMITER + nowTurn, gameId + DELIMITER + (nowTurn - 1)));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (!enabled) return;
+        ticker.shutdown();
+        dispatcher.shutdown();
+    }
+
+    private void tick() {
+        try {
+            timingWheel.advance(System.currentTimeMillis()).forEach(member -> dispatcher.execute(() -> fire(member)));
+        } catch (RuntimeException e) {
+            log.warn("turn deadline tick failed", e);
+        }
+    }
+
+    /**
+     * grace 시간이 지나도 처리되지 않은 제한 시간을 처리한다.
+     */
+    private void sweep() {
+        try {
+            redisShards.forEachNode(() -> {
+                Set<String> members = stringRedisTemplate.opsForZSet()
+                        .rangeByScore(DEADLINE_KEY, 0, System.currentTimeMillis() - graceMillis, 0, sweepBatch);
+                if (members != null) members.forEach(member -> dispatcher.execute(() -> fire(member)));
+            });
+        } catch (RuntimeException e) {
+            log.warn("turn deadline sweep failed", e);
+        }
+    }
+
+    /**
+     * 제한 시간을 선점한 노드만 만료 이벤트를 발행한다.
+     * 이벤트 처리가 끝났거나, 이미 끝난(삭제된) 게임이라면 제한 시간을 삭제하고,
+     * 그 외의 실패는 제한 시간을 되돌려 다시 처리되도록 한다.
+     */
+    private void fire(String member) {
+        int idx = member.lastIndexOf(DELIMITER);
+        String gameId = member.substring(0, idx);
+        long claimedUntil = System.currentTimeMillis() + claimMillis;
+        if (!claim(gameId, member, claimedUntil)) return;
+
+        armedTurns.computeIfPresent(gameId, (key, timeout) -> member.equals(timeout.getTask()) ? null : timeout);
+        try {
+            applicationEventPublisher.publishEvent(
+                    new TurnExpiredEvent(gameId, Integer.parseInt(member.substring(idx + 1))));
+            resolve(gameId, member, claimedUntil, REMOVE);
+        } catch (GameTurnEndException | NotFoundGameException e) {
+            log.debug("turn deadline of finished game, gameId = {}", gameId);
+            resolve(gameId, member, claimedUntil, REMOVE);
+        } catch (RuntimeException e) {
+            log.warn("turn deadline handling failed, retry after grace, gameId = {}", gameId, e);
+            resolve(gameId, member, claimedUntil, String.valueOf(System.currentTimeMillis()));
+        }
+    }
+
+    private boolean claim(String gameId, String member, long claimedUntil) {
+        Long claimed = redisShards.callInGame(gameId, () -> stringRedisTemplate.execute(CLAIM_SCRIPT,
+                List.of(DEADLINE_KEY), member, String.valueOf(System.currentTimeMillis() + tickMillis),
+                String.valueOf(claimedUntil)));
+        return claimed != null && claimed == 1L;
+    }
+
+    /**
+     * 선점한 제한 시간을 삭제하거나 score를 되돌린다.
+     * 실패하더라도 선점이 만료되면 sweep이 다시 처리한다.
+     */
+    private void resolve(String gameId, String member, long claimedUntil, String score) {
+        try {
+            redisShards.runInGame(gameId, () -> stringRedisTemplate.execute(RESOLVE_SCRIPT,
+                    List.of(DEADLINE_KEY), member, String.valueOf(claimedUntil), score));
+        } catch (RuntimeException e) {
+            log.warn("turn deadline resolve failed, gameId = {}", gameId, e);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package liar.gamemvcservice.game.service.turn;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 플레이어가 제한 시간 안에 턴을 마치지 못했을 때 발행된다.
+ */
+@Getter
+@AllArgsConstructor
+public class TurnExpiredEvent {
+
+    private String gameId;
+    private int expiredTurn;
+}
@@ -0,0 +1,63 @@
+package liar.gamemvcservice.game.service.vote;
+
+import liar.gamemvcservice.game.domain.Game;
+import liar.gamemvcservice.game.domain.GameAggregate;
+import liar.gamemvcservice.game.domain.Vote;
+import liar.gamemvcservice.game.domain.VotedResult;
+import liar.gamemvcservice.game.repository.redis.GameAggregateRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 투표 기록을 GameAggregate hash의 ballot 필드에 플레이어 ordinal로 저장하는 VotePolicy
+ * 투표 1건은 lua script 1회로 처리되며, 유저 당 1회만 반영된다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "game.storage.mode", havingValue = "aggregate")
+public class AggregateVotePolicyImpl implements VotePolicy {
+
+    private final GameAggregateRepository gameAggregateRepository;
+
+    /**
+     * game의 모든 턴이 끝나면, 투표를 시작한다.
+     */
+    @Override
+    public String saveVote(Game game) throws InterruptedException {
+        gameAggregateRepository.openVote(game.getId());
+        return game.getId();
+    }
+
+    /**
+     * 유저가(userId)가 라이어(liar)를 투표한다.
+     * 투표가 반영되면 true, 이미 투표한 유저라면 false
+     */
+    @Override
+    public boolean voteLiarUser(String gameId, String userId, String liarId) {
+        return gameAggregateRepository.castBallot(gameId, userId, liarId);
+    }
+
+    /**
+     * 가장 많은 LiarId 투표를 받은 결과를 출력한다.
+     * 집계 중 갱신된 최다 득표 후보만 userId로 변환한다.
+     */
+    @Override
+    public List<VotedResult> getMostVotedLiarUser(String gameId) {
+        GameAggregate gameAggregate = gameAggregateRepository.findAggregate(gameId);
+        if (gameAggregate == null) return null;
+        return gameAggregate.toMostVotedResults();
+    }
+
+    /**
+     * 투표 기록을 후보 별 득표 결과로 변환하여 조회한다.
+     */
+    @Override
+    public Vote getVote(String gameId) {
+        GameAggregate gameAggregate = gameAggregateRepository.findAggregate(gameId);
+        if (gameAggregate == null) return null;
+        return gameAggregate.toVote();
+    }
+}
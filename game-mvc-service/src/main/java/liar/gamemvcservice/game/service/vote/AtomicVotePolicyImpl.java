@@ -0,0 +1,85 @@
+package liar.gamemvcservice.game.service.vote;
+
+import liar.gamemvcservice.game.domain.Game;
+import liar.gamemvcservice.game.domain.Vote;
+import liar.gamemvcservice.game.domain.VotedResult;
+import liar.gamemvcservice.game.repository.redis.VoteRepository;
+import liar.gamemvcservice.game.repository.redis.VoteTallyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 투표 1건을 redis lua script 1회로 처리하는 VotePolicy
+ * 분산 락 없이 후보 별 득표 수와 투표한 유저를 원자적으로 갱신하며, 유저 당 1회만 반영된다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnExpression("'${game.storage.mode:entity}' == 'entity' && '${game.vote.mode:lock}' == 'atomic'")
+public class AtomicVotePolicyImpl implements VotePolicy {
+
+    private final VoteRepository voteRepository;
+    private final VoteTallyRepository voteTallyRepository;
+
+    /**
+     * game의 모든 턴이 끝나면, vote 객체를 생성하여 저장하고 투표 집계를 초기화한다.
+     */
+    @Override
+    public String saveVote(Game game) throws InterruptedException {
+
+        Vote findVote = voteRepository.findVoteByGameId(game.getId());
+        if (findVote == null) {
+            voteTallyRepository.initTally(game.getId(), game.getPlayerIds());
+            Vote save = voteRepository.save(new Vote(game.getId(), game.getPlayerIds()));
+            return save.getId();
+        }
+        return findVote.getId();
+    }
+
+    /**
+     * 유저가(userId)가 라이어(liar)를 투표한다.
+     * 투표가 반영되면 true, 이미 투표한 유저라면 false
+     */
+    @Override
+    public boolean voteLiarUser(String gameId, String userId, String liarId) {
+        return voteTallyRepository.castBallot(gameId, userId, liarId);
+    }
+
+    /**
+     * 가장 많은 LiarId 투표를 받은 결과를 출력한다.
+     */
+    @Override
+    public List<VotedResult> getMostVotedLiarUser(String gameId) {
+        return getVote(gameId).getMostVotedResult();
+    }
+
+    /**
+     * 저장된 vote 객체에 투표 집계를 반영하여 조회한다.
+     */
+    @Override
+    public Vote getVote(String gameId) {
+        Vote vote = voteRepository.findVoteByGameId(gameId);
+        if (vote == null) return null;
+
+        Map<String, List<String>> userIdsByLiarId = voteTallyRepository.findBallots(gameId)
+                .entrySet()
+                .stream()
+                .collect(Collectors.groupingBy(ballot -> (String) ballot.getValue(),
+                        Collectors.mapping(ballot -> (String) ballot.getKey(), Collectors.toList())));
+
+        List<VotedResult> votedResults = vote.getVotedResults()
+                .stream()
+                .map(votedResult -> {
+                    List<String> userIds = userIdsByLiarId.getOrDefault(votedResult.getLiarId(), new ArrayList<>());
+                    return new VotedResult(votedResult.getLiarId(), userIds, userIds.size());
+                })
+                .collect(Collectors.toList());
+
+        return new Vote(vote.getId(), vote.getGameId(), votedResults, vote.getModifiedAt(), vote.getVersion());
+    }
+}
@@ -1,6 +1,7 @@
 package liar.gamemvcservice.game.service.vote;
 
 import liar.gamemvcservice.game.domain.Game;
+import liar.gamemvcservice.game.domain.Vote;
 import liar.gamemvcservice.game.domain.VotedResult;
 import org.springframework.stereotype.Component;
 
@@ -25,5 +26,10 @@ public interface VotePolicy {
      */
     List<VotedResult> getMostVotedLiarUser(String gameId);
 
+    /**
+     * gameId로 투표 결과를 조회한다.
+     */
+    Vote getVote(String gameId);
+
 
 }
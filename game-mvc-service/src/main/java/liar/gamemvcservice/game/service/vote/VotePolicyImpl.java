@@ -1,24 +1,28 @@
 package liar.gamemvcservice.game.service.vote;
 
+import liar.gamemvcservice.common.redis.RedisOptimisticLockTemplate;
 import liar.gamemvcservice.game.domain.Game;
 import liar.gamemvcservice.game.domain.Vote;
 import liar.gamemvcservice.game.domain.VotedResult;
 import liar.gamemvcservice.game.repository.redis.VoteRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Component
 @Slf4j
 @Transactional
 @RequiredArgsConstructor
+@ConditionalOnExpression("'${game.storage.mode:entity}' == 'entity' && '${game.vote.mode:lock}' == 'lock'")
 public class VotePolicyImpl implements VotePolicy {
 
     private final VoteRepository voteRepository;
+    private final RedisOptimisticLockTemplate redisOptimisticLockTemplate;
 
     /**
      * game의 모든 턴이 끝나면, vote 객체를 생성하여 저장한다.
@@ -36,17 +40,19 @@ public class VotePolicyImpl implements VotePolicy {
 
     /**
      * 유저가(userId)가 라이어(liar)를 투표하여
-     * Vote 객체 값을 저장한다.
+     * Vote 객체 값을 version 비교 후 저장한다.
      */
     @Override
     public boolean voteLiarUser(String gameId, String userId, String liarId) {
-        Vote vote = voteRepository.findVoteByGameId(gameId);
-        LocalDateTime firstModifiedAt = vote.getModifiedAt();
+        AtomicBoolean isUpdated = new AtomicBoolean();
 
-        vote.updateVoteResults(userId, liarId);
-        Vote savedVote = voteRepository.save(vote);
-        if (!firstModifiedAt.isEqual(savedVote.getModifiedAt())) return true;
-        return false;
+        redisOptimisticLockTemplate.update(voteRepository.findVoteByGameId(gameId),
+                () -> voteRepository.findVoteByGameId(gameId),
+                vote -> {
+                    isUpdated.set(vote.updateVoteResults(userId, liarId));
+                    return vote;
+                });
+        return isUpdated.get();
     }
 
     /**
@@ -57,4 +63,12 @@ public class VotePolicyImpl implements VotePolicy {
         Vote vote = voteRepository.findVoteByGameId(gameId);
         return vote.getMostVotedResult();
     }
+
+    /**
+     * gameId로 투표 결과를 조회한다.
+     */
+    @Override
+    public Vote getVote(String gameId) {
+        return voteRepository.findVoteByGameId(gameId);
+    }
 }
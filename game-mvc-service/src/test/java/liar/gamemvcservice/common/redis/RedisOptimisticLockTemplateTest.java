@@ -0,0 +1,73 @@
+package liar.gamemvcservice.common.redis;
+
+import liar.gamemvcservice.game.domain.GameTurn;
+import liar.gamemvcservice.game.repository.redis.GameTurnRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class RedisOptimisticLockTemplateTest {
+
+    @Autowired
+    RedisOptimisticLockTemplate redisOptimisticLockTemplate;
+    @Autowired
+    GameTurnRepository gameTurnRepository;
+    @Autowired
+    StringRedisTemplate stringRedisTemplate;
+
+    @AfterEach
+    public void tearDown() {
+        gameTurnRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("version이 같다면 변경된 필드만 저장하고, key에 설정된 TTL은 유지된다.")
+    public void update() throws Exception {
+        //given
+        GameTurn gameTurn = gameTurnRepository.save(new GameTurn("gameId", Arrays.asList("1", "2", "3")));
+        String key = "GameTurn:" + gameTurn.getId();
+        stringRedisTemplate.expire(key, 600, TimeUnit.SECONDS);
+
+        //when
+        redisOptimisticLockTemplate.update(gameTurn,
+                () -> gameTurnRepository.findById(gameTurn.getId()).orElse(null),
+                findGameTurn -> findGameTurn.updateTurnCntWhenPlayerTurnIsValidated("1"));
+
+        //then
+        GameTurn savedGameTurn = gameTurnRepository.findById(gameTurn.getId()).orElseThrow();
+        assertThat(savedGameTurn.getNowTurn()).isEqualTo(1);
+        assertThat(savedGameTurn.getVersion()).isEqualTo(1);
+        assertThat(savedGameTurn.getPlayerTurnsConsistingOfUserId()).containsExactly("1", "2", "3");
+        assertThat(stringRedisTemplate.getExpire(key)).isPositive();
+    }
+
+    @Test
+    @DisplayName("다른 요청이 먼저 저장했다면, 다시 조회한 엔티티로 저장한다.")
+    public void update_conflict() throws Exception {
+        //given
+        GameTurn gameTurn = gameTurnRepository.save(new GameTurn("gameId", Arrays.asList("1", "2", "3")));
+        GameTurn staleGameTurn = gameTurnRepository.findById(gameTurn.getId()).orElseThrow();
+        redisOptimisticLockTemplate.update(gameTurn,
+                () -> gameTurnRepository.findById(gameTurn.getId()).orElse(null),
+                findGameTurn -> findGameTurn.updateTurnCntWhenPlayerTurnIsValidated("1"));
+
+        //when
+        redisOptimisticLockTemplate.update(staleGameTurn,
+                () -> gameTurnRepository.findById(gameTurn.getId()).orElse(null),
+                findGameTurn -> findGameTurn.updateTurnCntByTimeOut(findGameTurn.getNowTurn()));
+
+        //then
+        GameTurn savedGameTurn = gameTurnRepository.findById(gameTurn.getId()).orElseThrow();
+        assertThat(savedGameTurn.getNowTurn()).isEqualTo(2);
+        assertThat(savedGameTurn.getVersion()).isEqualTo(2);
+    }
+}
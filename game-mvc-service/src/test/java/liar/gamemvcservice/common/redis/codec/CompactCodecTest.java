@@ -0,0 +1,143 @@
+package liar.gamemvcservice.common.redis.codec;
+
+import liar.gamemvcservice.game.domain.Game;
+import liar.gamemvcservice.game.domain.GameTurn;
+import liar.gamemvcservice.game.domain.Topic;
+import liar.gamemvcservice.game.domain.Vote;
+import liar.gamemvcservice.game.service.dto.SetUpGameDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.convert.MappingRedisConverter;
+import org.springframework.data.redis.core.convert.RedisCustomConversions;
+import org.springframework.data.redis.core.convert.RedisData;
+import org.springframework.data.redis.core.mapping.RedisMappingContext;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompactCodecTest {
+
+    private MappingRedisConverter mappingRedisConverter;
+    private Game game;
+
+    @BeforeEach
+    public void init() {
+        mappingRedisConverter = new MappingRedisConverter(new RedisMappingContext());
+        mappingRedisConverter.afterPropertiesSet();
+        game = Game.of(new SetUpGameDto("room1", "1", "방", Arrays.asList("1", "2", "3", "4", "5")))
+                .updateTopicOfGame(new Topic(314000L, "축구"), "3");
+    }
+
+    @Test
+    @DisplayName("Game을 binary로 인코딩하고 같은 값으로 디코딩한다.")
+    public void game_roundTrip() throws Exception {
+        //when
+        Game decoded = GameCodec.INSTANCE.decode(GameCodec.INSTANCE.encode(game.sendMessage()));
+
+        //then
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(game);
+    }
+
+    @Test
+    @DisplayName("lua script가 hash에 직접 쓴 sendMessage, version 필드를 binary 값보다 우선한다.")
+    public void game_scriptFields() throws Exception {
+        //given
+        Map<String, byte[]> hash = new HashMap<>();
+        hash.put(CompactCodec.RAW_FIELD, GameCodec.INSTANCE.encode(game));
+        hash.put("sendMessage", "1".getBytes(StandardCharsets.UTF_8));
+        hash.put("version", "3".getBytes(StandardCharsets.UTF_8));
+
+        //when
+        Game decoded = GameCodec.INSTANCE.decode(hash);
+
+        //then
+        assertThat(decoded.isSendMessage()).isTrue();
+        assertThat(decoded.getVersion()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("MappingRedisConverter로 저장된 기존 hash를 읽는다.")
+    public void readLegacy() throws Exception {
+        //given
+        GameTurn gameTurn = new GameTurn(game.getId(), game.getPlayerIds());
+        gameTurn.updateTurnCntByTimeOut();
+        Vote vote = new Vote(game.getId(), game.getPlayerIds());
+        vote.updateVoteResults("1", "3");
+        vote.updateVoteResults("2", "3");
+
+        //when
+        Game legacyGame = GameCodec.INSTANCE.decode(mappedHash(game));
+        GameTurn legacyGameTurn = GameTurnCodec.INSTANCE.decode(mappedHash(gameTurn));
+        Vote legacyVote = VoteCodec.INSTANCE.decode(mappedHash(vote));
+
+        //then
+        assertThat(legacyGame).usingRecursiveComparison().isEqualTo(game);
+        assertThat(legacyGameTurn).usingRecursiveComparison().isEqualTo(gameTurn);
+        assertThat(legacyVote).usingRecursiveComparison().isEqualTo(vote);
+        assertThat(legacyVote.getVotedResult("3").getUserIds()).containsExactly("1", "2");
+    }
+
+    @Test
+    @DisplayName("compact converter는 _raw와 함께 낙관적 락이 비교할 version 필드를 저장한다.")
+    public void compactConverter_versionField() throws Exception {
+        //given
+        MappingRedisConverter compactConverter = new MappingRedisConverter(new RedisMappingContext());
+        compactConverter.setCustomConversions(new RedisCustomConversions(Arrays.asList(
+                new GameTurnCodec.Writer(), new GameTurnCodec.Reader())));
+        compactConverter.afterPropertiesSet();
+        GameTurn gameTurn = new GameTurn(game.getId(), game.getPlayerIds());
+        gameTurn.increaseVersion();
+        gameTurn.increaseVersion();
+
+        //when
+        RedisData redisData = new RedisData();
+        compactConverter.write(gameTurn, redisData);
+        Map<String, byte[]> hash = redisData.getBucket().rawMap();
+
+        //then
+        assertThat(hash).containsKeys(CompactCodec.RAW_FIELD, CompactCodec.VERSION_FIELD);
+        assertThat(new String(hash.get(CompactCodec.VERSION_FIELD), StandardCharsets.UTF_8)).isEqualTo("2");
+        assertThat(compactConverter.read(GameTurn.class, redisData)).usingRecursiveComparison().isEqualTo(gameTurn);
+    }
+
+    @Test
+    @DisplayName("binary 값은 기존 필드 매핑보다 작다.")
+    public void smallerThanMapping() throws Exception {
+        //given
+        Vote vote = new Vote(game.getId(), game.getPlayerIds());
+        vote.updateVoteResults("1", "3");
+
+        //when
+        int mappingSize = mappedHash(vote).entrySet().stream()
+                .mapToInt(field -> field.getKey().length() + field.getValue().length)
+                .sum();
+        int compactSize = VoteCodec.INSTANCE.encode(vote).length;
+
+        //then
+        assertThat(compactSize).isLessThan(mappingSize / 2);
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 schema version이라면 IllegalStateException이 발생한다.")
+    public void unsupportedSchemaVersion() throws Exception {
+        //given
+        byte[] encoded = GameCodec.INSTANCE.encode(game);
+        encoded[1] = 9;
+
+        //then
+        assertThatThrownBy(() -> GameCodec.INSTANCE.decode(encoded))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private Map<String, byte[]> mappedHash(Object entity) {
+        RedisData redisData = new RedisData();
+        mappingRedisConverter.write(entity, redisData);
+        return redisData.getBucket().rawMap();
+    }
+}
@@ -0,0 +1,80 @@
+package liar.gamemvcservice.common.redis.shard;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RedisShardRingTest {
+
+    private static final List<String> NODES = Arrays.asList("localhost:6381", "localhost:6382", "localhost:6383");
+
+    @Test
+    @DisplayName("같은 gameId는 항상 같은 노드에 배정되고, 게임은 노드에 고르게 나뉜다.")
+    public void nodeFor() throws Exception {
+        //given
+        RedisShardRing ring = new RedisShardRing(NODES, 160);
+        Map<String, Integer> counts = new HashMap<>();
+        int games = 30000;
+
+        //when
+        for (int i = 0; i < games; i++) {
+            String gameId = UUID.randomUUID().toString();
+            String node = ring.nodeFor(gameId);
+            assertThat(ring.nodeFor(gameId)).isEqualTo(node);
+            counts.merge(node, 1, Integer::sum);
+        }
+
+        //then
+        assertThat(counts.keySet()).containsExactlyInAnyOrderElementsOf(NODES);
+        counts.values().forEach(count -> assertThat(count).isBetween(games / 3 * 8 / 10, games / 3 * 12 / 10));
+    }
+
+    @Test
+    @DisplayName("노드를 추가하면 추가된 노드로 옮겨지는 게임만 배정이 바뀐다.")
+    public void nodeFor_addNode() throws Exception {
+        //given
+        RedisShardRing before = new RedisShardRing(NODES, 160);
+        RedisShardRing after = new RedisShardRing(Arrays.asList(
+                "localhost:6381", "localhost:6382", "localhost:6383", "localhost:6384"), 160);
+        int games = 30000;
+        int moved = 0;
+
+        //when
+        for (int i = 0; i < games; i++) {
+            String gameId = UUID.randomUUID().toString();
+            String node = after.nodeFor(gameId);
+            if (!before.nodeFor(gameId).equals(node)) {
+                moved++;
+                assertThat(node).isEqualTo("localhost:6384");
+            }
+        }
+
+        //then
+        assertThat(moved).isBetween(games / 4 * 7 / 10, games / 4 * 13 / 10);
+    }
+
+    @Test
+    @DisplayName("key의 hash tag({gameId})로 게임과 같은 노드를 찾고, tag가 없다면 null")
+    public void nodeForKey() throws Exception {
+        //given
+        RedisShardRing ring = new RedisShardRing(NODES, 160);
+        String gameId = UUID.randomUUID().toString();
+
+        //when
+        String lockNode = ring.nodeForKey("setUpTurn:{" + gameId + "}");
+        String aggregateNode = ring.nodeForKey("GameAggregate:{" + gameId + "}");
+
+        //then
+        assertThat(lockNode).isEqualTo(ring.nodeFor(gameId));
+        assertThat(aggregateNode).isEqualTo(ring.nodeFor(gameId));
+        assertThat(ring.nodeForKey("Game:" + gameId)).isNull();
+        assertThat(ring.nodeForKey("Game:{}")).isNull();
+    }
+}
@@ -0,0 +1,70 @@
+package liar.gamemvcservice.common.timer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HierarchicalTimingWheelTest {
+
+    @Test
+    @DisplayName("제한 시간이 지난 task만 만료된다.")
+    public void advance() throws Exception {
+        //given
+        HierarchicalTimingWheel<String> timingWheel = new HierarchicalTimingWheel<>(10, 4, 3, 0);
+        timingWheel.arm("a", 30);
+        timingWheel.arm("b", 250);
+
+        //when
+        List<String> first = timingWheel.advance(20);
+        List<String> second = timingWheel.advance(30);
+        List<String> third = timingWheel.advance(240);
+        List<String> fourth = timingWheel.advance(250);
+
+        //then
+        assertThat(first).isEmpty();
+        assertThat(second).containsExactly("a");
+        assertThat(third).isEmpty();
+        assertThat(fourth).containsExactly("b");
+    }
+
+    @Test
+    @DisplayName("상위 단계에 배치된 task도 정확한 tick에 만료된다.")
+    public void advance_cascade() throws Exception {
+        //given
+        HierarchicalTimingWheel<Integer> timingWheel = new HierarchicalTimingWheel<>(1, 4, 3, 0);
+        for (int deadline = 1; deadline < 64; deadline++) {
+            timingWheel.arm(deadline, deadline);
+        }
+
+        //when
+        List<Integer> expiredTicks = new ArrayList<>();
+        for (int now = 0; now < 64; now++) {
+            for (Integer deadline : timingWheel.advance(now)) {
+                assertThat(deadline).isEqualTo(now);
+                expiredTicks.add(deadline);
+            }
+        }
+
+        //then
+        assertThat(expiredTicks).hasSize(63);
+    }
+
+    @Test
+    @DisplayName("취소된 task는 만료되지 않는다.")
+    public void cancel() throws Exception {
+        //given
+        HierarchicalTimingWheel<String> timingWheel = new HierarchicalTimingWheel<>(10, 4, 3, 0);
+        HierarchicalTimingWheel.Timeout<String> timeout = timingWheel.arm("a", 100);
+
+        //when
+        boolean cancelled = timeout.cancel();
+
+        //then
+        assertThat(cancelled).isTrue();
+        assertThat(timingWheel.advance(200)).isEmpty();
+    }
+}
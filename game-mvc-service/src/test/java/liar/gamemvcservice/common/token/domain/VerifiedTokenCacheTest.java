@@ -0,0 +1,110 @@
+package liar.gamemvcservice.common.token.domain;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.Codec;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class VerifiedTokenCacheTest {
+
+    private RTopic invalidationTopic;
+    private VerifiedTokenCache verifiedTokenCache;
+    private AtomicInteger verifyCnt;
+
+    @BeforeEach
+    public void init() {
+        RedissonClient redissonClient = mock(RedissonClient.class);
+        invalidationTopic = mock(RTopic.class);
+        when(redissonClient.getTopic(anyString(), any(Codec.class))).thenReturn(invalidationTopic);
+        verifiedTokenCache = new VerifiedTokenCache(redissonClient, new SimpleMeterRegistry(), true, 100, 300);
+        verifyCnt = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("같은 token은 한 번만 검증하고, 같은 Authentication을 반환한다.")
+    public void get_cached() throws Exception {
+        //when
+        Authentication first = verifiedTokenCache.get("token1", token -> verify(token, 60000));
+        Authentication second = verifiedTokenCache.get("token1", token -> verify(token, 60000));
+
+        //then
+        assertThat(verifyCnt.get()).isEqualTo(1);
+        assertThat(first).isSameAs(second);
+        assertThat(first.getName()).isEqualTo("token1");
+        assertThat(first.isAuthenticated()).isTrue();
+    }
+
+    @Test
+    @DisplayName("token의 만료 시각이 지났다면 보관하지 않는다.")
+    public void get_expired() throws Exception {
+        //when
+        verifiedTokenCache.get("token1", token -> verify(token, -1));
+        verifiedTokenCache.get("token1", token -> verify(token, -1));
+
+        //then
+        assertThat(verifyCnt.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("무효화된 token은 다시 검증하고, 다른 노드에 digest를 발행한다.")
+    public void invalidate() throws Exception {
+        //given
+        verifiedTokenCache.get("token1", token -> verify(token, 60000));
+
+        //when
+        verifiedTokenCache.invalidate("token1");
+        verifiedTokenCache.get("token1", token -> verify(token, 60000));
+
+        //then
+        assertThat(verifyCnt.get()).isEqualTo(2);
+        verify(invalidationTopic).publish(VerifiedTokenCache.digest("token1"));
+    }
+
+    @Test
+    @DisplayName("검증에 실패한 token은 보관하지 않는다.")
+    public void get_invalid() throws Exception {
+        //when then
+        assertThatThrownBy(() -> verifiedTokenCache.get("token1", token -> {
+            verifyCnt.incrementAndGet();
+            throw new IllegalArgumentException();
+        })).isInstanceOf(IllegalArgumentException.class);
+        verifiedTokenCache.get("token1", token -> verify(token, 60000));
+
+        assertThat(verifyCnt.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("보관된 Authentication의 인증 여부는 변경할 수 없다.")
+    public void authentication_immutable() throws Exception {
+        //given
+        Authentication authentication = verifiedTokenCache.get("token1", token -> verify(token, 60000));
+
+        //when then
+        assertThatThrownBy(() -> authentication.setAuthenticated(false))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(authentication.isAuthenticated()).isTrue();
+    }
+
+    private VerifiedTokenCache.VerifiedToken verify(String token, long remainingMillis) {
+        verifyCnt.incrementAndGet();
+        List<SimpleGrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+        return new VerifiedTokenCache.VerifiedToken(
+                new VerifiedAuthentication(new User(token, "", authorities), token, authorities),
+                System.currentTimeMillis() + remainingMillis);
+    }
+}
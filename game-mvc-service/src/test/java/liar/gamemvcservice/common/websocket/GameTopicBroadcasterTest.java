@@ -0,0 +1,162 @@
+package liar.gamemvcservice.common.websocket;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class GameTopicBroadcasterTest {
+
+    private SimpMessagingTemplate template;
+    private SimpleMeterRegistry meterRegistry;
+    private GameTopicBroadcaster gameTopicBroadcaster;
+
+    @BeforeEach
+    public void init() {
+        template = mock(SimpMessagingTemplate.class);
+        meterRegistry = new SimpleMeterRegistry();
+        gameTopicBroadcaster = new GameTopicBroadcaster(new InProcessGameTopicRelay(), template, meterRegistry, 0);
+    }
+
+    @Test
+    @DisplayName("로컬 구독자가 있는 게임의 메시지만 로컬 broker로 전달된다.")
+    public void broadcast() throws Exception {
+        //given
+        gameTopicBroadcaster.subscribe(new SessionSubscribeEvent(this, subscribeMessage("session1", "sub1", "game1")));
+
+        //when
+        gameTopicBroadcaster.broadcast("game1", Map.of("userId", "1"));
+        gameTopicBroadcaster.broadcast("game2", Map.of("userId", "1"));
+
+        //then
+        verify(template, times(1)).send(eq("/topic/game1"), any(Message.class));
+        verify(template, never()).send(eq("/topic/game2"), any(Message.class));
+        assertThat(meterRegistry.get("game.topic.publish").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("game.topic.deliver").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("마지막 로컬 세션의 연결이 끊기면 게임 구독을 해제한다.")
+    public void disconnect() throws Exception {
+        //given
+        gameTopicBroadcaster.subscribe(new SessionSubscribeEvent(this, subscribeMessage("session1", "sub1", "game1")));
+        gameTopicBroadcaster.subscribe(new SessionSubscribeEvent(this, subscribeMessage("session2", "sub1", "game1")));
+
+        //when
+        gameTopicBroadcaster.disconnect(new SessionDisconnectEvent(this, disconnectMessage("session1"), "session1", CloseStatus.NORMAL));
+        double afterFirst = meterRegistry.get("game.topic.local.games").gauge().value();
+        gameTopicBroadcaster.disconnect(new SessionDisconnectEvent(this, disconnectMessage("session2"), "session2", CloseStatus.NORMAL));
+        gameTopicBroadcaster.broadcast("game1", Map.of("userId", "1"));
+
+        //then
+        assertThat(afterFirst).isEqualTo(1);
+        assertThat(meterRegistry.get("game.topic.local.games").gauge().value()).isEqualTo(0);
+        verify(template, never()).send(eq("/topic/game1"), any(Message.class));
+    }
+
+    @Test
+    @DisplayName("coalesce 시간 동안 모인 같은 게임의 메시지는 한 번에 전달된다.")
+    public void broadcast_coalesce() throws Exception {
+        //given
+        GameTopicBroadcaster coalescingBroadcaster =
+                new GameTopicBroadcaster(new InProcessGameTopicRelay(), template, meterRegistry, 50);
+        coalescingBroadcaster.subscribe(new SessionSubscribeEvent(this, subscribeMessage("session1", "sub1", "game1")));
+
+        //when
+        coalescingBroadcaster.broadcast("game1", Map.of("nextTurn", "2"));
+        coalescingBroadcaster.broadcast("game1", Map.of("chat", "hello"));
+        Thread.sleep(200);
+        coalescingBroadcaster.shutdown();
+
+        //then
+        verify(template, times(1)).send(eq("/topic/game1"), any(Message.class));
+        assertThat(meterRegistry.get("game.topic.coalesced").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("relay subscribe가 끝나지 않아도 같은 게임의 다른 구독은 기다리지 않고, unsubscribe는 subscribe가 끝난 후 1회 실행된다.")
+    public void subscribe_slowRelay() throws Exception {
+        //given
+        CountDownLatch subscribing = new CountDownLatch(1);
+        CountDownLatch relaySubscribed = new CountDownLatch(1);
+        AtomicInteger unsubscribeCnt = new AtomicInteger();
+        GameTopicRelay slowRelay = new InProcessGameTopicRelay() {
+            @Override
+            public void subscribe(String gameId, Consumer<byte[]> listener) {
+                subscribing.countDown();
+                try {
+                    relaySubscribed.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.subscribe(gameId, listener);
+            }
+
+            @Override
+            public void unsubscribe(String gameId) {
+                unsubscribeCnt.incrementAndGet();
+                super.unsubscribe(gameId);
+            }
+        };
+        SimpleMeterRegistry slowMeterRegistry = new SimpleMeterRegistry();
+        GameTopicBroadcaster slowBroadcaster = new GameTopicBroadcaster(slowRelay, template, slowMeterRegistry, 0);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        executor.submit(() -> slowBroadcaster.subscribe(
+                new SessionSubscribeEvent(this, subscribeMessage("session1", "sub1", "game1"))));
+        subscribing.await();
+
+        //when
+        CompletableFuture<Void> secondSubscribe = CompletableFuture.runAsync(() -> slowBroadcaster.subscribe(
+                new SessionSubscribeEvent(this, subscribeMessage("session2", "sub1", "game1"))));
+        secondSubscribe.get(1, TimeUnit.SECONDS);
+        slowBroadcaster.disconnect(new SessionDisconnectEvent(this, disconnectMessage("session2"), "session2", CloseStatus.NORMAL));
+        CompletableFuture<Void> lastDisconnect = CompletableFuture.runAsync(() -> slowBroadcaster.disconnect(
+                new SessionDisconnectEvent(this, disconnectMessage("session1"), "session1", CloseStatus.NORMAL)));
+        Thread.sleep(100);
+        int unsubscribeCntBeforeSubscribed = unsubscribeCnt.get();
+        relaySubscribed.countDown();
+        lastDisconnect.get(1, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        //then
+        assertThat(unsubscribeCntBeforeSubscribed).isEqualTo(0);
+        assertThat(unsubscribeCnt.get()).isEqualTo(1);
+        assertThat(slowMeterRegistry.get("game.topic.local.games").gauge().value()).isEqualTo(0);
+    }
+
+    private Message<byte[]> subscribeMessage(String sessionId, String subscriptionId, String gameId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination("/topic/" + gameId);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private Message<byte[]> disconnectMessage(String sessionId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.DISCONNECT);
+        accessor.setSessionId(sessionId);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,155 @@
+package liar.gamemvcservice.game.controller;
+
+import com.amazonaws.services.sqs.AmazonSQS;
+import com.amazonaws.services.sqs.model.DeleteMessageBatchRequest;
+import com.amazonaws.services.sqs.model.DeleteMessageBatchRequestEntry;
+import com.amazonaws.services.sqs.model.DeleteMessageBatchResult;
+import com.amazonaws.services.sqs.model.DeleteMessageBatchResultEntry;
+import com.amazonaws.services.sqs.model.Message;
+import com.amazonaws.services.sqs.model.ReceiveMessageRequest;
+import com.amazonaws.services.sqs.model.ReceiveMessageResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ScheduleControllerTest {
+
+    private AmazonSQS amazonSQS;
+    private SimpleMeterRegistry meterRegistry;
+    private Set<String> handledBodies;
+
+    @BeforeEach
+    public void init() {
+        amazonSQS = mock(AmazonSQS.class);
+        meterRegistry = new SimpleMeterRegistry();
+        handledBodies = ConcurrentHashMap.newKeySet();
+        when(amazonSQS.deleteMessageBatch(any(DeleteMessageBatchRequest.class))).thenAnswer(invocation -> {
+            DeleteMessageBatchRequest request = invocation.getArgument(0);
+            return new DeleteMessageBatchResult().withSuccessful(request.getEntries().stream()
+                    .map(entry -> new DeleteMessageBatchResultEntry().withId(entry.getId()))
+                    .collect(Collectors.toList()));
+        });
+    }
+
+    @Test
+    @DisplayName("받은 메세지를 worker에서 처리하고, 처리한 메세지를 batch로 삭제한다.")
+    public void consume() throws Exception {
+        //given
+        when(amazonSQS.receiveMessage(any(ReceiveMessageRequest.class)))
+                .thenReturn(new ReceiveMessageResult().withMessages(messages(0, 10)),
+                        new ReceiveMessageResult().withMessages(messages(10, 5)),
+                        new ReceiveMessageResult());
+        ScheduleController consumer = createConsumer(event -> {
+            handledBodies.add(event.getBody());
+            event.handled();
+        });
+
+        //when
+        consumer.start();
+        waitUntil(() -> countOf("game.sqs.processed") == 15);
+        consumer.stop();
+
+        //then
+        ArgumentCaptor<DeleteMessageBatchRequest> captor = ArgumentCaptor.forClass(DeleteMessageBatchRequest.class);
+        verify(amazonSQS, atLeastOnce()).deleteMessageBatch(captor.capture());
+        List<String> deleted = captor.getAllValues().stream()
+                .flatMap(request -> request.getEntries().stream())
+                .map(DeleteMessageBatchRequestEntry::getReceiptHandle)
+                .collect(Collectors.toList());
+        assertThat(handledBodies).hasSize(15);
+        assertThat(captor.getAllValues()).allMatch(request -> request.getEntries().size() <= 10);
+        assertThat(deleted).hasSize(15);
+        assertThat(meterRegistry.get("game.sqs.processed").counter().count()).isEqualTo(15);
+        assertThat(meterRegistry.get("game.sqs.deleted").counter().count()).isEqualTo(15);
+    }
+
+    @Test
+    @DisplayName("처리에 실패한 메세지는 삭제하지 않는다.")
+    public void consume_failed() throws Exception {
+        //given
+        when(amazonSQS.receiveMessage(any(ReceiveMessageRequest.class)))
+                .thenReturn(new ReceiveMessageResult().withMessages(messages(0, 4)),
+                        new ReceiveMessageResult());
+        ScheduleController consumer = createConsumer(event -> {
+            handledBodies.add(event.getBody());
+            if (event.getBody().equals("body0")) throw new IllegalStateException();
+            event.handled();
+        });
+
+        //when
+        consumer.start();
+        waitUntil(() -> countOf("game.sqs.processed") + countOf("game.sqs.failed") == 4);
+        consumer.stop();
+
+        //then
+        assertThat(handledBodies).hasSize(4);
+        assertThat(meterRegistry.get("game.sqs.failed").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("game.sqs.deleted").counter().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("처리한 listener가 없는 메세지는 삭제하지 않는다.")
+    public void consume_unhandled() throws Exception {
+        //given
+        when(amazonSQS.receiveMessage(any(ReceiveMessageRequest.class)))
+                .thenReturn(new ReceiveMessageResult().withMessages(messages(0, 4)),
+                        new ReceiveMessageResult());
+        ScheduleController consumer = createConsumer(event -> {
+            handledBodies.add(event.getBody());
+            if (event.getBody().equals("body0")) event.handled();
+        });
+
+        //when
+        consumer.start();
+        waitUntil(() -> countOf("game.sqs.processed") + countOf("game.sqs.unhandled") == 4);
+        consumer.stop();
+
+        //then
+        assertThat(handledBodies).hasSize(4);
+        assertThat(meterRegistry.get("game.sqs.unhandled").counter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("game.sqs.deleted").counter().count()).isEqualTo(1);
+    }
+
+    private ScheduleController createConsumer(Consumer<SqsMessageReceivedEvent> listener) {
+        ApplicationEventPublisher publisher = event -> listener.accept((SqsMessageReceivedEvent) event);
+        return new ScheduleController(amazonSQS, publisher, meterRegistry, "queue",
+                false, 2, 4, 20, 10, 0, 10, 10);
+    }
+
+    private List<Message> messages(int from, int size) {
+        List<Message> messages = new ArrayList<>();
+        for (int i = from; i < from + size; i++) {
+            messages.add(new Message()
+                    .withMessageId("message" + i)
+                    .withReceiptHandle("receipt" + i)
+                    .withBody("body" + i));
+        }
+        return messages;
+    }
+
+    private double countOf(String name) {
+        return meterRegistry.get(name).counter().count();
+    }
+
+    private void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
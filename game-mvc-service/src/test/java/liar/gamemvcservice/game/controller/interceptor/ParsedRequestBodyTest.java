@@ -0,0 +1,93 @@
+package liar.gamemvcservice.game.controller.interceptor;
+
+import liar.gamemvcservice.exception.exception.NotEqualUserIdException;
+import liar.gamemvcservice.game.controller.dto.request.CommonRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ParsedRequestBodyTest {
+
+    private ParsedRequestBody parsedRequestBody;
+
+    @BeforeEach
+    public void init() {
+        parsedRequestBody = new ParsedRequestBody(new MappingJackson2HttpMessageConverter());
+    }
+
+    @Test
+    @DisplayName("body는 한 번만 읽고, 같은 타입은 한 번만 역직렬화한다.")
+    public void read_once() throws Exception {
+        //given
+        MockHttpServletRequest request = request("user1", "user1", "user1");
+
+        //when
+        CommonRequest first = parsedRequestBody.read(request, CommonRequest.class);
+        CommonRequest second = parsedRequestBody.read(request, CommonRequest.class);
+
+        //then
+        assertThat(first).isSameAs(second);
+        assertThat(first.getUserId()).isEqualTo("user1");
+        assertThat(parsedRequestBody.find(request, CommonRequest.class)).isSameAs(first);
+        assertThat(request.getInputStream().read()).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("path, header, body의 userId가 같다면 통과하고, 읽은 body를 보관한다.")
+    public void userInterceptor_success() throws Exception {
+        //given
+        MockHttpServletRequest request = request("user1", "user1", "user1");
+
+        //when
+        boolean result = new UserInterceptor(parsedRequestBody)
+                .preHandle(request, new MockHttpServletResponse(), new Object());
+
+        //then
+        assertThat(result).isTrue();
+        assertThat(parsedRequestBody.find(request, CommonRequest.class)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("path와 header의 userId가 다르면, body를 읽지 않고 예외를 던진다.")
+    public void userInterceptor_notEqualHeader() throws Exception {
+        //given
+        MockHttpServletRequest request = request("user1", "user2", "user1");
+
+        //when then
+        assertThatThrownBy(() -> new UserInterceptor(parsedRequestBody)
+                .preHandle(request, new MockHttpServletResponse(), new Object()))
+                .isInstanceOf(NotEqualUserIdException.class);
+        assertThat(parsedRequestBody.find(request, CommonRequest.class)).isNull();
+    }
+
+    @Test
+    @DisplayName("body의 userId가 다르면 예외를 던진다.")
+    public void userInterceptor_notEqualBody() throws Exception {
+        //given
+        MockHttpServletRequest request = request("user1", "user1", "user2");
+
+        //when then
+        assertThatThrownBy(() -> new UserInterceptor(parsedRequestBody)
+                .preHandle(request, new MockHttpServletResponse(), new Object()))
+                .isInstanceOf(NotEqualUserIdException.class);
+    }
+
+    private MockHttpServletRequest request(String pathUserId, String headerUserId, String bodyUserId) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/game-service/game/" + pathUserId + "/role");
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("userId", pathUserId));
+        request.addHeader("userId", headerUserId);
+        request.setContentType("application/json");
+        request.setContent(("{\"gameId\":\"game1\",\"userId\":\"" + bodyUserId + "\"}").getBytes(UTF_8));
+        return request;
+    }
+}
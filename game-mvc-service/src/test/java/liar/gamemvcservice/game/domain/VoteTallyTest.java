@@ -0,0 +1,79 @@
+package liar.gamemvcservice.game.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VoteTallyTest {
+
+    private final PlayerOrdinals playerOrdinals = PlayerOrdinals.of(Arrays.asList("0", "1", "2", "3", "4"));
+
+    @Test
+    @DisplayName("userId를 플레이어 순서대로 ordinal로 변환한다.")
+    public void playerOrdinals() throws Exception {
+        //then
+        assertThat(playerOrdinals.ordinalOf("3")).isEqualTo(3);
+        assertThat(playerOrdinals.ordinalOf("5")).isEqualTo(-1);
+        assertThat(playerOrdinals.toUserIds(new int[]{4, 0, 2})).containsExactly("4", "0", "2");
+        assertThat(playerOrdinals.toUserIds(0b10110L)).containsExactly("1", "2", "4");
+    }
+
+    @Test
+    @DisplayName("투표가 없다면 모든 후보가 최다 득표 결과이다.")
+    public void mostVoted_noBallot() throws Exception {
+        //given
+        VoteTally voteTally = new VoteTally(playerOrdinals.size());
+
+        //when
+        List<VotedResult> mostVotedResults = voteTally.toMostVotedResults(playerOrdinals);
+
+        //then
+        assertThat(mostVotedResults).hasSize(5);
+        assertThat(voteTally.getMaxCnt()).isZero();
+    }
+
+    @Test
+    @DisplayName("투표가 반영될 때마다 최다 득표 수와 후보를 갱신한다.")
+    public void cast() throws Exception {
+        //given
+        VoteTally voteTally = new VoteTally(playerOrdinals.size());
+
+        //when
+        for (int voter = 0; voter < 5; voter++) {
+            voteTally.cast(voter, voter % 3 + 1);
+        }
+        List<VotedResult> mostVotedResults = voteTally.toMostVotedResults(playerOrdinals);
+
+        //then
+        assertThat(voteTally.getMaxCnt()).isEqualTo(2);
+        assertThat(voteTally.getTotalCnt()).isEqualTo(5);
+        assertThat(mostVotedResults).extracting(VotedResult::getLiarId).containsExactly("1", "2");
+        assertThat(mostVotedResults.get(0).getUserIds()).containsExactly("0", "3");
+        assertThat(mostVotedResults.get(1).getUserIds()).containsExactly("1", "4");
+        assertThat(voteTally.toVotedResults(playerOrdinals)).extracting(VotedResult::getCnt)
+                .containsExactly(0, 2, 2, 1, 0);
+    }
+
+    @Test
+    @DisplayName("이미 투표한 유저이거나 후보가 아니라면 투표가 반영되지 않는다.")
+    public void cast_duplicatedOrNotCandidate() throws Exception {
+        //given
+        VoteTally voteTally = new VoteTally(playerOrdinals.size());
+
+        //when
+        boolean first = voteTally.cast(0, 1);
+        boolean duplicated = voteTally.cast(0, 2);
+        boolean notCandidate = voteTally.cast(1, 5);
+
+        //then
+        assertThat(first).isTrue();
+        assertThat(duplicated).isFalse();
+        assertThat(notCandidate).isFalse();
+        assertThat(voteTally.getCnt(1)).isEqualTo(1);
+        assertThat(voteTally.getCnt(2)).isZero();
+    }
+}
@@ -0,0 +1,138 @@
+package liar.gamemvcservice.game.repository.redis;
+
+import liar.gamemvcservice.exception.exception.NotFoundUserException;
+import liar.gamemvcservice.game.domain.Game;
+import liar.gamemvcservice.game.domain.GameAggregate;
+import liar.gamemvcservice.game.domain.Player;
+import liar.gamemvcservice.game.domain.Topic;
+import liar.gamemvcservice.game.domain.Vote;
+import liar.gamemvcservice.game.service.ThreadServiceOnlyTest;
+import liar.gamemvcservice.game.service.dto.SetUpGameDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static liar.gamemvcservice.game.domain.GameRole.CITIZEN;
+import static liar.gamemvcservice.game.domain.GameRole.LIAR;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class GameAggregateRepositoryTest extends ThreadServiceOnlyTest {
+
+    @Autowired
+    GameAggregateRepository gameAggregateRepository;
+    @Autowired
+    StringRedisTemplate stringRedisTemplate;
+
+    private Game game;
+
+    @BeforeEach
+    public void init() {
+        setUpThead();
+        game = Game.of(new SetUpGameDto("1", "1", "1", Arrays.asList("1", "2", "3", "4", "5")))
+                .updateTopicOfGame(new Topic(1L, "topic"), "1");
+        gameAggregateRepository.saveGame(game);
+        gameAggregateRepository.saveRoles(game.getId(), game.getPlayerIds().stream()
+                .map(userId -> new Player(userId, userId.equals("1") ? LIAR : CITIZEN))
+                .collect(Collectors.toList()));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        gameAggregateRepository.delete(game.getId());
+    }
+
+    @Test
+    @DisplayName("game, 플레이어 역할, 턴, 투표 기록을 한 번에 조회한다.")
+    public void findAggregate() throws Exception {
+        //given
+        gameAggregateRepository.saveTurnsIfAbsent(game.getId(), game.getPlayerIds());
+        gameAggregateRepository.openVote(game.getId());
+        gameAggregateRepository.castBallot(game.getId(), "2", "1");
+        gameAggregateRepository.castBallot(game.getId(), "3", "1");
+
+        //when
+        GameAggregate gameAggregate = gameAggregateRepository.findAggregate(game.getId());
+        Vote vote = gameAggregate.toVote();
+
+        //then
+        assertThat(gameAggregate.getGame().getLiarId()).isEqualTo("1");
+        assertThat(gameAggregate.getGame().getTopic().getTopicName()).isEqualTo("topic");
+        assertThat(gameAggregate.getPlayers()).hasSize(5);
+        assertThat(gameAggregate.toGameTurn().getPlayerTurnsConsistingOfUserId()).hasSize(5);
+        assertThat(vote.getVotedResult("1").getUserIds()).containsExactlyInAnyOrder("2", "3");
+        assertThat(vote.getMostVotedResult()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("턴 순서와 투표 기록은 userId 대신 플레이어 ordinal로 저장된다.")
+    public void saveOrdinals() throws Exception {
+        //given
+        String key = "GameAggregate:{" + game.getId() + "}";
+
+        //when
+        gameAggregateRepository.saveTurnsIfAbsent(game.getId(), Arrays.asList("3", "1", "5", "2", "4"));
+        gameAggregateRepository.openVote(game.getId());
+        gameAggregateRepository.castBallot(game.getId(), "4", "2");
+
+        //then
+        assertThat(stringRedisTemplate.opsForHash().get(key, "turns")).isEqualTo("2,0,4,1,3");
+        assertThat(stringRedisTemplate.opsForHash().get(key, "ballot:3")).isEqualTo("1");
+        assertThat(gameAggregateRepository.findAggregate(game.getId()).toGameTurn().getPlayerTurnsConsistingOfUserId())
+                .containsExactly("3", "1", "5", "2", "4");
+    }
+
+    @Test
+    @DisplayName("역할이 없는 유저로 턴 순서를 저장하면 NotFoundUserException이 발생한다.")
+    public void saveTurnsIfAbsent_notPlayer() throws Exception {
+        //then
+        assertThatThrownBy(() -> gameAggregateRepository.saveTurnsIfAbsent(game.getId(), Arrays.asList("1", "6")))
+                .isInstanceOf(NotFoundUserException.class);
+    }
+
+    @Test
+    @DisplayName("투표가 시작되지 않았거나 후보가 아니라면 투표가 반영되지 않는다.")
+    public void castBallot_notOpenedOrNotCandidate() throws Exception {
+        //when
+        boolean notOpened = gameAggregateRepository.castBallot(game.getId(), "2", "1");
+        gameAggregateRepository.openVote(game.getId());
+        boolean notCandidate = gameAggregateRepository.castBallot(game.getId(), "2", "6");
+        boolean first = gameAggregateRepository.castBallot(game.getId(), "2", "1");
+        boolean second = gameAggregateRepository.castBallot(game.getId(), "2", "3");
+
+        //then
+        assertThat(notOpened).isFalse();
+        assertThat(notCandidate).isFalse();
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+    }
+
+    @Test
+    @DisplayName("멀티 스레딩 환경에서 현재 턴은 한 번만 변경된다.")
+    public void compareAndSetNowTurn_multiThread() throws Exception {
+        //given
+        gameAggregateRepository.saveTurnsIfAbsent(game.getId(), game.getPlayerIds());
+        AtomicInteger successCnt = new AtomicInteger();
+
+        //when
+        for (int i = 0; i < num; i++) {
+            threads[i] = new Thread(() -> {
+                if (gameAggregateRepository.compareAndSetNowTurn(game.getId(), 0, 1)) successCnt.incrementAndGet();
+            });
+        }
+        runThreads();
+
+        //then
+        assertThat(successCnt.get()).isEqualTo(1);
+        assertThat(gameAggregateRepository.findAggregate(game.getId()).getNowTurn()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,209 @@
+package liar.gamemvcservice.game.repository.redis;
+
+import liar.gamemvcservice.game.domain.Game;
+import liar.gamemvcservice.game.domain.GameTurn;
+import liar.gamemvcservice.game.domain.JoinPlayer;
+import liar.gamemvcservice.game.domain.Player;
+import liar.gamemvcservice.game.domain.Vote;
+import liar.gamemvcservice.game.repository.redis.GameLifecycleRepository.Reclaimed;
+import liar.gamemvcservice.game.repository.redis.GameLifecycleRepository.SweepStep;
+import liar.gamemvcservice.game.service.dto.SetUpGameDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static liar.gamemvcservice.game.domain.GameRole.CITIZEN;
+import static liar.gamemvcservice.game.domain.GameRole.LIAR;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class GameLifecycleRepositoryTest {
+
+    @Autowired
+    GameLifecycleRepository gameLifecycleRepository;
+    @Autowired
+    GameRepository gameRepository;
+    @Autowired
+    GameTurnRepository gameTurnRepository;
+    @Autowired
+    VoteRepository voteRepository;
+    @Autowired
+    JoinPlayerBatchRepository joinPlayerBatchRepository;
+    @Autowired
+    StringRedisTemplate stringRedisTemplate;
+
+    private Game game;
+    private GameTurn gameTurn;
+    private Vote vote;
+
+    @BeforeEach
+    public void init() {
+        game = gameRepository.save(
+                Game.of(new SetUpGameDto("1", "1", "1", Arrays.asList("1", "2", "3"))));
+        gameTurn = gameTurnRepository.save(new GameTurn(game.getId(), game.getPlayerIds()));
+        vote = voteRepository.save(new Vote(game.getId(), game.getPlayerIds()));
+        joinPlayerBatchRepository.saveAllInPipeline(game.getPlayerIds().stream()
+                .map(userId -> new JoinPlayer(game.getId(), new Player(userId, userId.equals("1") ? LIAR : CITIZEN)))
+                .collect(Collectors.toList()));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        gameRepository.deleteById(game.getId());
+        gameTurnRepository.deleteById(gameTurn.getId());
+        voteRepository.deleteById(vote.getId());
+    }
+
+    @Test
+    @DisplayName("게임의 hash와 gameId 인덱스 set에 같은 TTL을 설정하고, keyspace set에서 게임의 엔티티를 제거한다.")
+    public void expireGame() throws Exception {
+        //given
+        String gameId = game.getId();
+
+        //when
+        Reclaimed reclaimed = gameLifecycleRepository.expireGame(gameId, 600);
+
+        //then
+        assertThat(reclaimed.getKeys()).isGreaterThan(0);
+        assertThat(reclaimed.getBytes()).isGreaterThan(0);
+        assertThat(stringRedisTemplate.getExpire("Game:" + gameId)).isPositive();
+        assertThat(stringRedisTemplate.getExpire("GameTurn:" + gameTurn.getId())).isPositive();
+        assertThat(stringRedisTemplate.getExpire("GameTurn:gameId:" + gameId)).isPositive();
+        assertThat(stringRedisTemplate.getExpire("Vote:gameId:" + gameId)).isPositive();
+        assertThat(stringRedisTemplate.getExpire("JoinPlayer:" + gameId + "_1")).isPositive();
+        assertThat(stringRedisTemplate.getExpire("JoinPlayer:gameId:" + gameId)).isPositive();
+        assertThat(stringRedisTemplate.opsForSet().isMember("Game", gameId)).isFalse();
+        assertThat(stringRedisTemplate.opsForSet().isMember("GameTurn", gameTurn.getId())).isFalse();
+
+        assertThat(gameTurnRepository.findGameTurnByGameId(gameId).getId()).isEqualTo(gameTurn.getId());
+    }
+
+    @Test
+    @DisplayName("sweep은 hash가 사라진 gameId 인덱스 항목과 keyspace set 항목을 제거한다.")
+    public void sweep_removeOrphans() throws Exception {
+        //given
+        String orphanGameId = UUID.randomUUID().toString();
+        String orphanId = UUID.randomUUID().toString();
+        stringRedisTemplate.opsForSet().add("GameTurn:gameId:" + orphanGameId, orphanId);
+        stringRedisTemplate.opsForSet().add("GameTurn", orphanId);
+
+        //when
+        sweepAll();
+        SweepStep step;
+        String cursor = "0";
+        do {
+            step = gameLifecycleRepository.sweepKeyspace("GameTurn", cursor, 100);
+            cursor = step.getCursor();
+        } while (!step.isFinished());
+
+        //then
+        assertThat(stringRedisTemplate.hasKey("GameTurn:gameId:" + orphanGameId)).isFalse();
+        assertThat(stringRedisTemplate.opsForSet().isMember("GameTurn", orphanId)).isFalse();
+        assertThat(stringRedisTemplate.opsForSet().isMember("GameTurn", gameTurn.getId())).isTrue();
+    }
+
+    @Test
+    @DisplayName("sweep은 진행 중인 게임의 key에 TTL을 설정하지 않는다.")
+    public void sweep_liveGame() throws Exception {
+        //given
+        String gameId = game.getId();
+
+        //when
+        sweepAll();
+
+        //then
+        assertThat(stringRedisTemplate.getExpire("Game:" + gameId)).isEqualTo(-1);
+        assertThat(stringRedisTemplate.getExpire("GameTurn:" + gameTurn.getId())).isEqualTo(-1);
+        assertThat(stringRedisTemplate.getExpire("GameTurn:gameId:" + gameId)).isEqualTo(-1);
+        assertThat(stringRedisTemplate.getExpire("JoinPlayer:" + gameId + "_1")).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("sweep은 결과 snapshot이 저장되었지만 TTL이 없는 게임의 key에 finishedTtl을 설정한다.")
+    public void sweep_finishedGame() throws Exception {
+        //given
+        String gameId = game.getId();
+        stringRedisTemplate.opsForValue().set("GameResultSnapshot:{" + gameId + "}", "snapshot", 60, TimeUnit.SECONDS);
+
+        //when
+        sweepAll();
+
+        //then
+        assertThat(stringRedisTemplate.getExpire("Game:" + gameId)).isBetween(1L, 600L);
+        assertThat(stringRedisTemplate.getExpire("GameTurn:" + gameTurn.getId())).isBetween(1L, 600L);
+        assertThat(stringRedisTemplate.getExpire("GameTurn:gameId:" + gameId)).isBetween(1L, 600L);
+        assertThat(stringRedisTemplate.getExpire("JoinPlayer:" + gameId + "_1")).isBetween(1L, 600L);
+        stringRedisTemplate.delete("GameResultSnapshot:{" + gameId + "}");
+    }
+
+    @Test
+    @DisplayName("sweep은 결과까지 진행되지 않았더라도 maxIdle 동안 사용되지 않은 게임의 key에 finishedTtl을 설정한다.")
+    public void sweep_idleGame() throws Exception {
+        //given
+        String gameId = game.getId();
+
+        //when
+        sweepAll(0);
+
+        //then
+        assertThat(stringRedisTemplate.getExpire("Game:" + gameId)).isBetween(1L, 600L);
+        assertThat(stringRedisTemplate.getExpire("GameTurn:" + gameTurn.getId())).isBetween(1L, 600L);
+        assertThat(stringRedisTemplate.getExpire("Vote:gameId:" + gameId)).isBetween(1L, 600L);
+        assertThat(stringRedisTemplate.getExpire("JoinPlayer:" + gameId + "_1")).isBetween(1L, 600L);
+    }
+
+    @Test
+    @DisplayName("끝난 게임의 key를 다시 저장하면, Game hash의 남은 TTL을 다시 설정한다.")
+    public void keepFinishedTtl() throws Exception {
+        //given
+        String gameId = game.getId();
+        gameLifecycleRepository.expireGame(gameId, 600);
+
+        //when
+        gameTurnRepository.save(gameTurn);
+        long expired = gameLifecycleRepository.keepFinishedTtl(gameId,
+                Arrays.asList("GameTurn:" + gameTurn.getId(), "GameTurn:gameId:" + gameId), 600);
+
+        //then
+        assertThat(expired).isPositive();
+        assertThat(stringRedisTemplate.getExpire("GameTurn:" + gameTurn.getId())).isBetween(1L, 600L);
+        assertThat(stringRedisTemplate.getExpire("GameTurn:gameId:" + gameId)).isBetween(1L, 600L);
+    }
+
+    @Test
+    @DisplayName("진행 중인 게임의 key라면 TTL을 설정하지 않는다.")
+    public void keepFinishedTtl_liveGame() throws Exception {
+        //given
+        String gameId = game.getId();
+
+        //when
+        long expired = gameLifecycleRepository.keepFinishedTtl(gameId,
+                Arrays.asList("GameTurn:" + gameTurn.getId()), 600);
+
+        //then
+        assertThat(expired).isEqualTo(0);
+        assertThat(stringRedisTemplate.getExpire("GameTurn:" + gameTurn.getId())).isEqualTo(-1);
+    }
+
+    private void sweepAll() {
+        sweepAll(86400);
+    }
+
+    private void sweepAll(long maxIdleSeconds) {
+        SweepStep step;
+        String cursor = "0";
+        do {
+            step = gameLifecycleRepository.sweep(cursor, 100, 600, maxIdleSeconds);
+            cursor = step.getCursor();
+        } while (!step.isFinished());
+    }
+}
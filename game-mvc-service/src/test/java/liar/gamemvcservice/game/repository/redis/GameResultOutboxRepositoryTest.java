@@ -0,0 +1,135 @@
+package liar.gamemvcservice.game.repository.redis;
+
+import liar.gamemvcservice.game.repository.redis.GameResultOutboxRepository.OutboxMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "game.result.outbox.enabled=false")
+class GameResultOutboxRepositoryTest {
+
+    @Autowired
+    GameResultOutboxRepository gameResultOutboxRepository;
+
+    @Autowired
+    StringRedisTemplate stringRedisTemplate;
+
+    private String gameId;
+
+    @BeforeEach
+    public void init() {
+        gameId = UUID.randomUUID().toString();
+        stringRedisTemplate.opsForHash().put("Game:" + gameId, "sendMessage", "0");
+        stringRedisTemplate.opsForHash().put("Game:" + gameId, "version", "0");
+    }
+
+    @Test
+    @DisplayName("게임의 sendMessage를 설정하면서 outbox에 저장하며, 한 번만 저장된다.")
+    public void saveIfNotSent() throws Exception {
+        //when
+        long first = gameResultOutboxRepository.saveIfNotSent(gameId, "{\"gameId\":\"1\"}");
+        long second = gameResultOutboxRepository.saveIfNotSent(gameId, "{\"gameId\":\"2\"}");
+        long notFound = gameResultOutboxRepository.saveIfNotSent(UUID.randomUUID().toString(), "{}");
+
+        //then
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isZero();
+        assertThat(notFound).isEqualTo(-1);
+        assertThat(stringRedisTemplate.opsForHash().get("Game:" + gameId, "sendMessage")).isEqualTo("1");
+        assertThat(stringRedisTemplate.opsForHash().get("Game:" + gameId, "version")).isEqualTo("1");
+        gameResultOutboxRepository.delete(List.of(gameId));
+    }
+
+    @Test
+    @DisplayName("가져온 메세지는 lease 동안 다시 가져올 수 없고, 가져올 때마다 시도 횟수가 증가한다.")
+    public void claim_lease() throws Exception {
+        //given
+        gameResultOutboxRepository.saveIfNotSent(gameId, "{}");
+        long now = System.currentTimeMillis();
+
+        //when
+        OutboxMessage claimed = findClaimed(gameResultOutboxRepository.claim(1000, now, now + 10000));
+        OutboxMessage leased = findClaimed(gameResultOutboxRepository.claim(1000, now + 1, now + 10000));
+        gameResultOutboxRepository.retryAt(gameId, now);
+        OutboxMessage retried = findClaimed(gameResultOutboxRepository.claim(1000, now + 1, now + 10000));
+
+        //then
+        assertThat(claimed.getBody()).isEqualTo("{}");
+        assertThat(claimed.getAttempt()).isEqualTo(1);
+        assertThat(leased).isNull();
+        assertThat(retried.getAttempt()).isEqualTo(2);
+        gameResultOutboxRepository.delete(List.of(gameId));
+    }
+
+    @Test
+    @DisplayName("dead로 옮긴 메세지는 시도 횟수 0으로 outbox에 다시 넣을 수 있다.")
+    public void bury_replayDead() throws Exception {
+        //given
+        gameResultOutboxRepository.saveIfNotSent(gameId, "{}");
+        long now = System.currentTimeMillis();
+        findClaimed(gameResultOutboxRepository.claim(1000, now, now + 10000));
+        gameResultOutboxRepository.bury(gameId);
+        long deadSize = gameResultOutboxRepository.countDead();
+
+        //when
+        long replayed = gameResultOutboxRepository.replayDead(1000);
+        OutboxMessage retried = findClaimed(gameResultOutboxRepository.claim(1000, System.currentTimeMillis(), now + 10000));
+
+        //then
+        assertThat(deadSize).isPositive();
+        assertThat(replayed).isPositive();
+        assertThat(gameResultOutboxRepository.countDead()).isZero();
+        assertThat(retried.getBody()).isEqualTo("{}");
+        assertThat(retried.getAttempt()).isEqualTo(1);
+        gameResultOutboxRepository.delete(List.of(gameId));
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 dead 메세지는 지운다.")
+    public void purgeDead() throws Exception {
+        //given
+        gameResultOutboxRepository.saveIfNotSent(gameId, "{}");
+        gameResultOutboxRepository.bury(gameId);
+        long deadSize = gameResultOutboxRepository.countDead();
+
+        //when
+        long notExpired = gameResultOutboxRepository.purgeDead(System.currentTimeMillis() - 60000, 1000);
+        long purged = gameResultOutboxRepository.purgeDead(System.currentTimeMillis(), 1000);
+
+        //then
+        assertThat(notExpired).isZero();
+        assertThat(purged).isPositive();
+        assertThat(gameResultOutboxRepository.countDead()).isLessThan(deadSize);
+    }
+
+    @Test
+    @DisplayName("전송에 성공한 메세지를 지우면, 다시 가져올 수 없다.")
+    public void delete() throws Exception {
+        //given
+        gameResultOutboxRepository.saveIfNotSent(gameId, "{}");
+        long pending = gameResultOutboxRepository.countPending();
+
+        //when
+        gameResultOutboxRepository.delete(List.of(gameId));
+        long now = System.currentTimeMillis();
+
+        //then
+        assertThat(gameResultOutboxRepository.countPending()).isEqualTo(pending - 1);
+        assertThat(findClaimed(gameResultOutboxRepository.claim(1000, now, now + 10000))).isNull();
+    }
+
+    private OutboxMessage findClaimed(List<OutboxMessage> messages) {
+        return messages.stream()
+                .filter(message -> message.getGameId().equals(gameId))
+                .findFirst()
+                .orElse(null);
+    }
+}
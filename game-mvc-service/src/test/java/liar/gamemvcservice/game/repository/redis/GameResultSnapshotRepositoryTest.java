@@ -0,0 +1,38 @@
+package liar.gamemvcservice.game.repository.redis;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.UUID;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class GameResultSnapshotRepositoryTest {
+
+    @Autowired
+    GameResultSnapshotRepository gameResultSnapshotRepository;
+
+    @Test
+    @DisplayName("snapshot은 처음 저장된 값만 유지된다.")
+    public void saveSnapshotIfAbsent() throws Exception {
+        //given
+        String gameId = UUID.randomUUID().toString();
+        byte[] first = "{\"winner\":\"CITIZEN\"}".getBytes(UTF_8);
+        byte[] second = "{\"winner\":\"LIAR\"}".getBytes(UTF_8);
+
+        //when
+        byte[] notSaved = gameResultSnapshotRepository.findSnapshot(gameId);
+        byte[] savedFirst = gameResultSnapshotRepository.saveSnapshotIfAbsent(gameId, first);
+        byte[] savedSecond = gameResultSnapshotRepository.saveSnapshotIfAbsent(gameId, second);
+
+        //then
+        assertThat(notSaved).isNull();
+        assertThat(savedFirst).isEqualTo(first);
+        assertThat(savedSecond).isEqualTo(first);
+        assertThat(gameResultSnapshotRepository.findSnapshot(gameId)).isEqualTo(first);
+    }
+}
@@ -25,6 +25,8 @@ class JoinPlayerRepositoryTest {
 
     @Autowired
     JoinPlayerRepository joinPlayerRepository;
+    @Autowired
+    JoinPlayerBatchRepository joinPlayerBatchRepository;
 
     private int num;
     private Thread[] threads;
@@ -81,6 +83,22 @@ class JoinPlayerRepositoryTest {
 
     }
 
+    @Test
+    @DisplayName("joinPlayer를 pipeline으로 저장하면, gameId 인덱스와 id로 조회할 수 있다.")
+    public void saveAllInPipeline() throws Exception {
+        //given
+        List<JoinPlayer> joinPlayers = getJoinPlayers();
+
+        //when
+        joinPlayerBatchRepository.saveAllInPipeline(joinPlayers);
+
+        //then
+        assertThat(joinPlayerRepository.findByGameId(gameId1).size()).isEqualTo(4);
+        assertThat(joinPlayerRepository.findByGameId(gameId2).size()).isEqualTo(1);
+        assertThat(joinPlayerRepository.findById(gameId1 + "_4").orElseThrow()
+                .getPlayer().getGameRole()).isEqualTo(LIAR);
+    }
+
     @Test
     @DisplayName("save")
     public void save_multiThread() throws Exception {
@@ -0,0 +1,77 @@
+package liar.gamemvcservice.game.repository.redis;
+
+import liar.gamemvcservice.game.service.ThreadServiceOnlyTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class VoteTallyRepositoryTest extends ThreadServiceOnlyTest {
+
+    @Autowired
+    VoteTallyRepository voteTallyRepository;
+
+    private String gameId;
+
+    @BeforeEach
+    public void init() {
+        setUpThead();
+        gameId = UUID.randomUUID().toString();
+        voteTallyRepository.initTally(gameId, Arrays.asList("1", "2", "3", "4", "5"));
+    }
+
+    @Test
+    @DisplayName("유저는 한 번만 투표할 수 있다.")
+    public void castBallot_idempotent() throws Exception {
+        //when
+        boolean first = voteTallyRepository.castBallot(gameId, "1", "2");
+        boolean second = voteTallyRepository.castBallot(gameId, "1", "3");
+
+        //then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(voteTallyRepository.findBallots(gameId)).containsEntry("1", "2").hasSize(1);
+    }
+
+    @Test
+    @DisplayName("후보가 아닌 유저에게 투표하면 반영되지 않는다.")
+    public void castBallot_notCandidate() throws Exception {
+        //when
+        boolean result = voteTallyRepository.castBallot(gameId, "1", "6");
+
+        //then
+        assertThat(result).isFalse();
+        assertThat(voteTallyRepository.findBallots(gameId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("멀티 스레딩 환경에서 락 없이 모든 투표가 반영된다.")
+    public void castBallot_multiThread() throws Exception {
+        //given
+        AtomicInteger successCnt = new AtomicInteger();
+
+        //when
+        for (int i = 0; i < num; i++) {
+            String userId = String.valueOf(i + 1);
+            threads[i] = new Thread(() -> {
+                if (voteTallyRepository.castBallot(gameId, userId, "2")) successCnt.incrementAndGet();
+            });
+        }
+        runThreads();
+
+        //then
+        Map<Object, Object> ballots = voteTallyRepository.findBallots(gameId);
+        assertThat(successCnt.get()).isEqualTo(num);
+        assertThat(ballots).hasSize(num);
+        assertThat(ballots.values()).containsOnly("2");
+    }
+}
@@ -317,6 +317,26 @@ class GameFacadeServiceImplTest extends ThreadServiceOnlyTest {
         assertThat(mostVotedResult.get(0).getLiarId()).isEqualTo("2");
     }
 
+    @Test
+    @DisplayName("마지막 투표가 저장되기 전에는 결과 snapshot을 만들지 않고, 마지막 투표 후에 1회 저장한다.")
+    public void voteLiarUser_closeGameResult() throws Exception {
+        //given
+        doPlayUntilLastTurns();
+        for (int i = 1; i < game.getPlayerIds().size(); i++)
+            gameFacadeService.voteLiarUser(new VoteLiarRequest(gameId, String.valueOf(i), liarId));
+        byte[] beforeClose = gameFacadeService.findGameResultSnapshot(gameId);
+        byte[] notClosed = gameFacadeService.closeGameResult(gameId);
+
+        //when
+        gameFacadeService.voteLiarUser(new VoteLiarRequest(gameId, String.valueOf(game.getPlayerIds().size()), liarId));
+
+        //then
+        assertThat(beforeClose).isNull();
+        assertThat(notClosed).isNull();
+        assertThat(gameFacadeService.findGameResultSnapshot(gameId)).isNotNull();
+        assertThat(gameFacadeService.closeGameResult(gameId)).isEqualTo(gameFacadeService.findGameResultSnapshot(gameId));
+    }
+
     @Test
     @DisplayName("voteLiarUser후 없는 liar 요청이 온 경우, false를 리턴한다.")
     public void voteLiarUser_returnFalse() throws Exception {
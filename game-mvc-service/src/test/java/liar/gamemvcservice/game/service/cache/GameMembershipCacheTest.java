@@ -0,0 +1,79 @@
+package liar.gamemvcservice.game.service.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GameMembershipCacheTest {
+
+    private GameMembershipCache gameMembershipCache;
+    private AtomicInteger loadCnt;
+
+    @BeforeEach
+    public void init() {
+        gameMembershipCache = new GameMembershipCache(new SimpleMeterRegistry(), 100, 60, 100, 60);
+        loadCnt = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("게임을 설정할 때 저장한 참여자는 조회 없이 확인한다.")
+    public void isMember_put() throws Exception {
+        //given
+        gameMembershipCache.put("game1", Arrays.asList("1", "2", "3"));
+
+        //when
+        boolean member = gameMembershipCache.isMember("game1", "2", this::load);
+
+        //then
+        assertThat(member).isTrue();
+        assertThat(loadCnt.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("참여자 목록은 한 번만 조회하고, 거절된 요청은 다시 조회하지 않는다.")
+    public void isMember_load() throws Exception {
+        //when
+        boolean first = gameMembershipCache.isMember("game1", "1", this::load);
+        boolean second = gameMembershipCache.isMember("game1", "2", this::load);
+        boolean rejectedFirst = gameMembershipCache.isMember("game1", "9", this::load);
+        boolean rejectedSecond = gameMembershipCache.isMember("game1", "9", this::load);
+
+        //then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(rejectedFirst).isFalse();
+        assertThat(rejectedSecond).isFalse();
+        assertThat(loadCnt.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("없는 게임은 참여자 목록을 저장하지 않는다.")
+    public void isMember_notFoundGame() throws Exception {
+        //when
+        boolean member = gameMembershipCache.isMember("game2", "1", gameId -> {
+            loadCnt.incrementAndGet();
+            return null;
+        });
+        boolean otherUser = gameMembershipCache.isMember("game2", "2", gameId -> {
+            loadCnt.incrementAndGet();
+            return null;
+        });
+
+        //then
+        assertThat(member).isFalse();
+        assertThat(otherUser).isFalse();
+        assertThat(loadCnt.get()).isEqualTo(2);
+    }
+
+    private Set<String> load(String gameId) {
+        loadCnt.incrementAndGet();
+        return Set.of("1", "2", "3");
+    }
+}
@@ -0,0 +1,47 @@
+package liar.gamemvcservice.game.service.cache;
+
+import liar.gamemvcservice.game.domain.Game;
+import liar.gamemvcservice.game.service.dto.SetUpGameDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class GameMetadataCacheTest {
+
+    @Autowired
+    GameMetadataCache gameMetadataCache;
+
+    @Test
+    @DisplayName("캐시된 game은 다시 조회하지 않고, 무효화되면 다시 조회한다.")
+    public void get_invalidate() throws Exception {
+        //given
+        Game game = Game.of(new SetUpGameDto("1", "1", "1", Arrays.asList("1", "2", "3")));
+        AtomicInteger loadCnt = new AtomicInteger();
+
+        //when
+        Game first = gameMetadataCache.get(game.getId(), gameId -> {
+            loadCnt.incrementAndGet();
+            return game;
+        });
+        Game second = gameMetadataCache.get(game.getId(), gameId -> {
+            loadCnt.incrementAndGet();
+            return game;
+        });
+        gameMetadataCache.invalidate(game.getId());
+        gameMetadataCache.get(game.getId(), gameId -> {
+            loadCnt.incrementAndGet();
+            return game;
+        });
+
+        //then
+        assertThat(first).isSameAs(second);
+        assertThat(loadCnt.get()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,132 @@
+package liar.gamemvcservice.game.service.outbox;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import liar.gamemvcservice.common.redis.shard.RedisShardContext;
+import liar.gamemvcservice.common.redis.shard.RedisShards;
+import liar.gamemvcservice.game.repository.redis.GameResultOutboxRepository;
+import liar.gamemvcservice.game.repository.redis.GameResultOutboxRepository.OutboxMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalMatchers.geq;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class GameResultOutboxRelayTest {
+
+    private GameResultOutboxRepository gameResultOutboxRepository;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    public void init() {
+        gameResultOutboxRepository = mock(GameResultOutboxRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("가져온 메세지를 transport의 최대 batch 크기로 나누어 전송하고, 성공한 메세지를 제거한다.")
+    public void drain_batch() throws Exception {
+        //given
+        InMemoryGameResultTransport transport = new InMemoryGameResultTransport(100, 10, 0);
+        GameResultOutboxRelay relay = createRelay(transport, 3);
+        when(gameResultOutboxRepository.claim(anyInt(), anyLong(), anyLong()))
+                .thenReturn(messages(25, 1), new ArrayList<>());
+
+        //when
+        int sentCnt = relay.drain();
+
+        //then
+        assertThat(sentCnt).isEqualTo(25);
+        assertThat(transport.size()).isEqualTo(25);
+        verify(gameResultOutboxRepository, times(3)).delete(anyCollection());
+        verify(gameResultOutboxRepository, never()).retryAt(anyString(), anyLong());
+        assertThat(meterRegistry.get("game.result.outbox.sent").counter().count()).isEqualTo(25);
+    }
+
+    @Test
+    @DisplayName("전송에 실패한 메세지는 backoff 후 다시 전송하도록 예약하고, 최대 시도 횟수를 넘으면 dead로 옮긴다.")
+    public void drain_retryAndBury() throws Exception {
+        //given
+        InMemoryGameResultTransport transport = new InMemoryGameResultTransport(100, 10, 1);
+        GameResultOutboxRelay relay = createRelay(transport, 3);
+        List<OutboxMessage> messages = new ArrayList<>(messages(1, 1));
+        messages.addAll(messages(1, 3));
+        when(gameResultOutboxRepository.claim(anyInt(), anyLong(), anyLong())).thenReturn(messages);
+
+        //when
+        long now = System.currentTimeMillis();
+        int sentCnt = relay.drain();
+
+        //then
+        assertThat(sentCnt).isZero();
+        verify(gameResultOutboxRepository).retryAt(eq(messages.get(0).getGameId()), geq(now + 500));
+        verify(gameResultOutboxRepository).bury(messages.get(1).getGameId());
+        assertThat(meterRegistry.get("game.result.outbox.dead").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("전송 요청 자체가 실패하면, batch의 모든 메세지를 다시 전송하도록 예약한다.")
+    public void drain_transportException() throws Exception {
+        //given
+        GameResultTransport transport = mock(GameResultTransport.class);
+        when(transport.getMaxBatchSize()).thenReturn(10);
+        when(transport.sendBatch(anyList())).thenThrow(new IllegalStateException());
+        GameResultOutboxRelay relay = createRelay(transport, 3);
+        when(gameResultOutboxRepository.claim(anyInt(), anyLong(), anyLong())).thenReturn(messages(5, 1));
+
+        //when
+        relay.drain();
+
+        //then
+        verify(gameResultOutboxRepository, times(5)).retryAt(anyString(), anyLong());
+        verify(gameResultOutboxRepository).delete(argThat(Collection::isEmpty));
+    }
+
+    @Test
+    @DisplayName("dead 메세지를 확인하면, 보관 기간이 지난 메세지를 지우고 모든 노드의 dead 메세지 수를 gauge에 기록한다.")
+    public void checkDead() throws Exception {
+        //given
+        RedisShards redisShards = mock(RedisShards.class);
+        doAnswer(invocation -> {
+            RedisShardContext.runOnNode("node1", invocation.getArgument(0));
+            RedisShardContext.runOnNode("node2", invocation.getArgument(0));
+            return null;
+        }).when(redisShards).forEachNode(any(Runnable.class));
+        GameResultOutboxRelay relay = createRelay(mock(GameResultTransport.class), redisShards, 3);
+        when(gameResultOutboxRepository.purgeDead(anyLong(), anyInt())).thenReturn(100L, 1L, 0L);
+        when(gameResultOutboxRepository.countDead()).thenReturn(2L, 3L);
+
+        //when
+        long now = System.currentTimeMillis();
+        long deadSize = relay.checkDead();
+
+        //then
+        assertThat(deadSize).isEqualTo(5);
+        verify(gameResultOutboxRepository, times(3)).purgeDead(geq(now - 1000), eq(100));
+        assertThat(meterRegistry.get("game.result.outbox.dead.size").gauge().value()).isEqualTo(5);
+        assertThat(meterRegistry.get("game.result.outbox.dead.purged").counter().count()).isEqualTo(101);
+    }
+
+    private GameResultOutboxRelay createRelay(GameResultTransport transport, int maxAttempts) {
+        return createRelay(transport, mock(RedisShards.class), maxAttempts);
+    }
+
+    private GameResultOutboxRelay createRelay(GameResultTransport transport, RedisShards redisShards, int maxAttempts) {
+        return new GameResultOutboxRelay(gameResultOutboxRepository, transport, redisShards, meterRegistry,
+                false, 200, 100, 30000, 500, 60000, maxAttempts, 60000, 1000);
+    }
+
+    private List<OutboxMessage> messages(int size, int attempt) {
+        List<OutboxMessage> messages = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            messages.add(new OutboxMessage("game" + attempt + "-" + i, "{}", attempt));
+        }
+        return messages;
+    }
+}
@@ -0,0 +1,103 @@
+package liar.gamemvcservice.game.service.topic;
+
+import liar.gamemvcservice.game.domain.Topic;
+import liar.gamemvcservice.game.repository.TopicRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+class TopicCatalogPublishTest {
+
+    @Autowired
+    StringRedisTemplate stringRedisTemplate;
+
+    private TopicRepository topicRepository;
+    private List<Topic> dbTopics;
+
+    @BeforeEach
+    public void init() {
+        stringRedisTemplate.delete(Arrays.asList(TopicCatalog.CATALOG_KEY, TopicCatalog.VERSION_KEY));
+        dbTopics = new ArrayList<>(Arrays.asList(new Topic(1L, "축구"), new Topic(2L, "야구"), new Topic(3L, "농구")));
+        topicRepository = mock(TopicRepository.class);
+        when(topicRepository.findAllByOrderByIdAsc()).thenAnswer(invocation -> new ArrayList<>(dbTopics));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        stringRedisTemplate.delete(Arrays.asList(TopicCatalog.CATALOG_KEY, TopicCatalog.VERSION_KEY));
+    }
+
+    @Test
+    @DisplayName("여러 노드가 시작하고 새 topic을 각각 읽어도, redis list에는 topic이 한 번씩만 저장된다.")
+    public void publish_multipleNodes() throws Exception {
+        //given
+        TopicCatalog node1 = new TopicCatalog(topicRepository, stringRedisTemplate, 5, 0, 100);
+        TopicCatalog node2 = new TopicCatalog(topicRepository, stringRedisTemplate, 5, 0, 100);
+        node1.init();
+        node2.init();
+
+        //when
+        dbTopics.add(new Topic(4L, "배구"));
+        node1.reload();
+        node2.reload();
+
+        //then
+        assertThat(stringRedisTemplate.opsForList().size(TopicCatalog.CATALOG_KEY)).isEqualTo(4);
+        assertThat(node1.size()).isEqualTo(4);
+        assertThat(node2.size()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("topic 수가 같더라도 내용이 수정되면 version이 바뀐다.")
+    public void publish_versionChangedOnEdit() throws Exception {
+        //given
+        TopicCatalog node = new TopicCatalog(topicRepository, stringRedisTemplate, 5, 0, 100);
+        node.init();
+        String before = stringRedisTemplate.opsForValue().get(TopicCatalog.VERSION_KEY);
+
+        //when
+        dbTopics.set(1, new Topic(2L, "탁구"));
+        boolean changed = node.reload();
+
+        //then
+        assertThat(changed).isTrue();
+        assertThat(stringRedisTemplate.opsForValue().get(TopicCatalog.VERSION_KEY)).isNotEqualTo(before);
+        assertThat(stringRedisTemplate.opsForList().size(TopicCatalog.CATALOG_KEY)).isEqualTo(3);
+        assertThat(stringRedisTemplate.opsForList().index(TopicCatalog.CATALOG_KEY, 1)).contains("탁구");
+    }
+
+    @Test
+    @DisplayName("topic이 삭제되면 다음 reload에서 노드의 배열에서도 빠지고, 바뀌지 않았다면 배열을 교체하지 않는다.")
+    public void reload_delete() throws Exception {
+        //given
+        TopicCatalog node = new TopicCatalog(topicRepository, stringRedisTemplate, 0, 0, 100);
+        node.init();
+        boolean unchanged = node.reload();
+
+        //when
+        dbTopics.remove(0);
+        boolean changed = node.reload();
+
+        //then
+        assertThat(unchanged).isFalse();
+        assertThat(changed).isTrue();
+        assertThat(node.size()).isEqualTo(2);
+        for (int i = 0; i < 20; i++) {
+            assertThat(node.pick().getTopicName()).isNotEqualTo("축구");
+        }
+        assertThat(stringRedisTemplate.opsForList().size(TopicCatalog.CATALOG_KEY)).isEqualTo(2);
+    }
+}
@@ -0,0 +1,70 @@
+package liar.gamemvcservice.game.service.topic;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TopicCatalogTest {
+
+    @Test
+    @DisplayName("같은 방에서는 최근 recentSize 개의 topic이 다시 선택되지 않는다.")
+    public void draw_notRepeatRecentTopics() throws Exception {
+        //given
+        int recentSize = 5;
+        int size = 8;
+        TopicCatalog.RecentTopics recentTopics = new TopicCatalog.RecentTopics(recentSize);
+        LinkedList<Integer> window = new LinkedList<>();
+
+        //when
+        for (int i = 0; i < 1000; i++) {
+            int idx = recentTopics.draw(size);
+            recentTopics.add(idx);
+
+            //then
+            assertThat(idx).isBetween(0, size - 1);
+            assertThat(window).doesNotContain(idx);
+            window.addLast(idx);
+            if (window.size() > recentSize) window.removeFirst();
+        }
+    }
+
+    @Test
+    @DisplayName("topic 수가 recentSize 이하라면, 직전 topic을 제외한 모든 topic을 순서대로 한 번씩 선택한다.")
+    public void draw_smallCatalog() throws Exception {
+        //given
+        int size = 4;
+        TopicCatalog.RecentTopics recentTopics = new TopicCatalog.RecentTopics(10);
+        Set<Integer> drawn = new HashSet<>();
+
+        //when
+        for (int i = 0; i < size; i++) {
+            int idx = recentTopics.draw(size);
+            recentTopics.add(idx);
+            drawn.add(idx);
+        }
+
+        //then
+        assertThat(drawn).containsExactlyInAnyOrder(0, 1, 2, 3);
+    }
+
+    @Test
+    @DisplayName("topic이 1개라면 항상 같은 topic을 선택한다.")
+    public void draw_singleTopic() throws Exception {
+        //given
+        TopicCatalog.RecentTopics recentTopics = new TopicCatalog.RecentTopics(5);
+
+        //when
+        for (int i = 0; i < 3; i++) {
+            int idx = recentTopics.draw(1);
+            recentTopics.add(idx);
+
+            //then
+            assertThat(idx).isZero();
+        }
+    }
+}
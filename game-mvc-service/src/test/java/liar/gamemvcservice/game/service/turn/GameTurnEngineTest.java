@@ -0,0 +1,135 @@
+package liar.gamemvcservice.game.service.turn;
+
+import liar.gamemvcservice.exception.exception.GameTurnEndException;
+import liar.gamemvcservice.exception.exception.NotUserTurnException;
+import liar.gamemvcservice.game.domain.Game;
+import liar.gamemvcservice.game.domain.GameTurn;
+import liar.gamemvcservice.game.domain.NextTurn;
+import liar.gamemvcservice.game.repository.redis.GameRepository;
+import liar.gamemvcservice.game.repository.redis.GameTurnRepository;
+import liar.gamemvcservice.game.service.ThreadServiceOnlyTest;
+import liar.gamemvcservice.game.service.dto.SetUpGameDto;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "game.turn.engine.enabled=true")
+class GameTurnEngineTest extends ThreadServiceOnlyTest {
+
+    @Autowired
+    GameTurnEngine gameTurnEngine;
+    @Autowired
+    PlayerTurnPolicy playerTurnPolicy;
+    @Autowired
+    GameRepository gameRepository;
+    @Autowired
+    GameTurnRepository gameTurnRepository;
+    @Autowired
+    RedissonClient redissonClient;
+
+    private Game game;
+
+    @BeforeEach
+    public void init() {
+        setUpThead();
+        game = gameRepository.save(Game.of(new SetUpGameDto("1", "1", "1",
+                Arrays.asList("1", "2", "3", "4", "5"))));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        gameRepository.deleteAll();
+        gameTurnRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("게임 턴 엔진은 메모리에서 턴을 변경하고, 마지막 턴이 끝나면 redis에 저장한다.")
+    public void updateTurnWhenPlayerTurnIsValidated() throws Exception {
+        //given
+        List<String> turns = playerTurnPolicy.setUpTurn(game).getPlayerTurnsConsistingOfUserId();
+        NextTurn nextTurn = null;
+
+        //when
+        for (int i = 0; i < turns.size() * 2; i++) {
+            nextTurn = gameTurnEngine.updateTurnWhenPlayerTurnIsValidated(game.getId(), turns.get(i % turns.size()));
+        }
+        gameTurnEngine.release(game.getId());
+
+        //then
+        GameTurn savedGameTurn = gameTurnRepository.findGameTurnByGameId(game.getId());
+        assertThat(nextTurn.getUserIdOfNextTurn()).isNull();
+        assertThat(savedGameTurn.getNowTurn()).isEqualTo(turns.size() * 2);
+    }
+
+    @Test
+    @DisplayName("게임 턴 엔진은 같은 게임의 동시 요청을 하나의 스레드에서 순서대로 처리한다.")
+    public void updateTurnWhenPlayerTurnIsValidated_multiThread() throws Exception {
+        //given
+        String firstUserId = playerTurnPolicy.setUpTurn(game).getPlayerTurnsConsistingOfUserId().get(0);
+        AtomicInteger successCnt = new AtomicInteger();
+
+        //when
+        for (int i = 0; i < num; i++) {
+            threads[i] = new Thread(() -> {
+                try {
+                    gameTurnEngine.updateTurnWhenPlayerTurnIsValidated(game.getId(), firstUserId);
+                    successCnt.incrementAndGet();
+                } catch (NotUserTurnException ignored) {
+                }
+            });
+        }
+        runThreads();
+        gameTurnEngine.release(game.getId());
+
+        //then
+        assertThat(successCnt.get()).isEqualTo(1);
+        assertThat(gameTurnRepository.findGameTurnByGameId(game.getId()).getNowTurn()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("플레이어의 턴이 아니라면 예외를 발생시킨다.")
+    public void updateTurnWhenPlayerTurnIsValidated_exception() throws Exception {
+        //given
+        List<String> turns = playerTurnPolicy.setUpTurn(game).getPlayerTurnsConsistingOfUserId();
+
+        //then
+        Assertions.assertThatThrownBy(() -> {
+            gameTurnEngine.updateTurnWhenPlayerTurnIsValidated(game.getId(), turns.get(1));
+        }).isInstanceOf(NotUserTurnException.class);
+        gameTurnEngine.release(game.getId());
+    }
+
+    @Test
+    @DisplayName("게임이 끝난 뒤 늦게 도착한 요청은 GameTurnEndException을 발생시키고, 소유권을 다시 점유하지 않는다.")
+    public void updateTurnWhenPlayerTurnIsValidated_afterGameEnd() throws Exception {
+        //given
+        List<String> turns = playerTurnPolicy.setUpTurn(game).getPlayerTurnsConsistingOfUserId();
+        for (int i = 0; i < turns.size() * 2; i++) {
+            gameTurnEngine.updateTurnWhenPlayerTurnIsValidated(game.getId(), turns.get(i % turns.size()));
+        }
+        gameTurnEngine.release(game.getId());
+
+        //when
+        Assertions.assertThatThrownBy(() -> {
+            gameTurnEngine.updateTurnWhenPlayerTurnIsValidated(game.getId(), turns.get(0));
+        }).isInstanceOf(GameTurnEndException.class);
+        Thread.sleep(200);
+
+        //then
+        assertThat(redissonClient.getBucket("GameTurnOwner:{" + game.getId() + "}", StringCodec.INSTANCE).isExists())
+                .isFalse();
+        assertThat(gameTurnRepository.findGameTurnByGameId(game.getId()).getNowTurn()).isEqualTo(turns.size() * 2);
+    }
+}
@@ -3,6 +3,7 @@ package liar.gameservice.exception.advice;
 import liar.gameservice.exception.exception.BindingInvalidException;
 import liar.gameservice.exception.exception.NotExistsRefreshTokenException;
 import liar.gameservice.exception.exception.NotFoundUserException;
+import liar.gameservice.exception.exception.NotSatisfiedMinJoinMembers;
 import liar.gameservice.exception.type.ExceptionCode;
 import liar.gameservice.exception.type.ExceptionMessage;
 import lombok.extern.slf4j.Slf4j;
@@ -49,6 +50,16 @@ public class ExceptionControllerAdvice {
     }
 
 
+    /**
+     *  게임 인원 부족
+     */
+    @ResponseStatus(BAD_REQUEST)
+    @ExceptionHandler
+    public Mono<ResponseEntity<ErrorDto>> notSatisfiedMinJoinMembersHandler(NotSatisfiedMinJoinMembers e) {
+        return Mono.just(new ResponseEntity<>(new ErrorDto(e.getErrorCode(), e.getMessage()), BAD_REQUEST));
+    }
+
+
     /**
      *  공통 4XX 에러
      */
@@ -2,21 +2,26 @@ package liar.gameservice.game.controller;
 
 import jakarta.validation.Valid;
 import liar.gameservice.game.controller.dto.request.GameInfoRequest;
+import liar.gameservice.game.controller.dto.response.CustomBodyResponse;
+import liar.gameservice.game.service.SetGameInitService;
+import liar.gameservice.game.service.dto.SetUpGameDto;
+import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
-import org.springframework.web.reactive.function.server.ServerRequest;
-import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 @RestController
+@RequiredArgsConstructor
 public class SetGameInfoController {
 
-    @PostMapping("/game-service/start/game")
-    public Flux<ResponseEntity> setGameInfo(ServerRequest serverRequest,
-                                            @Valid @RequestBody GameInfoRequest gameInfoRequest) {
+    private final SetGameInitService setGameInitService;
 
-        return null;
+    @PostMapping("/game-service/start/game")
+    public Mono<ResponseEntity<CustomBodyResponse>> setGameInfo(@Valid @RequestBody GameInfoRequest gameInfoRequest) {
+        return setGameInitService.setUpGame(SetUpGameDto.of(gameInfoRequest))
+                .map(gameId -> ResponseEntity.ok().body(CustomBodyResponse.of(gameId)));
     }
 
 }
@@ -0,0 +1,32 @@
+package liar.gameservice.game.controller;
+
+import jakarta.validation.Valid;
+import liar.gameservice.game.controller.dto.request.SetUpGameRequest;
+import liar.gameservice.game.controller.dto.response.CustomBodyResponse;
+import liar.gameservice.game.service.SetGameInitService;
+import liar.gameservice.game.service.dto.SetUpGameDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/**
+ * game-mvc-service의 SetUpGameController와 같은 요청, 응답 형식으로 게임을 생성한다.
+ * 저장된 game은 game-mvc-service가 샤딩 없이 같은 redis 노드를 쓸 때에만 game-mvc-service에서 이어서 진행할 수 있다.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/game-service/game")
+public class SetUpGameController {
+
+    private final SetGameInitService setGameInitService;
+
+    @PostMapping("/setup")
+    public Mono<ResponseEntity<CustomBodyResponse>> setUpGame(@Valid @RequestBody SetUpGameRequest request) {
+        return setGameInitService.setUpGame(SetUpGameDto.of(request))
+                .map(gameId -> ResponseEntity.ok().body(CustomBodyResponse.of(gameId)));
+    }
+}
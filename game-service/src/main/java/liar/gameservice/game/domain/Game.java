@@ -1,5 +1,6 @@
 package liar.gameservice.game.domain;
 
+import liar.gameservice.game.service.dto.SetUpGameDto;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -23,6 +24,7 @@ public class Game {
     private String hostId;
     private String name;
     private Topic topic;
+    private String liarId;
     private List<String> playerIds = new ArrayList<>();
 
     @Builder
@@ -39,8 +41,24 @@ public class Game {
         this.topic = topic;
     }
 
+    public static Game of(SetUpGameDto setUpGameDto) {
+        Game game = Game.builder()
+                .roomId(setUpGameDto.getRoomId())
+                .hostId(setUpGameDto.getHostId())
+                .name(setUpGameDto.getRoomName())
+                .build();
+        setUpGameDto.getUserIds().forEach(game::addPlayer);
+        return game;
+    }
+
     public void addPlayer(String playerId) {
         playerIds.add(playerId);
     }
 
+    public Game updateTopicOfGame(Topic topic, String liarId) {
+        this.topic = topic;
+        this.liarId = liarId;
+        return this;
+    }
+
 }
@@ -18,12 +18,15 @@ public class JoinPlayer {
     @Id
     private String id;
 
-    private String roomId;
+    private String gameId;
     private Player player;
 
-    public JoinPlayer(String roomId, Player player) {
-        this.id = roomId + player.getUserId();
-        this.roomId = roomId;
+    /**
+     * game-mvc-service의 JoinPlayer와 같이 gameId로 구분하므로, 같은 방에서 새 게임을 시작해도 이전 게임의 역할을 덮어쓰지 않는다.
+     */
+    public JoinPlayer(String gameId, Player player) {
+        this.id = gameId + "_" + player.getUserId();
+        this.gameId = gameId;
         this.player = player;
     }
 }
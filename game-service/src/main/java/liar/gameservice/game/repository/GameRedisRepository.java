@@ -0,0 +1,114 @@
+package liar.gameservice.game.repository;
+
+import liar.gameservice.game.domain.Game;
+import liar.gameservice.game.domain.JoinPlayer;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * game-mvc-service의 GameRepository, JoinPlayerRepository와 같은 hash, keyspace, 인덱스 구조로 저장한다.
+ * Game:{gameId} hash와 Game keyspace,
+ * JoinPlayer:{gameId}_{userId} hash와 JoinPlayer keyspace, JoinPlayer:gameId:{gameId} 인덱스, JoinPlayer:{id}:idx
+ * 필드 이름은 game-mvc-service의 MappingRedisConverter 형식(gameName, topic.topicName, playerIds.[i] 등)을 따르므로,
+ * game-mvc-service가 findById, findByGameId로 그대로 읽을 수 있다.
+ * spring.data.redis 한 노드에 저장하므로, game-mvc-service가 game.redis.shards 없이 같은 노드를 쓸 때에만 호환된다.
+ */
+@Repository
+public class GameRedisRepository {
+
+    public static final String GAME_KEYSPACE = "Game";
+    public static final String JOIN_PLAYER_KEYSPACE = "JoinPlayer";
+
+    /**
+     * KEYS[1]: Game:{gameId}, KEYS[2]: Game keyspace
+     * ARGV[1]: gameId, ARGV[2..]: field, value
+     */
+    private static final RedisScript<Long> SAVE_GAME_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('DEL', KEYS[1]) " +
+            "redis.call('HSET', KEYS[1], unpack(ARGV, 2)) " +
+            "redis.call('SADD', KEYS[2], ARGV[1]) " +
+            "return 1", Long.class);
+
+    /**
+     * KEYS[1]: JoinPlayer keyspace
+     * 플레이어마다 KEYS: JoinPlayer:{id}, JoinPlayer:gameId:{gameId}, JoinPlayer:{id}:idx
+     * 플레이어마다 ARGV: id, gameId, userId, gameRole
+     */
+    private static final RedisScript<Long> SAVE_JOIN_PLAYERS_SCRIPT = new DefaultRedisScript<>(
+            "for i = 1, #ARGV / 4 do " +
+            "  local hash = KEYS[3 * i - 1] " +
+            "  local index = KEYS[3 * i] " +
+            "  local id = ARGV[4 * i - 3] " +
+            "  redis.call('DEL', hash) " +
+            "  redis.call('HSET', hash, 'id', id, 'gameId', ARGV[4 * i - 2], " +
+            "    'player.userId', ARGV[4 * i - 1], 'player.gameRole', ARGV[4 * i], 'version', '0') " +
+            "  redis.call('SADD', KEYS[1], id) " +
+            "  redis.call('SADD', index, id) " +
+            "  redis.call('SADD', KEYS[3 * i + 1], index) " +
+            "end " +
+            "return #ARGV / 4", Long.class);
+
+    private final ReactiveStringRedisTemplate reactiveStringRedisTemplate;
+
+    public GameRedisRepository(ReactiveStringRedisTemplate reactiveStringRedisTemplate) {
+        this.reactiveStringRedisTemplate = reactiveStringRedisTemplate;
+    }
+
+    public Mono<Boolean> saveGame(Game game) {
+        List<String> args = new ArrayList<>();
+        args.add(game.getId());
+        addField(args, "id", game.getId());
+        addField(args, "roomId", game.getRoomId());
+        addField(args, "hostId", game.getHostId());
+        addField(args, "gameName", game.getName());
+        for (int i = 0; i < game.getPlayerIds().size(); i++) {
+            addField(args, "playerIds.[" + i + "]", game.getPlayerIds().get(i));
+        }
+        addField(args, "liarId", game.getLiarId());
+        if (game.getTopic() != null) {
+            addField(args, "topic.id", game.getTopic().getId() == null ? null : String.valueOf(game.getTopic().getId()));
+            addField(args, "topic.topicName", game.getTopic().getName());
+        }
+        addField(args, "sendMessage", "0");
+        addField(args, "sendMessageSuccess", "0");
+        addField(args, "version", "0");
+
+        return reactiveStringRedisTemplate.execute(SAVE_GAME_SCRIPT,
+                        List.of(GAME_KEYSPACE + ":" + game.getId(), GAME_KEYSPACE), args)
+                .then(Mono.just(true));
+    }
+
+    /**
+     * 같은 게임의 JoinPlayer들을 script 1회로 저장한다.
+     */
+    public Mono<Boolean> saveJoinPlayers(List<JoinPlayer> joinPlayers) {
+        List<String> keys = new ArrayList<>();
+        List<String> args = new ArrayList<>();
+        keys.add(JOIN_PLAYER_KEYSPACE);
+        for (JoinPlayer joinPlayer : joinPlayers) {
+            String hash = JOIN_PLAYER_KEYSPACE + ":" + joinPlayer.getId();
+            keys.add(hash);
+            keys.add(JOIN_PLAYER_KEYSPACE + ":gameId:" + joinPlayer.getGameId());
+            keys.add(hash + ":idx");
+            args.add(joinPlayer.getId());
+            args.add(joinPlayer.getGameId());
+            args.add(joinPlayer.getPlayer().getUserId());
+            args.add(joinPlayer.getPlayer().getGameRole().name());
+        }
+
+        return reactiveStringRedisTemplate.execute(SAVE_JOIN_PLAYERS_SCRIPT, keys, args)
+                .then(Mono.just(true));
+    }
+
+    private void addField(List<String> args, String field, String value) {
+        if (value == null) return;
+        args.add(field);
+        args.add(value);
+    }
+}
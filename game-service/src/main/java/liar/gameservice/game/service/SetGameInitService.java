@@ -1,21 +1,55 @@
 package liar.gameservice.game.service;
 
+import liar.gameservice.exception.exception.NotSatisfiedMinJoinMembers;
 import liar.gameservice.game.domain.Game;
+import liar.gameservice.game.domain.GameRole;
 import liar.gameservice.game.domain.JoinPlayer;
 import liar.gameservice.game.domain.Topic;
+import liar.gameservice.game.repository.GameRedisRepository;
+import liar.gameservice.game.service.dto.SetUpGameDto;
 import liar.gameservice.game.service.policy.interfaces.SetJoinPlayerRolePolicy;
 import liar.gameservice.game.service.policy.interfaces.SetTopicPolicy;
 import lombok.RequiredArgsConstructor;
-import org.springframework.stereotype.Component;
 import org.springframework.stereotype.Service;
-import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class SetGameInitService {
 
     private final SetJoinPlayerRolePolicy setJoinPlayerRolePolicy;
     private final SetTopicPolicy setTopicPolicy;
+    private final GameRedisRepository gameRedisRepository;
+
+    /**
+     * 방장의 요청을 받아 game을 저장한다. (game-mvc-service의 /setup과 같은 결과)
+     * game과 역할은 game-mvc-service와 같은 hash, 인덱스 구조로 저장되며,
+     * game-mvc-service가 샤딩(game.redis.shards) 없이 같은 redis 노드를 쓸 때에만 그대로 이어서 진행할 수 있다.
+     * 플레이어 역할 저장과 topic 선택을 동시에 진행하고, 두 결과로 game을 완성하여 저장한다.
+     * 반환된 Mono가 완료되면 역할과 game이 모두 redis에 저장된 상태다.
+     * @param dto game 설정 정보
+     * @return gameId
+     */
+    public Mono<String> setUpGame(SetUpGameDto dto) {
+        if (dto.getUserIds() == null || dto.getUserIds().isEmpty()) {
+            return Mono.error(new NotSatisfiedMinJoinMembers());
+        }
+
+        Game game = Game.of(dto);
+        return Mono.zip(setJoinPlayerRolePolicy.setRoleToPlayer(game).collectList(), setTopicPolicy.setTopic())
+                .map(rolesAndTopic -> completeGame(game, rolesAndTopic.getT1(), rolesAndTopic.getT2()))
+                .flatMap(completeGame -> gameRedisRepository.saveGame(completeGame)
+                        .thenReturn(completeGame.getId()));
+    }
 
+    private Game completeGame(Game game, List<JoinPlayer> joinPlayers, Topic topic) {
+        String liarId = joinPlayers.stream()
+                .filter(joinPlayer -> joinPlayer.getPlayer().getGameRole() == GameRole.LIAR)
+                .map(joinPlayer -> joinPlayer.getPlayer().getUserId())
+                .findFirst()
+                .orElse(null);
+        return game.updateTopicOfGame(topic, liarId);
+    }
 }
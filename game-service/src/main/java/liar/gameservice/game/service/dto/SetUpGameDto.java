@@ -0,0 +1,29 @@
+package liar.gameservice.game.service.dto;
+
+import liar.gameservice.game.controller.dto.request.GameInfoRequest;
+import liar.gameservice.game.controller.dto.request.SetUpGameRequest;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SetUpGameDto {
+    private String roomId;
+    private String hostId;
+    private String roomName;
+    private List<String> userIds;
+
+    public static SetUpGameDto of(SetUpGameRequest request) {
+        return new SetUpGameDto(request.getRoomId(), request.getHostId(),
+                request.getRoomName(), request.getUserIds());
+    }
+
+    public static SetUpGameDto of(GameInfoRequest request) {
+        return new SetUpGameDto(request.getRoomId(), request.getHostId(),
+                request.getName(), request.getPlayers());
+    }
+}
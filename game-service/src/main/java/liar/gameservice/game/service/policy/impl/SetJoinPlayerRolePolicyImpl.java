@@ -1,21 +1,62 @@
 package liar.gameservice.game.service.policy.impl;
 
+import jakarta.annotation.PreDestroy;
 import liar.gameservice.game.domain.Game;
 import liar.gameservice.game.domain.GameRole;
 import liar.gameservice.game.domain.JoinPlayer;
 import liar.gameservice.game.domain.Player;
+import liar.gameservice.game.repository.GameRedisRepository;
 import liar.gameservice.game.service.policy.interfaces.SetJoinPlayerRolePolicy;
-import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
 import reactor.core.publisher.Flux;
-import reactor.core.scheduler.Schedulers;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.publisher.Sinks;
 
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Collectors;
+
+/**
+ * 게임의 모든 JoinPlayer를 batchSize 단위의 script 1회로 저장한다.
+ * JoinPlayer는 gameId로 구분되며, game-mvc-service와 같은 hash, 인덱스 구조로 저장된다. (GameRedisRepository)
+ * 모든 게임의 쓰기는 하나의 쓰기 큐를 거쳐 최대 maxConcurrency 개만 동시에 실행되고, 나머지는 큐에서 대기한다.
+ * 쓰기 큐는 queueCapacity 개로 제한되며, 큐가 가득 찼거나 종료된 뒤의 요청은 기다리지 않고 RejectedExecutionException으로 실패한다.
+ * 반환된 Flux는 게임의 모든 쓰기가 끝난 뒤에 JoinPlayer를 발행하므로, 완료되면 역할이 redis에 저장된 상태다.
+ */
 @Component
-@RequiredArgsConstructor
 public class SetJoinPlayerRolePolicyImpl implements SetJoinPlayerRolePolicy {
 
-    private final ReactiveRedisTemplate<String, JoinPlayer> reactiveRedisTemplate;
+    private final GameRedisRepository gameRedisRepository;
+    private final int batchSize;
+
+    private final Sinks.Many<RoleWrite> roleWrites;
+    private final Disposable roleWriter;
+
+    public SetJoinPlayerRolePolicyImpl(GameRedisRepository gameRedisRepository,
+                                       @Value("${game.role.write.batch-size:100}") int batchSize,
+                                       @Value("${game.role.write.max-concurrency:16}") int maxConcurrency,
+                                       @Value("${game.role.write.queue-capacity:1024}") int queueCapacity) {
+        this.gameRedisRepository = gameRedisRepository;
+        this.batchSize = batchSize;
+        this.roleWrites = Sinks.many().unicast().onBackpressureBuffer(new ArrayBlockingQueue<>(queueCapacity));
+        this.roleWriter = roleWrites.asFlux()
+                .flatMap(this::write, maxConcurrency)
+                .doOnDiscard(RoleWrite.class, roleWrite -> roleWrite.result.error(shutdownException()))
+                .subscribe();
+    }
+
+    /**
+     * 새 요청을 받지 않고, 큐에서 대기하거나 실행 중인 요청은 RejectedExecutionException으로 실패시킨다.
+     */
+    @PreDestroy
+    public void shutdown() {
+        roleWrites.tryEmitComplete();
+        roleWriter.dispose();
+    }
 
     @Override
     public void validateAuthenticationToSetRole() {
@@ -24,13 +65,69 @@ public class SetJoinPlayerRolePolicyImpl implements SetJoinPlayerRolePolicy {
 
     @Override
     public Flux<JoinPlayer> setRoleToPlayer(Game game) {
+        if (game.getPlayerIds().isEmpty()) return Flux.empty();
+        return Flux.defer(() -> {
+            List<JoinPlayer> joinPlayers = assignRoles(game);
+            return Flux.fromIterable(joinPlayers)
+                    .buffer(batchSize)
+                    .concatMap(this::submit)
+                    .thenMany(Flux.fromIterable(joinPlayers));
+        });
+    }
+
+    private List<JoinPlayer> assignRoles(Game game) {
         int random = (int) (Math.random() * game.getPlayerIds().size());
-        return Flux.fromIterable(game.getPlayerIds())
+        String liarId = game.getPlayerIds().get(random);
+        return game.getPlayerIds().stream()
                 .map(playerId -> {
-                    GameRole role = game.getPlayerIds().get(random).equals(playerId) ? GameRole.LIAR : GameRole.CITIZEN;
-                    JoinPlayer joinPlayer = new JoinPlayer(game.getRoomId(), new Player(playerId, role));
-                    reactiveRedisTemplate.opsForValue().set("JoinPlayer:" + joinPlayer.getId(), joinPlayer);
-                    return joinPlayer;
-                });
+                    GameRole role = liarId.equals(playerId) ? GameRole.LIAR : GameRole.CITIZEN;
+                    return new JoinPlayer(game.getId(), new Player(playerId, role));
+                })
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * batch를 쓰기 큐에 넣고, 저장이 끝나면 완료되는 Mono를 반환한다.
+     * 여러 스레드가 동시에 넣는 경우(FAIL_NON_SERIALIZED)에만 다시 시도하고, 큐가 가득 찼거나 종료되었다면 바로 실패한다.
+     */
+    private Mono<Boolean> submit(List<JoinPlayer> batch) {
+        return Mono.create(sink -> {
+            RoleWrite roleWrite = new RoleWrite(batch, sink);
+            Sinks.EmitResult result;
+            while ((result = roleWrites.tryEmitNext(roleWrite)) == Sinks.EmitResult.FAIL_NON_SERIALIZED) {
+                Thread.onSpinWait();
+            }
+            if (result == Sinks.EmitResult.FAIL_OVERFLOW) {
+                sink.error(new RejectedExecutionException("role write queue is full"));
+            }
+            else if (result.isFailure()) {
+                sink.error(shutdownException());
+            }
+        });
+    }
+
+    /**
+     * 한 batch의 실패가 쓰기 큐를 종료시키지 않도록, 에러는 요청한 게임에만 전달한다.
+     */
+    private Mono<Boolean> write(RoleWrite roleWrite) {
+        return gameRedisRepository.saveJoinPlayers(roleWrite.joinPlayers)
+                .doOnSuccess(roleWrite.result::success)
+                .doOnError(roleWrite.result::error)
+                .doOnCancel(() -> roleWrite.result.error(shutdownException()))
+                .onErrorResume(e -> Mono.empty());
+    }
+
+    private RejectedExecutionException shutdownException() {
+        return new RejectedExecutionException("role writer is shut down");
+    }
+
+    private static class RoleWrite {
+        private final List<JoinPlayer> joinPlayers;
+        private final MonoSink<Boolean> result;
+
+        private RoleWrite(List<JoinPlayer> joinPlayers, MonoSink<Boolean> result) {
+            this.joinPlayers = joinPlayers;
+            this.result = result;
+        }
     }
 }
@@ -5,29 +5,64 @@ import liar.gameservice.game.service.policy.interfaces.SetTopicPolicy;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 
-import java.util.Objects;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
 
+/**
+ * game-mvc-service의 TopicCatalog가 저장한 redis list(TopicCatalog)를 메모리 배열로 보관하여,
+ * 무작위 topic을 배열 인덱스 1회로 선택한다.
+ * refreshMillis 마다 TopicCatalog가 함께 저장한 version(TopicCatalog:version)을 확인하고,
+ * version이 바뀌었다면(topic이 추가, 수정, 삭제되었다면) list 전체를 다시 읽는다.
+ */
 @Component
 @RequiredArgsConstructor
 public class SetTopicPolicyImpl implements SetTopicPolicy {
 
+    private static final String CATALOG_KEY = "TopicCatalog";
+    private static final String VERSION_KEY = "TopicCatalog:version";
+
     private final ReactiveRedisTemplate<String, Topic> reactiveRedisTemplate;
+    private final ReactiveStringRedisTemplate reactiveStringRedisTemplate;
+
+    @Value("${game.topic.refresh-millis:60000}")
+    private long refreshMillis;
 
-    @Value("${topic.range}")
-    private long range;
+    private volatile Topic[] topics = new Topic[0];
+    private volatile String version = "";
+    private volatile long nextRefreshAt;
 
     @Override
     public Mono<Topic> setTopic() {
-        return Mono.just(generatorId())
-                .flatMap(topicId -> reactiveRedisTemplate.opsForValue().get("Topic:" + topicId))
-                .filter(Objects::nonNull)
+        return catalog()
+                .filter(catalog -> catalog.length > 0)
+                .map(catalog -> catalog[ThreadLocalRandom.current().nextInt(catalog.length)])
                 .switchIfEmpty(Mono.just(new Topic(1000L, "soccer")));
     }
 
-    private long generatorId() {
-        return ((long)(Math.random() * range)) + 1;
+    private Mono<Topic[]> catalog() {
+        Topic[] current = topics;
+        long now = System.currentTimeMillis();
+        if (current.length > 0 && now < nextRefreshAt) return Mono.just(current);
+        nextRefreshAt = now + refreshMillis;
+
+        String currentVersion = version;
+        return reactiveStringRedisTemplate.opsForValue().get(VERSION_KEY)
+                .defaultIfEmpty("")
+                .flatMap(latestVersion -> current.length > 0 && !latestVersion.isEmpty() && latestVersion.equals(currentVersion)
+                        ? Mono.just(current)
+                        : reactiveRedisTemplate.opsForList().range(CATALOG_KEY, 0, -1)
+                                .collectList()
+                                .map(reloaded -> replace(reloaded, latestVersion)))
+                .onErrorReturn(current);
+    }
+
+    private synchronized Topic[] replace(List<Topic> reloaded, String reloadedVersion) {
+        topics = reloaded.toArray(new Topic[0]);
+        version = reloadedVersion;
+        return topics;
     }
 }
@@ -0,0 +1,72 @@
+package liar.gameservice.game.service;
+
+import liar.gameservice.exception.exception.NotSatisfiedMinJoinMembers;
+import liar.gameservice.game.service.dto.SetUpGameDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import reactor.test.StepVerifier;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class SetGameInitServiceTest {
+
+    @Autowired
+    SetGameInitService setGameInitService;
+
+    @Autowired
+    ReactiveStringRedisTemplate stringRedisTemplate;
+
+    @Test
+    @DisplayName("게임을 생성하면, 완료 시점에 플레이어 역할과 topic, liar가 설정된 game이 game-mvc-service와 같은 구조로 저장되어 있다.")
+    public void setUpGame() throws Exception {
+        //given
+        List<String> userIds = Arrays.asList("1", "2", "3", "4", "5");
+        SetUpGameDto dto = new SetUpGameDto("roomId", "1", "roomName", userIds);
+
+        //when
+        String gameId = setGameInitService.setUpGame(dto).block();
+
+        //then
+        StepVerifier.create(stringRedisTemplate.<String, String>opsForHash().entries("Game:" + gameId).collectMap(Map.Entry::getKey, Map.Entry::getValue))
+                .assertNext(game -> {
+                    assertThat(game).containsEntry("id", gameId)
+                            .containsEntry("roomId", "roomId")
+                            .containsEntry("gameName", "roomName")
+                            .containsEntry("playerIds.[0]", "1")
+                            .containsEntry("playerIds.[4]", "5")
+                            .containsKey("topic.topicName");
+                    assertThat(userIds).contains(game.get("liarId"));
+                })
+                .verifyComplete();
+        StepVerifier.create(stringRedisTemplate.opsForSet().isMember("Game", gameId))
+                .expectNext(true)
+                .verifyComplete();
+
+        StepVerifier.create(stringRedisTemplate.<String, String>opsForHash().get("JoinPlayer:" + gameId + "_1", "player.userId"))
+                .expectNext("1")
+                .verifyComplete();
+        StepVerifier.create(stringRedisTemplate.opsForSet().size("JoinPlayer:gameId:" + gameId))
+                .expectNext(5L)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("플레이어가 없다면, NotSatisfiedMinJoinMembers 에러로 끝난다.")
+    public void setUpGame_noPlayers() throws Exception {
+        //given
+        SetUpGameDto dto = new SetUpGameDto("roomId", "1", "roomName", List.of());
+
+        //when //then
+        StepVerifier.create(setGameInitService.setUpGame(dto))
+                .expectError(NotSatisfiedMinJoinMembers.class)
+                .verify();
+    }
+}
@@ -1,16 +1,28 @@
 package liar.gameservice.game.service.policy.impl;
 
 import liar.gameservice.game.domain.*;
+import liar.gameservice.game.repository.GameRedisRepository;
 import liar.gameservice.game.service.policy.interfaces.SetJoinPlayerRolePolicy;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 @SpringBootTest
 class SetJoinPlayerRolePolicyImplTest {
@@ -21,6 +33,9 @@ class SetJoinPlayerRolePolicyImplTest {
     @Autowired
     ReactiveRedisTemplate<String, JoinPlayer> redisTemplate;
 
+    @Autowired
+    ReactiveStringRedisTemplate stringRedisTemplate;
+
     @Test
     @DisplayName("setRoleToPlayer 절차 지향 코드 테스트")
     public void setRoleToPlayer_step() throws Exception {
@@ -41,7 +56,7 @@ class SetJoinPlayerRolePolicyImplTest {
         Flux<JoinPlayer> joinPlayerFlux = Flux.fromIterable(game.getPlayerIds())
                 .map(playerId -> {
                     GameRole role = Objects.equals(game.getPlayerIds().get(random), playerId) ? GameRole.LIAR : GameRole.CITIZEN;
-                    JoinPlayer joinPlayer = new JoinPlayer(game.getRoomId(), new Player(playerId, role));
+                    JoinPlayer joinPlayer = new JoinPlayer(game.getId(), new Player(playerId, role));
                     redisTemplate.opsForValue().set("JoinPlayer:" + joinPlayer.getId(), joinPlayer);
                     return joinPlayer;
                 });
@@ -69,13 +84,132 @@ class SetJoinPlayerRolePolicyImplTest {
 
         //when
         Flux<JoinPlayer> joinPlayerFlux = setJoinPlayerRolePolicy.setRoleToPlayer(game);
-        joinPlayerFlux.subscribe(System.out::println);
 
         //then
-        StepVerifier.create(joinPlayerFlux)
-                .expectNextMatches(joinPlayer -> joinPlayer.getPlayer().getGameRole() == GameRole.LIAR)
-                .expectNextCount(1)
-                .expectComplete();
+        StepVerifier.create(joinPlayerFlux.collectList())
+                .assertNext(joinPlayers -> {
+                    assertThat(joinPlayers).hasSize(5);
+                    assertThat(joinPlayers).filteredOn(joinPlayer -> joinPlayer.getPlayer().getGameRole() == GameRole.LIAR)
+                            .hasSize(1);
+                })
+                .verifyComplete();
+
+        StepVerifier.create(stringRedisTemplate.opsForHash().entries("JoinPlayer:" + game.getId() + "_0").collectList())
+                .assertNext(fields -> assertThat(fields).isNotEmpty())
+                .verifyComplete();
+        StepVerifier.create(stringRedisTemplate.opsForSet().members("JoinPlayer:gameId:" + game.getId()).collectList())
+                .assertNext(ids -> assertThat(ids).hasSize(5).contains(game.getId() + "_0", game.getId() + "_4"))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("같은 방에서 게임을 다시 시작해도, 이전 게임의 역할은 덮어쓰지 않는다.")
+    public void setRoleToPlayer_sameRoom() throws Exception {
+        //given
+        Game first = createGame("sameRoom");
+        Game second = createGame("sameRoom");
+        setJoinPlayerRolePolicy.setRoleToPlayer(first).blockLast();
+
+        //when
+        setJoinPlayerRolePolicy.setRoleToPlayer(second).blockLast();
+
+        //then
+        StepVerifier.create(stringRedisTemplate.opsForHash().get("JoinPlayer:" + first.getId() + "_0", "gameId"))
+                .expectNext(first.getId())
+                .verifyComplete();
+        StepVerifier.create(stringRedisTemplate.opsForHash().get("JoinPlayer:" + second.getId() + "_0", "gameId"))
+                .expectNext(second.getId())
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("여러 게임의 역할을 동시에 저장해도, 완료 시점에 모든 게임의 역할이 redis에 저장되어 있다.")
+    public void setRoleToPlayer_concurrentGames() throws Exception {
+        //given
+        int gameCount = 100;
+        List<Game> games = IntStream.range(0, gameCount)
+                .mapToObj(i -> {
+                    Game game = Game.builder()
+                            .name("gameName")
+                            .roomId("concurrentRoom" + i)
+                            .hostId("roomHost")
+                            .build();
+                    for (int j = 0; j < 6; j++) {
+                        game.addPlayer(String.valueOf(j));
+                    }
+                    return game;
+                })
+                .collect(Collectors.toList());
+
+        //when
+        Mono<Long> written = Flux.fromIterable(games)
+                .flatMap(setJoinPlayerRolePolicy::setRoleToPlayer)
+                .count();
+
+        //then
+        StepVerifier.create(written)
+                .expectNext(gameCount * 6L)
+                .verifyComplete();
+
+        List<String> keys = games.stream()
+                .flatMap(game -> game.getPlayerIds().stream().map(playerId -> "JoinPlayer:" + game.getId() + "_" + playerId))
+                .collect(Collectors.toList());
+        StepVerifier.create(stringRedisTemplate.countExistingKeys(keys))
+                .expectNext((long) keys.size())
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("쓰기 큐가 가득 차면, 요청은 기다리지 않고 RejectedExecutionException으로 실패한다.")
+    public void setRoleToPlayer_queueFull() throws Exception {
+        //given
+        SetJoinPlayerRolePolicyImpl policy = new SetJoinPlayerRolePolicyImpl(neverCompletingRepository(), 100, 1, 1);
+        policy.setRoleToPlayer(createGame("fullRoom0")).subscribe();
+        policy.setRoleToPlayer(createGame("fullRoom1")).subscribe();
+
+        //when
+        Flux<JoinPlayer> rejected = policy.setRoleToPlayer(createGame("fullRoom2"));
+
+        //then
+        StepVerifier.create(rejected)
+                .expectError(RejectedExecutionException.class)
+                .verify();
+        policy.shutdown();
+    }
+
+    @Test
+    @DisplayName("종료된 뒤의 요청과 대기 중인 요청은 RejectedExecutionException으로 실패한다.")
+    public void setRoleToPlayer_afterShutdown() throws Exception {
+        //given
+        SetJoinPlayerRolePolicyImpl policy = new SetJoinPlayerRolePolicyImpl(neverCompletingRepository(), 100, 1, 1);
+        Mono<List<JoinPlayer>> inFlight = policy.setRoleToPlayer(createGame("shutdownRoom0")).collectList().cache();
+        inFlight.subscribe(joinPlayers -> {}, e -> {});
+
+        //when
+        policy.shutdown();
+
+        //then
+        StepVerifier.create(inFlight)
+                .expectError(RejectedExecutionException.class)
+                .verify();
+        StepVerifier.create(policy.setRoleToPlayer(createGame("shutdownRoom1")))
+                .expectError(RejectedExecutionException.class)
+                .verify();
+    }
 
+    private GameRedisRepository neverCompletingRepository() {
+        GameRedisRepository repository = mock(GameRedisRepository.class);
+        when(repository.saveJoinPlayers(anyList())).thenReturn(Mono.never());
+        return repository;
+    }
+
+    private Game createGame(String roomId) {
+        Game game = Game.builder()
+                .name("gameName")
+                .roomId(roomId)
+                .hostId("roomHost")
+                .build();
+        game.addPlayer("0");
+        return game;
     }
-}
\ No newline at end of file
+}
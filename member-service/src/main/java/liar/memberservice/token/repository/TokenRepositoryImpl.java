@@ -4,21 +4,32 @@ import liar.memberservice.token.domain.LogoutAccessToken;
 import liar.memberservice.token.domain.LogoutRefreshToken;
 import liar.memberservice.token.domain.RefreshToken;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 @Component
 @Transactional
 @RequiredArgsConstructor
 public class TokenRepositoryImpl implements TokenRepository {
 
+    private static final String LOGOUT_ACCESS_TOKEN_TOPIC = "LogoutAccessToken";
+
     private final LogoutAccessTokenRedisRepository logoutAccessTokenRedisRepository;
     private final LogoutRefreshTokenRedisRepository logoutRefreshTokenRedisRepository;
     private final RefreshTokenRedisRepository refreshTokenRedisRepository;
+    private final StringRedisTemplate stringRedisTemplate;
 
     @Override
     public void saveLogoutAccessToken(LogoutAccessToken logoutAccessToken) {
         logoutAccessTokenRedisRepository.save(logoutAccessToken);
+        publishLogoutAccessToken(logoutAccessToken.getId());
     }
 
     @Override
@@ -50,4 +61,16 @@ public class TokenRepositoryImpl implements TokenRepository {
     public void deleteRefreshTokenById(String token) {
         refreshTokenRedisRepository.deleteById(token);
     }
+
+    /**
+     * 다른 서비스가 캐시한 검증된 access token을 무효화하도록, token의 SHA-256 digest를 발행한다.
+     */
+    private void publishLogoutAccessToken(String accessToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(accessToken.getBytes(UTF_8));
+            stringRedisTemplate.convertAndSend(LOGOUT_ACCESS_TOKEN_TOPIC, HexFormat.of().formatHex(digest));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 }
@@ -10,8 +10,8 @@ import org.springframework.context.annotation.EnableAspectJAutoProxy;
 public class RedisAopConfig {
 
     @Bean
-    public RedisLockAspect redisLockAspect(RedissonClient redissonClient) {
-        return new RedisLockAspect(redissonClient);
+    public RedisLockAspect redisLockAspect(RedissonClient redissonClient, RedisLockMetrics redisLockMetrics) {
+        return new RedisLockAspect(redissonClient, redisLockMetrics);
     }
 
 
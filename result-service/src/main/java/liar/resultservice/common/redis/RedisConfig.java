@@ -9,6 +9,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
@@ -43,6 +44,9 @@ public class RedisConfig {
     @Value("${spring.data.redis.port}")
     private int port;
 
+    @Value("${jwt.cache.invalidation-address:redis://localhost:6379}")
+    private String authRedisAddress;
+
     @Bean
     public RedisConnectionFactory redisConnectionFactory() {
         return new LettuceConnectionFactory(host, port);
@@ -83,10 +87,21 @@ public class RedisConfig {
         return builder.build();
     }
 
+    @Primary
     @Bean
     public RedissonClient redissonClient() {
         Config config = new Config();
         config.useSingleServer().setAddress("redis://localhost:6381");
         return Redisson.create(config);
     }
+
+    /**
+     * member-service가 로그아웃된 access token을 발행하는 인증 redis의 client
+     */
+    @Bean(destroyMethod = "shutdown")
+    public RedissonClient authRedissonClient() {
+        Config config = new Config();
+        config.useSingleServer().setAddress(authRedisAddress);
+        return Redisson.create(config);
+    }
 }
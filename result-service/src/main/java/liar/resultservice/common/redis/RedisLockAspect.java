@@ -26,6 +26,7 @@ import java.util.concurrent.TimeUnit;
 public class RedisLockAspect {
 
     private final RedissonClient redissonClient;
+    private final RedisLockMetrics redisLockMetrics;
 
     @Around(
 //            "execution(* liar.resultservice.result.repository.PlayerRepository.save(..)) || " +
@@ -37,11 +38,13 @@ public class RedisLockAspect {
         Method method = signature.getMethod();
         Class<?> returnType = method.getReturnType();
 
-        String lockKey = getLockKey(joinPoint.getArgs());
+        String lockKey = method.getName() + ":" + getLockKey(joinPoint.getArgs());
         RLock lock = redissonClient.getLock(lockKey);
+        RedisLockMetrics.LockSample lockSample = redisLockMetrics.start(lockKey);
 
         try{
             boolean isLocked = lock.tryLock(10, 12, TimeUnit.SECONDS);
+            lockSample.acquired(isLocked);
             if (!isLocked) {
                 throw new RedisLockException();
             }
@@ -52,6 +55,7 @@ public class RedisLockAspect {
             if (lock.isHeldByCurrentThread()) {
                 lock.unlock();
             }
+            lockSample.finish();
         }
     }
 //
@@ -71,9 +75,11 @@ public class RedisLockAspect {
 
     public Object executeWithRedisLock(ProceedingJoinPoint joinPoint, String lockKey) throws Throwable {
         RLock lock = redissonClient.getLock(lockKey);
+        RedisLockMetrics.LockSample lockSample = redisLockMetrics.start(lockKey);
 
         try {
             boolean isLocked = lock.tryLock(20, 3, TimeUnit.SECONDS);
+            lockSample.acquired(isLocked);
             if (!isLocked) {
                 throw new RedisLockException();
             }
@@ -86,6 +92,7 @@ public class RedisLockAspect {
                 lock.unlock();
                 log.info("lockKey = {} 락 반환", lockKey);
             }
+            lockSample.finish();
         }
     }
 
@@ -0,0 +1,62 @@
+package liar.resultservice.common.token.domain;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 검증된 access token으로 만든 변경 불가능한 Authentication
+ * VerifiedTokenCache에 보관되어 여러 요청이 공유하므로, 인증 여부와 details를 변경할 수 없다.
+ */
+public final class VerifiedAuthentication implements Authentication {
+
+    private final User principal;
+    private final String credentials;
+    private final List<GrantedAuthority> authorities;
+
+    public VerifiedAuthentication(User principal, String credentials, Collection<? extends GrantedAuthority> authorities) {
+        this.principal = principal;
+        this.credentials = credentials;
+        this.authorities = List.copyOf(authorities);
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public Object getCredentials() {
+        return credentials;
+    }
+
+    @Override
+    public Object getDetails() {
+        return null;
+    }
+
+    @Override
+    public Object getPrincipal() {
+        return principal;
+    }
+
+    @Override
+    public boolean isAuthenticated() {
+        return true;
+    }
+
+    @Override
+    public void setAuthenticated(boolean isAuthenticated) throws IllegalArgumentException {
+        if (!isAuthenticated) {
+            throw new IllegalArgumentException("검증된 token의 인증 정보는 변경할 수 없습니다.");
+        }
+    }
+
+    @Override
+    public String getName() {
+        return principal.getUsername();
+    }
+}
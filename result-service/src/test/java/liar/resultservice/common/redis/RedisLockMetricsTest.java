@@ -0,0 +1,69 @@
+package liar.resultservice.common.redis;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RedisLockMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private RedisLockMetrics redisLockMetrics;
+
+    @BeforeEach
+    public void init() {
+        meterRegistry = new SimpleMeterRegistry();
+        redisLockMetrics = new RedisLockMetrics(meterRegistry, 2);
+    }
+
+    @Test
+    @DisplayName("lockKey의 접두사 별로 대기 시간, 보유 시간, 타임아웃을 기록한다.")
+    public void recordByFamily() throws Exception {
+        //when
+        RedisLockMetrics.LockSample acquired = redisLockMetrics.start("VoteLiarUser: 1");
+        acquired.acquired(true);
+        acquired.finish();
+
+        RedisLockMetrics.LockSample timeout = redisLockMetrics.start("VoteLiarUser: 1");
+        timeout.acquired(false);
+        timeout.finish();
+
+        //then
+        assertThat(meterRegistry.get("redis.lock.acquire").tag("family", "VoteLiarUser")
+                .tag("result", "acquired").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("redis.lock.hold").tag("family", "VoteLiarUser").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("redis.lock.timeout").tag("family", "VoteLiarUser").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("redis.lock.waiters").tag("family", "VoteLiarUser").gauge().value()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("경합 통계는 maxKeys 개까지만 보관한다.")
+    public void topContendedKeys() throws Exception {
+        //when
+        for (String lockKey : List.of("addMembers: 1", "addMembers: 2", "addMembers: 3")) {
+            redisLockMetrics.start(lockKey).acquired(true);
+        }
+
+        //then
+        List<RedisLockMetrics.KeyStatDto> topContendedKeys = redisLockMetrics.getTopContendedKeys(10);
+        assertThat(topContendedKeys).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("tryLock이 예외로 끝나 획득 결과가 없다면, 대기 스레드 수만 되돌린다.")
+    public void finishWithoutAcquire() throws Exception {
+        //when
+        RedisLockMetrics.LockSample interrupted = redisLockMetrics.start("VoteLiarUser: 1");
+        interrupted.finish();
+        interrupted.finish();
+
+        //then
+        assertThat(meterRegistry.get("redis.lock.waiters").tag("family", "VoteLiarUser").gauge().value()).isEqualTo(0);
+        assertThat(meterRegistry.find("redis.lock.acquire").timer()).isNull();
+        assertThat(meterRegistry.find("redis.lock.hold").timer()).isNull();
+    }
+}
@@ -0,0 +1,72 @@
+package liar.resultservice.common.token.domain;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * member-service와 같은 방식(인증 redis의 StringRedisTemplate)으로 발행한 로그아웃 digest가
+ * 이 서비스의 VerifiedTokenCache까지 전달되는지 확인한다.
+ */
+@SpringBootTest
+class VerifiedTokenCacheInvalidationTest {
+
+    @Autowired
+    VerifiedTokenCache verifiedTokenCache;
+
+    private LettuceConnectionFactory authConnectionFactory;
+    private StringRedisTemplate authRedisTemplate;
+    private AtomicInteger verifyCnt;
+
+    @BeforeEach
+    public void init() {
+        authConnectionFactory = new LettuceConnectionFactory("localhost", 6379);
+        authConnectionFactory.afterPropertiesSet();
+        authRedisTemplate = new StringRedisTemplate(authConnectionFactory);
+        verifyCnt = new AtomicInteger();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        authConnectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("인증 redis에 로그아웃 digest가 발행되면, 캐시된 token을 다시 검증한다.")
+    public void logoutAccessToken_evicted() throws Exception {
+        //given
+        String accessToken = "logout-token-" + System.nanoTime();
+        verifiedTokenCache.get(accessToken, this::verify);
+
+        //when
+        authRedisTemplate.convertAndSend(VerifiedTokenCache.INVALIDATION_TOPIC, VerifiedTokenCache.digest(accessToken));
+
+        //then
+        long deadline = System.currentTimeMillis() + 5000;
+        while (verifyCnt.get() < 2 && System.currentTimeMillis() < deadline) {
+            verifiedTokenCache.get(accessToken, this::verify);
+            Thread.sleep(50);
+        }
+        assertThat(verifyCnt.get()).isEqualTo(2);
+    }
+
+    private VerifiedTokenCache.VerifiedToken verify(String token) {
+        verifyCnt.incrementAndGet();
+        List<SimpleGrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+        return new VerifiedTokenCache.VerifiedToken(
+                new VerifiedAuthentication(new User(token, "", authorities), token, authorities),
+                System.currentTimeMillis() + 60000);
+    }
+}
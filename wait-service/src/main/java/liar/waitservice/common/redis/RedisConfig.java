@@ -2,19 +2,24 @@ package liar.waitservice.common.redis;
 
 import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.PersistenceUnit;
+import liar.waitservice.common.redis.codec.JoinMemberCodec;
+import liar.waitservice.common.redis.codec.WaitRoomCodec;
 import org.redisson.Redisson;
 import org.redisson.api.RedissonClient;
 import org.redisson.config.Config;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.HashOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.convert.RedisCustomConversions;
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
@@ -24,6 +29,7 @@ import org.springframework.transaction.PlatformTransactionManager;
 
 import java.sql.SQLException;
 import java.time.Duration;
+import java.util.Arrays;
 
 import static org.springframework.data.redis.cache.RedisCacheConfiguration.defaultCacheConfig;
 import static org.springframework.data.redis.cache.RedisCacheManager.RedisCacheManagerBuilder.fromConnectionFactory;
@@ -43,6 +49,9 @@ public class RedisConfig {
     @Value("${spring.data.redis.port}")
     private int port;
 
+    @Value("${jwt.cache.invalidation-address:redis://localhost:6379}")
+    private String authRedisAddress;
+
     @Bean
     public RedisConnectionFactory redisConnectionFactory() {
         return new LettuceConnectionFactory(host, port);
@@ -61,6 +70,19 @@ public class RedisConfig {
         return redisTemplate;
     }
 
+    /**
+     * wait.redis.codec=compact 라면 WaitRoom, JoinMember를 MappingRedisConverter의 필드 매핑 대신
+     * schema version이 있는 binary 값 하나(_raw)로 저장한다. 기존 형식의 key도 그대로 읽는다.
+     * @EnableRedisRepositories가 기본 conversions를 등록하기 전에 등록되도록 이 설정 클래스에 둔다.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "wait.redis.codec", havingValue = "compact")
+    public RedisCustomConversions redisCustomConversions() {
+        return new RedisCustomConversions(Arrays.asList(
+                new WaitRoomCodec.Writer(), new WaitRoomCodec.Reader(),
+                new JoinMemberCodec.Writer(), new JoinMemberCodec.Reader()));
+    }
+
     @Bean
     public HashOperations hashOperations(RedisTemplate redisTemplate) {
         return redisTemplate.opsForHash();
@@ -84,6 +106,7 @@ public class RedisConfig {
     }
 
 
+    @Primary
     @Bean
     public RedissonClient redissonClient() {
         Config config = new Config();
@@ -91,4 +114,14 @@ public class RedisConfig {
         return Redisson.create(config);
     }
 
+    /**
+     * member-service가 로그아웃된 access token을 발행하는 인증 redis의 client
+     */
+    @Bean(destroyMethod = "shutdown")
+    public RedissonClient authRedissonClient() {
+        Config config = new Config();
+        config.useSingleServer().setAddress(authRedisAddress);
+        return Redisson.create(config);
+    }
+
 }
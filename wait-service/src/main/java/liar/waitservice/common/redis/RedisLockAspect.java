@@ -27,6 +27,7 @@ import java.util.concurrent.TimeUnit;
 public class RedisLockAspect {
 
     private final RedissonClient redissonClient;
+    private final RedisLockMetrics redisLockMetrics;
 
     @Around("execution(* liar.waitservice.wait.service.WaitRoomFacadeService.saveWaitRoomByHost(..)) && args(createWaitRoomDto)")
     public String saveWaitRoomByHostWithRedisLock(ProceedingJoinPoint joinPoint, CreateWaitRoomDto createWaitRoomDto) throws Throwable {
@@ -54,9 +55,11 @@ public class RedisLockAspect {
 
     public Object executeWithRedisLock(ProceedingJoinPoint joinPoint, String lockKey) throws Throwable {
         RLock lock = redissonClient.getLock(lockKey);
+        RedisLockMetrics.LockSample lockSample = redisLockMetrics.start(lockKey);
 
         try {
             boolean isLocked = lock.tryLock(30, TimeUnit.SECONDS);
+            lockSample.acquired(isLocked);
             if (!isLocked) {
                 throw new RedisLockException();
             }
@@ -66,6 +69,7 @@ public class RedisLockAspect {
             if (lock.isHeldByCurrentThread()) {
                 lock.unlock();
             }
+            lockSample.finish();
         }
     }
 
@@ -0,0 +1,62 @@
+package liar.waitservice.common.redis.codec;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * @RedisHash 엔티티를 reflection 없이 하나의 binary 값으로 인코딩하는 codec
+ * [magic][schemaVersion][필드...] 형식으로 redis hash의 "_raw" 필드 하나에 저장된다.
+ * 저장된 schemaVersion으로 읽으므로 필드를 추가해도 이전 값을 읽을 수 있고,
+ * "_raw" 필드가 없는 기존 key는 MappingRedisConverter 형식(LegacyHash)으로 읽는다.
+ */
+public abstract class CompactCodec<T> {
+
+    public static final String RAW_FIELD = "_raw";
+
+    private static final int MAGIC = 0xC7;
+
+    protected abstract int schemaVersion();
+
+    protected abstract void write(T entity, CompactOutput out);
+
+    /**
+     * fields는 "_raw" 외에 lua script 등이 직접 쓴 hash 필드이다.
+     */
+    protected abstract T read(CompactInput in, int schemaVersion, LegacyHash fields);
+
+    /**
+     * MappingRedisConverter로 저장된 기존 hash를 읽는다.
+     */
+    protected abstract T readLegacy(LegacyHash fields);
+
+    public byte[] encode(T entity) {
+        CompactOutput out = new CompactOutput(128);
+        out.writeByte(MAGIC);
+        out.writeByte(schemaVersion());
+        write(entity, out);
+        return out.toByteArray();
+    }
+
+    public T decode(byte[] bytes) {
+        return decode(bytes, new LegacyHash(Collections.emptyMap()));
+    }
+
+    /**
+     * redis hash 전체를 받아, "_raw" 필드가 있다면 binary로, 없다면 기존 형식으로 읽는다.
+     */
+    public T decode(Map<String, byte[]> hash) {
+        LegacyHash fields = new LegacyHash(hash);
+        byte[] raw = hash.get(RAW_FIELD);
+        return raw == null ? readLegacy(fields) : decode(raw, fields);
+    }
+
+    private T decode(byte[] bytes, LegacyHash fields) {
+        CompactInput in = new CompactInput(bytes);
+        if ((in.readByte() & 0xFF) != MAGIC) throw new IllegalStateException("not a compact entity");
+        int version = in.readByte() & 0xFF;
+        if (version < 1 || version > schemaVersion()) {
+            throw new IllegalStateException("unsupported schema version: " + version);
+        }
+        return read(in, version, fields);
+    }
+}
@@ -0,0 +1,54 @@
+package liar.waitservice.common.redis.codec;
+
+import liar.waitservice.wait.domain.JoinMember;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+import org.springframework.data.convert.WritingConverter;
+
+import java.util.Map;
+
+/**
+ * JoinMember compact codec (schema 1)
+ * id(userId), roomId
+ */
+public class JoinMemberCodec extends CompactCodec<JoinMember> {
+
+    public static final JoinMemberCodec INSTANCE = new JoinMemberCodec();
+
+    @Override
+    protected int schemaVersion() {
+        return 1;
+    }
+
+    @Override
+    protected void write(JoinMember joinMember, CompactOutput out) {
+        out.writeString(joinMember.getId());
+        out.writeString(joinMember.getRoomId());
+    }
+
+    @Override
+    protected JoinMember read(CompactInput in, int schemaVersion, LegacyHash fields) {
+        return new JoinMember(in.readString(), in.readString());
+    }
+
+    @Override
+    protected JoinMember readLegacy(LegacyHash fields) {
+        return new JoinMember(fields.getString("id"), fields.getString("roomId"));
+    }
+
+    @WritingConverter
+    public static class Writer implements Converter<JoinMember, byte[]> {
+        @Override
+        public byte[] convert(JoinMember source) {
+            return INSTANCE.encode(source);
+        }
+    }
+
+    @ReadingConverter
+    public static class Reader implements Converter<Map<String, byte[]>, JoinMember> {
+        @Override
+        public JoinMember convert(Map<String, byte[]> source) {
+            return INSTANCE.decode(source);
+        }
+    }
+}
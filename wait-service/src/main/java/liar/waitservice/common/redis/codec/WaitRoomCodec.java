@@ -0,0 +1,72 @@
+package liar.waitservice.common.redis.codec;
+
+import liar.waitservice.wait.domain.WaitRoom;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+import org.springframework.data.convert.WritingConverter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * WaitRoom compact codec (schema 1)
+ * id, roomName, hostId, hostName, limitMembers, waiting, members, createdAt, modifiedAt
+ */
+public class WaitRoomCodec extends CompactCodec<WaitRoom> {
+
+    public static final WaitRoomCodec INSTANCE = new WaitRoomCodec();
+
+    @Override
+    protected int schemaVersion() {
+        return 1;
+    }
+
+    @Override
+    protected void write(WaitRoom waitRoom, CompactOutput out) {
+        out.writeString(waitRoom.getId());
+        out.writeString(waitRoom.getRoomName());
+        out.writeString(waitRoom.getHostId());
+        out.writeString(waitRoom.getHostName());
+        out.writeVarInt(waitRoom.getLimitMembers());
+        out.writeBoolean(waitRoom.isWaiting());
+        out.writeStringList(waitRoom.getMembers());
+        out.writeLocalDateTime(waitRoom.getCreatedAt());
+        out.writeLocalDateTime(waitRoom.getModifiedAt());
+    }
+
+    @Override
+    protected WaitRoom read(CompactInput in, int schemaVersion, LegacyHash fields) {
+        return new WaitRoom(in.readString(), in.readString(), in.readString(), in.readString(),
+                in.readVarInt(), in.readBoolean(), toMembers(in.readStringList()),
+                in.readLocalDateTime(), in.readLocalDateTime());
+    }
+
+    @Override
+    protected WaitRoom readLegacy(LegacyHash fields) {
+        return new WaitRoom(fields.getString("id"), fields.getString("roomName"), fields.getString("hostId"),
+                fields.getString("hostName"), fields.getInt("limitMembers"), fields.getBoolean("waiting"),
+                toMembers(fields.getStringList("members")),
+                fields.getLocalDateTime("createdAt"), fields.getLocalDateTime("modifiedAt"));
+    }
+
+    private List<String> toMembers(List<String> members) {
+        return members == null ? new CopyOnWriteArrayList<>() : new CopyOnWriteArrayList<>(members);
+    }
+
+    @WritingConverter
+    public static class Writer implements Converter<WaitRoom, byte[]> {
+        @Override
+        public byte[] convert(WaitRoom source) {
+            return INSTANCE.encode(source);
+        }
+    }
+
+    @ReadingConverter
+    public static class Reader implements Converter<Map<String, byte[]>, WaitRoom> {
+        @Override
+        public WaitRoom convert(Map<String, byte[]> source) {
+            return INSTANCE.decode(source);
+        }
+    }
+}
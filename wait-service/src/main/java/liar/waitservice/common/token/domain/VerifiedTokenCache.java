@@ -0,0 +1,135 @@
+package liar.waitservice.common.token.domain;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * 검증을 마친 access token의 Authentication을 token digest(SHA-256) 별로 보관한다.
+ * 항목은 token의 만료 시각(exp)과 ttl 중 빠른 시각에 만료되며, 크기는 maxSize로 제한된다.
+ * 로그아웃된 token은 member-service가 redis pub/sub(LogoutAccessToken)으로 보낸 digest로 모든 노드에서 무효화한다.
+ * pub/sub 채널은 redis 서버마다 따로 있으므로, member-service가 발행하는 인증 redis(authRedissonClient)를 구독한다.
+ */
+@Slf4j
+@Component
+public class VerifiedTokenCache {
+
+    public static final String INVALIDATION_TOPIC = "LogoutAccessToken";
+
+    private final boolean enabled;
+    private final Cache<String, VerifiedToken> cache;
+    private final RTopic invalidationTopic;
+    private int listenerId;
+
+    public VerifiedTokenCache(@Qualifier("authRedissonClient") RedissonClient authRedissonClient,
+                              MeterRegistry meterRegistry,
+                              @Value("${jwt.cache.enabled:true}") boolean enabled,
+                              @Value("${jwt.cache.max-size:10000}") long maxSize,
+                              @Value("${jwt.cache.ttl-seconds:300}") long ttlSeconds) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new TokenExpiry(TimeUnit.SECONDS.toNanos(ttlSeconds)))
+                .recordStats()
+                .build();
+        this.invalidationTopic = authRedissonClient.getTopic(INVALIDATION_TOPIC, StringCodec.INSTANCE);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "verifiedToken");
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerId = invalidationTopic.addListener(String.class, (channel, digest) -> cache.invalidate(digest));
+    }
+
+    @PreDestroy
+    public void unsubscribe() {
+        invalidationTopic.removeListener(listenerId);
+    }
+
+    /**
+     * 캐시에 없다면 verifier로 token을 검증하여 저장한다.
+     * verifier가 예외를 던지면(잘못된, 만료된 token) 저장하지 않는다.
+     */
+    public Authentication get(String token, Function<String, VerifiedToken> verifier) {
+        if (!enabled || token == null) return verifier.apply(token).getAuthentication();
+        return cache.get(digest(token), key -> verifier.apply(token)).getAuthentication();
+    }
+
+    /**
+     * 현재 노드의 캐시를 비우고, 다른 노드에 무효화 메시지를 보낸다.
+     */
+    public void invalidate(String token) {
+        String digest = digest(token);
+        cache.invalidate(digest);
+        try {
+            invalidationTopic.publish(digest);
+        } catch (RuntimeException e) {
+            log.warn("verified token invalidation publish failed", e);
+        }
+    }
+
+    public static String digest(String token) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(token.getBytes(UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class VerifiedToken {
+        private Authentication authentication;
+        private long expiresAtMillis;
+    }
+
+    /**
+     * token의 만료 시각과 ttl 중 빠른 시각에 항목을 만료시킨다.
+     */
+    private static class TokenExpiry implements Expiry<String, VerifiedToken> {
+
+        private final long ttlNanos;
+
+        private TokenExpiry(long ttlNanos) {
+            this.ttlNanos = ttlNanos;
+        }
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            long remainingMillis = Math.max(value.getExpiresAtMillis() - System.currentTimeMillis(), 0);
+            return Math.min(ttlNanos, TimeUnit.MILLISECONDS.toNanos(remainingMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
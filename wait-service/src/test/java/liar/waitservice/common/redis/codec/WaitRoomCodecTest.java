@@ -0,0 +1,62 @@
+package liar.waitservice.common.redis.codec;
+
+import liar.waitservice.wait.controller.dto.CreateWaitRoomDto;
+import liar.waitservice.wait.domain.JoinMember;
+import liar.waitservice.wait.domain.WaitRoom;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.convert.MappingRedisConverter;
+import org.springframework.data.redis.core.convert.RedisData;
+import org.springframework.data.redis.core.mapping.RedisMappingContext;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WaitRoomCodecTest {
+
+    private MappingRedisConverter mappingRedisConverter;
+    private WaitRoom waitRoom;
+
+    @BeforeEach
+    public void init() {
+        mappingRedisConverter = new MappingRedisConverter(new RedisMappingContext());
+        mappingRedisConverter.afterPropertiesSet();
+        waitRoom = WaitRoom.of(new CreateWaitRoomDto("host", "방", 5), "호스트");
+        waitRoom.joinMembers("user1");
+        waitRoom.joinMembers("user2");
+    }
+
+    @Test
+    @DisplayName("WaitRoom을 binary로 인코딩하고 같은 값으로 디코딩한다.")
+    public void waitRoom_roundTrip() throws Exception {
+        //when
+        WaitRoom decoded = WaitRoomCodec.INSTANCE.decode(WaitRoomCodec.INSTANCE.encode(waitRoom));
+
+        //then
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(waitRoom);
+        assertThat(decoded.joinMembers("user3")).isTrue();
+    }
+
+    @Test
+    @DisplayName("MappingRedisConverter로 저장된 기존 hash를 읽는다.")
+    public void readLegacy() throws Exception {
+        //given
+        JoinMember joinMember = JoinMember.of("user1", waitRoom.getId());
+
+        //when
+        WaitRoom legacyWaitRoom = WaitRoomCodec.INSTANCE.decode(mappedHash(waitRoom));
+        JoinMember legacyJoinMember = JoinMemberCodec.INSTANCE.decode(mappedHash(joinMember));
+
+        //then
+        assertThat(legacyWaitRoom).usingRecursiveComparison().isEqualTo(waitRoom);
+        assertThat(legacyJoinMember).usingRecursiveComparison().isEqualTo(joinMember);
+    }
+
+    private Map<String, byte[]> mappedHash(Object entity) {
+        RedisData redisData = new RedisData();
+        mappingRedisConverter.write(entity, redisData);
+        return redisData.getBucket().rawMap();
+    }
+}